@@ -0,0 +1,18 @@
+@echo off
+chcp 65001
+rem JMH 벤치마크 - lib\jmh 폴더에 jmh-core, jmh-generator-annprocess, jopt-simple, commons-math3 jar 필요
+rem 사용 예: bench.bat RepositoryBenchmark -p size=1000,100000 -t 4
+rem 스레드 수별 비교: bench.bat sweep RentalServiceBenchmark -p size=100000 (1/2/4/8/16 스레드, 결과는 bench-t*.csv)
+if not exist bin-bench mkdir bin-bench
+dir /s /b bookrental\src\*.java bookrental\bench\*.java > bench-sources.txt
+javac -d bin-bench -encoding UTF-8 -cp "lib\jmh\*" @bench-sources.txt
+if /i "%1"=="sweep" goto sweep
+java -cp "bin-bench;lib\jmh\*" org.openjdk.jmh.Main %*
+pause
+goto :eof
+
+:sweep
+set BENCH_ARGS=%*
+set BENCH_ARGS=%BENCH_ARGS:*sweep=%
+for %%t in (1 2 4 8 16) do java -cp "bin-bench;lib\jmh\*" org.openjdk.jmh.Main %BENCH_ARGS% -t %%t -rf csv -rff bench-t%%t.csv
+pause
@@ -0,0 +1,26 @@
+package io.github.bookrentalteam.bookrental.bench;
+
+/** 벤치마크용 더미 데이터 */
+final class BenchData {
+
+	// 검색어 후보 (제목/저자 일부)
+	static final String[] KEYWORDS = { "자바", "스프링", "정석", "저자 12", "토비", "Vol", "97889", "없는검색어" };
+
+	private static final String[] TITLES = { "자바의 정석", "토비의 스프링 Vol.", "이펙티브 자바", "클린 코드", "모던 자바 인 액션",
+			"오브젝트", "객체지향의 사실과 오해", "Real MySQL" };
+
+	private BenchData() {
+	}
+
+	static String isbn(int i) {
+		return String.format("978-89-%07d", i);
+	}
+
+	static String title(int i) {
+		return TITLES[i % TITLES.length] + " " + i;
+	}
+
+	static String author(int i) {
+		return "저자 " + (i % 1000);
+	}
+}
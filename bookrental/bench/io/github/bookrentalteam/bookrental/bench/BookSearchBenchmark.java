@@ -0,0 +1,62 @@
+package io.github.bookrentalteam.bookrental.bench;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.bookrentalteam.bookrental.domain.Book;
+import io.github.bookrentalteam.bookrental.event.EventBus;
+import io.github.bookrentalteam.bookrental.repository.impl.InMemoryBookRepository;
+import io.github.bookrentalteam.bookrental.service.impl.BookServiceImpl;
+
+/**
+ * 도서 검색 벤치마크 - BookServiceImpl.searchBooks (전체 결과 / 상위 20건)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx8g" })
+public class BookSearchBenchmark {
+
+	@Param({ "1000", "100000", "1000000", "10000000" })
+	public int size;
+
+	private BookServiceImpl bookService;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		bookService = new BookServiceImpl(new InMemoryBookRepository(), new EventBus()); // 구독자 없음
+		for (int i = 0; i < size; i++) {
+			bookService.registerBook(BenchData.isbn(i), BenchData.title(i), BenchData.author(i), 3);
+		}
+	}
+
+	@Benchmark
+	public List<Book> searchAll() {
+		return bookService.searchBooks(keyword());
+	}
+
+	@Benchmark
+	public List<Book> searchTop20() {
+		return bookService.searchBooks(keyword(), 20);
+	}
+
+	private static String keyword() {
+		return BenchData.KEYWORDS[ThreadLocalRandom.current().nextInt(BenchData.KEYWORDS.length)];
+	}
+}
@@ -0,0 +1,141 @@
+package io.github.bookrentalteam.bookrental.bench;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.bookrentalteam.bookrental.domain.Book;
+import io.github.bookrentalteam.bookrental.repository.mapped.MappedBookRepository;
+
+/**
+ * 메모리 매핑 도서 저장소 벤치마크 - findByIsbn / 재고 차감·복원 / 다시 열기
+ * <p>
+ * findByIsbn은 RepositoryBenchmark의 힙 저장소와 같은 데이터로 비교 (예: bench.bat MappedCatalogBenchmark -p size=1000000)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx2g" })
+public class MappedCatalogBenchmark {
+
+	/** 임시 디렉터리에 size권을 저장하고 정상 종료한 카탈로그 */
+	@State(Scope.Benchmark)
+	public static class Catalog {
+
+		@Param({ "1000", "100000", "1000000", "10000000" })
+		public int size;
+
+		Path dir;
+		String[] isbns;
+		long[] ids;
+
+		@Setup(Level.Trial)
+		public void create() throws IOException {
+			dir = Files.createTempDirectory("bench-catalog");
+			isbns = new String[size];
+			ids = new long[size];
+			try (MappedBookRepository r = MappedBookRepository.open(dir)) {
+				List<Book> batch = new ArrayList<>(10_000);
+				for (int i = 0; i < size; i++) {
+					Book b = new Book(BenchData.isbn(i), BenchData.title(i), BenchData.author(i), 3);
+					batch.add(b);
+					isbns[i] = b.getIsbn();
+					ids[i] = b.getId();
+					if (batch.size() == 10_000) {
+						r.saveAll(batch);
+						batch.clear();
+					}
+				}
+				r.saveAll(batch);
+			}
+		}
+
+		@TearDown(Level.Trial)
+		public void delete() throws IOException {
+			try (Stream<Path> files = Files.walk(dir)) {
+				files.sorted(Comparator.reverseOrder()).forEach(p -> {
+					try {
+						Files.delete(p);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			}
+		}
+	}
+
+	/** 조회/재고 벤치마크용으로 열어 둔 저장소 */
+	@State(Scope.Benchmark)
+	public static class Opened {
+
+		MappedBookRepository repository;
+
+		@Setup(Level.Trial)
+		public void open(Catalog catalog) throws IOException {
+			repository = MappedBookRepository.open(catalog.dir);
+		}
+
+		@TearDown(Level.Trial)
+		public void close() throws IOException {
+			repository.close();
+		}
+	}
+
+	/** reopen이 연 저장소 - 매 호출 뒤 닫음 (닫을 때 색인 쓰기는 측정에서 제외) */
+	@State(Scope.Benchmark)
+	public static class Reopened {
+
+		MappedBookRepository repository;
+
+		@TearDown(Level.Invocation)
+		public void close() throws IOException {
+			repository.close();
+		}
+	}
+
+	@Benchmark
+	public Object findByIsbn(Catalog catalog, Opened opened) {
+		return opened.repository.findByIsbn(catalog.isbns[ThreadLocalRandom.current().nextInt(catalog.size)]);
+	}
+
+	/** 매핑된 레코드의 재고를 CAS로 차감 후 복원 */
+	@Benchmark
+	public boolean rentAndReturn(Catalog catalog, Opened opened) {
+		Book book = opened.repository.findById(catalog.ids[ThreadLocalRandom.current().nextInt(catalog.size)]).get();
+		boolean rented = book.rent();
+		if (rented) {
+			book.returnBook();
+		}
+		return rented;
+	}
+
+	/** 정상 종료된 저장소 다시 열기 - 레코드 스캔 없이 색인 파일만 읽음 (단일 스레드로 실행) */
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public Object reopen(Catalog catalog, Reopened reopened) throws IOException {
+		reopened.repository = MappedBookRepository.open(catalog.dir);
+		return reopened.repository;
+	}
+}
@@ -0,0 +1,36 @@
+package io.github.bookrentalteam.bookrental.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.bookrentalteam.bookrental.common.security.Passwords;
+
+/**
+ * 비밀번호 해시 벤치마크 - Passwords.hash
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordsBenchmark {
+
+	@Param({ "1234", "correct-horse-battery-staple" })
+	public String password;
+
+	@Benchmark
+	public String hash() {
+		return Passwords.hash(password);
+	}
+}
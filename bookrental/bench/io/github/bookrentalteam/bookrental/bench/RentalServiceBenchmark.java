@@ -0,0 +1,183 @@
+package io.github.bookrentalteam.bookrental.bench;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.bookrentalteam.bookrental.domain.Member;
+import io.github.bookrentalteam.bookrental.domain.Rental;
+import io.github.bookrentalteam.bookrental.domain.RentalStatus;
+import io.github.bookrentalteam.bookrental.domain.Role;
+import io.github.bookrentalteam.bookrental.event.EventBus;
+import io.github.bookrentalteam.bookrental.repository.impl.InMemoryBookRepository;
+import io.github.bookrentalteam.bookrental.repository.impl.InMemoryMemberRepository;
+import io.github.bookrentalteam.bookrental.repository.impl.InMemoryRentalRepository;
+import io.github.bookrentalteam.bookrental.service.impl.BookServiceImpl;
+import io.github.bookrentalteam.bookrental.service.impl.RentalServiceImpl;
+
+/**
+ * 대여 서비스 벤치마크 - rentBook / returnBook / extendRental
+ * <p>
+ * rentAndReturn / rentExtendAndReturn은 재고와 대여 한도가 유지되도록 대여 → (연장) → 반납을 한 번의 연산으로 측정하고,
+ * rentBook / returnBook / extendRental은 호출마다 대여를 준비·정리하는 상태(측정 제외)를 두고 한 연산만 측정한다.
+ * size는 기존 대여 이력 건수. 스레드 수는 실행 시 -t 옵션으로 지정하며 스레드마다 다른 회원을 사용한다
+ * (스레드 수별 비교: bench.bat sweep RentalServiceBenchmark).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx8g" })
+public class RentalServiceBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class Library {
+		@Param({ "1000", "100000", "1000000", "10000000" })
+		public int size;
+
+		InMemoryMemberRepository memberRepository;
+		EventBus events;
+		RentalServiceImpl rentalService;
+		long[] bookIds;
+		final AtomicInteger memberSeq = new AtomicInteger();
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			InMemoryBookRepository bookRepository = new InMemoryBookRepository();
+			InMemoryRentalRepository rentalRepository = new InMemoryRentalRepository();
+			memberRepository = new InMemoryMemberRepository();
+			events = new EventBus(); // 대여 이벤트가 자동완성 인기도까지 가도록 두 서비스가 같은 버스 사용
+			BookServiceImpl bookService = new BookServiceImpl(bookRepository, events).start();
+			rentalService = new RentalServiceImpl(rentalRepository, memberRepository, bookService, events);
+
+			int books = Math.max(1, size / 100);
+			bookIds = new long[books];
+			for (int i = 0; i < books; i++) {
+				bookIds[i] = bookService.registerBook(BenchData.isbn(i), BenchData.title(i), BenchData.author(i), 1_000)
+						.getId();
+			}
+
+			// 반납 완료된 과거 이력
+			Member history = newMember();
+			for (int i = 0; i < size; i++) {
+				Rental r = new Rental(bookIds[i % books], history.getId());
+				r.markReturned(null);
+				rentalRepository.save(r);
+			}
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			events.close(); // 구독자 스레드 종료
+		}
+
+		Member newMember() {
+			int n = memberSeq.incrementAndGet();
+			Member m = new Member("회원" + n, "bench" + n + "@test.com", "0".repeat(64), Role.USER);
+			memberRepository.save(m);
+			return m;
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Desk {
+		Member member;
+
+		@Setup(Level.Trial)
+		public void setUp(Library library) {
+			member = library.newMember();
+		}
+	}
+
+	/** rentBook이 만든 대여 - 호출이 끝나면 반납해 재고와 한도를 되돌림 */
+	@State(Scope.Thread)
+	public static class Receipt {
+		Library library;
+		Member member;
+		Rental rental;
+
+		@Setup(Level.Trial)
+		public void setUp(Library library) {
+			this.library = library;
+			member = library.newMember();
+		}
+
+		@TearDown(Level.Invocation)
+		public void release() {
+			library.rentalService.returnBook(rental.getId());
+		}
+	}
+
+	/** returnBook / extendRental 대상 - 호출 전에 한 권을 대여해 두고, 호출 뒤 아직 반납 전이면 반납 */
+	@State(Scope.Thread)
+	public static class Loan {
+		Library library;
+		Member member;
+		Rental rental;
+
+		@Setup(Level.Trial)
+		public void setUp(Library library) {
+			this.library = library;
+			member = library.newMember();
+		}
+
+		@Setup(Level.Invocation)
+		public void rent() {
+			rental = library.rentalService.rentBook(pick(library), member);
+		}
+
+		@TearDown(Level.Invocation)
+		public void release() {
+			if (library.rentalService.getRental(rental.getId()).getStatus() == RentalStatus.RENTED) {
+				library.rentalService.returnBook(rental.getId());
+			}
+		}
+	}
+
+	@Benchmark
+	public Rental rentBook(Library library, Receipt receipt) {
+		receipt.rental = library.rentalService.rentBook(pick(library), receipt.member);
+		return receipt.rental;
+	}
+
+	@Benchmark
+	public Rental returnBook(Library library, Loan loan) {
+		return library.rentalService.returnBook(loan.rental.getId());
+	}
+
+	@Benchmark
+	public Rental extendRental(Library library, Loan loan) {
+		return library.rentalService.extendRental(loan.rental.getId());
+	}
+
+	@Benchmark
+	public Rental rentAndReturn(Library library, Desk desk) {
+		Rental rental = library.rentalService.rentBook(pick(library), desk.member);
+		return library.rentalService.returnBook(rental.getId());
+	}
+
+	@Benchmark
+	public Rental rentExtendAndReturn(Library library, Desk desk) {
+		Rental rental = library.rentalService.rentBook(pick(library), desk.member);
+		library.rentalService.extendRental(rental.getId());
+		return library.rentalService.returnBook(rental.getId());
+	}
+
+	private static long pick(Library library) {
+		return library.bookIds[ThreadLocalRandom.current().nextInt(library.bookIds.length)];
+	}
+}
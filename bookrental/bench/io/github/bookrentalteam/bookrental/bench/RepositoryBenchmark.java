@@ -0,0 +1,92 @@
+package io.github.bookrentalteam.bookrental.bench;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.bookrentalteam.bookrental.domain.Book;
+import io.github.bookrentalteam.bookrental.domain.Member;
+import io.github.bookrentalteam.bookrental.domain.Rental;
+import io.github.bookrentalteam.bookrental.domain.Role;
+import io.github.bookrentalteam.bookrental.repository.impl.InMemoryBookRepository;
+import io.github.bookrentalteam.bookrental.repository.impl.InMemoryMemberRepository;
+import io.github.bookrentalteam.bookrental.repository.impl.InMemoryRentalRepository;
+
+/**
+ * 저장소 단건 조회 벤치마크 - findByIsbn / findByEmail / findByMemberId
+ * <p>
+ * 스레드 수는 실행 시 -t 옵션으로 지정 (예: bench.bat RepositoryBenchmark -t 8)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx8g" })
+public class RepositoryBenchmark {
+
+	@Param({ "1000", "100000", "1000000", "10000000" })
+	public int size;
+
+	private InMemoryBookRepository bookRepository;
+	private InMemoryMemberRepository memberRepository;
+	private InMemoryRentalRepository rentalRepository;
+	private String[] isbns;
+	private String[] emails;
+	private long[] memberIds;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		bookRepository = new InMemoryBookRepository();
+		memberRepository = new InMemoryMemberRepository();
+		rentalRepository = new InMemoryRentalRepository();
+		isbns = new String[size];
+		emails = new String[size];
+		memberIds = new long[size];
+
+		int members = Math.max(1, size / 10); // 회원당 평균 10건의 대여 이력
+		String hash = "0".repeat(64);
+		for (int i = 0; i < members; i++) {
+			Member m = new Member("회원" + i, "member" + i + "@test.com", hash, Role.USER);
+			memberRepository.save(m);
+			memberIds[i] = m.getId();
+		}
+		for (int i = 0; i < size; i++) {
+			Book b = new Book(BenchData.isbn(i), BenchData.title(i), BenchData.author(i), 3);
+			bookRepository.save(b);
+			isbns[i] = b.getIsbn();
+			emails[i] = "member" + (i % members) + "@test.com";
+			rentalRepository.save(new Rental(b.getId(), memberIds[i % members]));
+		}
+		for (int i = members; i < size; i++) {
+			memberIds[i] = memberIds[i % members];
+		}
+	}
+
+	@Benchmark
+	public Object findByIsbn() {
+		return bookRepository.findByIsbn(isbns[ThreadLocalRandom.current().nextInt(size)]);
+	}
+
+	@Benchmark
+	public Object findByEmail() {
+		return memberRepository.findByEmail(emails[ThreadLocalRandom.current().nextInt(size)]);
+	}
+
+	@Benchmark
+	public Object findByMemberId() {
+		return rentalRepository.findByMemberId(memberIds[ThreadLocalRandom.current().nextInt(size)]);
+	}
+}
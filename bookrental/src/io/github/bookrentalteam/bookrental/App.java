@@ -1,16 +1,44 @@
 package io.github.bookrentalteam.bookrental;
 
-import java.lang.reflect.Field;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.InputMismatchException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Scanner;
-
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import io.github.bookrentalteam.bookrental.analytics.CirculationStats;
+import io.github.bookrentalteam.bookrental.analytics.CirculationSummary;
+import io.github.bookrentalteam.bookrental.analytics.RankedCount;
+import io.github.bookrentalteam.bookrental.analytics.Utilization;
+import io.github.bookrentalteam.bookrental.cache.CachingBookService;
+import io.github.bookrentalteam.bookrental.common.security.Passwords;
+import io.github.bookrentalteam.bookrental.common.time.BusinessClock;
 import io.github.bookrentalteam.bookrental.domain.Book;
 import io.github.bookrentalteam.bookrental.domain.Member;
 import io.github.bookrentalteam.bookrental.domain.Rental;
 import io.github.bookrentalteam.bookrental.domain.RentalStatus;
 import io.github.bookrentalteam.bookrental.domain.Role;
+import io.github.bookrentalteam.bookrental.event.ConsoleEventLogger;
+import io.github.bookrentalteam.bookrental.event.EventBus;
+import io.github.bookrentalteam.bookrental.event.EventBus.Delivery;
+import io.github.bookrentalteam.bookrental.importer.CatalogImporter;
+import io.github.bookrentalteam.bookrental.importer.ImportReport;
+import io.github.bookrentalteam.bookrental.metrics.InstrumentedBookRepository;
+import io.github.bookrentalteam.bookrental.metrics.InstrumentedBookService;
+import io.github.bookrentalteam.bookrental.metrics.InstrumentedMemberRepository;
+import io.github.bookrentalteam.bookrental.metrics.InstrumentedMemberService;
+import io.github.bookrentalteam.bookrental.metrics.InstrumentedRentalRepository;
+import io.github.bookrentalteam.bookrental.metrics.InstrumentedRentalService;
+import io.github.bookrentalteam.bookrental.metrics.MetricsRegistry;
+import io.github.bookrentalteam.bookrental.overdue.OverdueTicker;
 import io.github.bookrentalteam.bookrental.repository.BookRepository;
 import io.github.bookrentalteam.bookrental.repository.MemberRepository;
 import io.github.bookrentalteam.bookrental.repository.RentalRepository;
@@ -19,10 +47,14 @@ import io.github.bookrentalteam.bookrental.repository.impl.InMemoryMemberReposit
 import io.github.bookrentalteam.bookrental.repository.impl.InMemoryRentalRepository;
 import io.github.bookrentalteam.bookrental.service.BookService;
 import io.github.bookrentalteam.bookrental.service.MemberService;
+import io.github.bookrentalteam.bookrental.service.RentalResult;
 import io.github.bookrentalteam.bookrental.service.RentalService;
 import io.github.bookrentalteam.bookrental.service.impl.BookServiceImpl;
 import io.github.bookrentalteam.bookrental.service.impl.MemberServiceImpl;
 import io.github.bookrentalteam.bookrental.service.impl.RentalServiceImpl;
+import io.github.bookrentalteam.bookrental.snapshot.ReadView;
+import io.github.bookrentalteam.bookrental.snapshot.SnapshotStore;
+import io.github.bookrentalteam.bookrental.web.ApiServer;
 
 public class App {
 
@@ -35,23 +67,63 @@ public class App {
 	private static final String YELLOW = "\u001B[33m";
 	private static final String CYAN = "\u001B[36m";
 
+	// 메서드별 지연 시간/처리량 지표
+	private static final MetricsRegistry metrics = new MetricsRegistry();
+
+	// 보고서용 시점 일관 읽기 (도서/대여 변경마다 버전 기록)
+	private static final SnapshotStore snapshots = new SnapshotStore(new InMemoryBookRepository(),
+			new InMemoryRentalRepository());
+
 	// Repository 생성
-	private static final MemberRepository memberRepository = new InMemoryMemberRepository();
-	private static final BookRepository bookRepository = new InMemoryBookRepository();
-	private static final RentalRepository rentalRepository = new InMemoryRentalRepository();
+	private static final MemberRepository memberRepository = new InstrumentedMemberRepository(
+			new InMemoryMemberRepository(), metrics);
+	private static final BookRepository bookRepository = new InstrumentedBookRepository(snapshots.bookRepository(),
+			metrics);
+	private static final RentalRepository rentalRepository = new InstrumentedRentalRepository(
+			snapshots.rentalRepository(), metrics);
+
+	// 도메인 이벤트 (제재 메시지 등은 구독자가 출력)
+	private static final EventBus eventBus = new EventBus();
+
+	// 대여 통계 (대여/반납/연장 이벤트로 갱신)
+	private static final CirculationStats circulationStats = new CirculationStats();
 
 	// Service 생성 (의존성 주입)
-	private static final MemberService memberService = new MemberServiceImpl(memberRepository);
-	private static final BookService bookService = new BookServiceImpl(bookRepository);
-	private static final RentalService rentalService = new RentalServiceImpl(rentalRepository, memberRepository,
-			bookService);
+	private static final MemberService memberService = new InstrumentedMemberService(
+			new MemberServiceImpl(memberRepository), metrics);
+	private static final CachingBookService cachingBookService = new CachingBookService(
+			new BookServiceImpl(bookRepository, eventBus).start()); // getBook/검색 결과 캐시
+	private static final BookService bookService = new InstrumentedBookService(cachingBookService, metrics);
+	private static final RentalService rentalService = new InstrumentedRentalService(
+			new RentalServiceImpl(rentalRepository, memberRepository, bookService, eventBus), metrics);
+
+	private static final int BOOK_PAGE_SIZE = 20; // 목록 한 페이지 권수
+	private static final int REPORT_TOP_K = 10; // 통계 순위 표시 개수
+	private static final int LOGIN_VERIFY_QUEUE = 64; // 서버 로그인 비밀번호 검증 대기열 (넘치면 거절)
+
+	// 콘솔 사용자의 세션 토큰
+	private static String sessionToken;
 
 	public static void main(String[] args) {
+		eventBus.subscribe("console-log", Delivery.LOSSY, new ConsoleEventLogger(System.out)); // 밀리면 일부 로그를 건너뜀
+		metrics.cache("book", cachingBookService::bookCacheStats);
+		metrics.cache("search", cachingBookService::searchCacheStats);
+		metrics.events(eventBus::droppedCount);
 		seed(); // 더미 회원 등록
+		circulationStats.load(bookRepository.stream(), rentalRepository.stream()); // 더미 데이터 포함, 이후는 이벤트로 갱신
+		eventBus.subscribe("circulation-stats", Delivery.RELIABLE, circulationStats); // 이벤트를 잃으면 재시작 전까지 통계가 어긋남
+		new OverdueTicker(rentalRepository).start(1, TimeUnit.MINUTES); // 날짜 변경 시 연체 색인 갱신
+
+		// java App server [port] → 콘솔 메뉴 대신 HTTP API 서버 실행
+		if (args.length > 0 && args[0].equals("server")) {
+			startServer((args.length > 1) ? Integer.parseInt(args[1]) : 8080);
+			return;
+		}
 
 		while (true) {
 			try {
-				if (memberService.getCurrentUser() == null) { // 로그인 안 된 상태
+				Member current = memberService.getCurrentUser(sessionToken);
+				if (current == null) { // 로그인 안 된 상태 (세션 만료 포함)
 					showWelcome();
 					int sel = promptInt("👉 메뉴 선택");
 
@@ -68,7 +140,7 @@ public class App {
 					showMainMenu();
 					int sel = promptInt("👉 메뉴 선택");
 
-					if (memberService.getCurrentUser().getRole() == Role.ADMIN) { // 관리자 메뉴
+					if (current.getRole() == Role.ADMIN) { // 관리자 메뉴
 						switch (sel) {
 						case 1 -> addBookFlow();
 						case 2 -> listBooksFlow();
@@ -77,6 +149,9 @@ public class App {
 						case 5 -> returnBookFlow();
 						case 6 -> extendRentalFlow();
 						case 7 -> myRentalsFlow();
+						case 8 -> importBooksFlow();
+						case 9 -> stockReportFlow();
+						case 10 -> circulationReportFlow();
 						case 0 -> logout();
 						default -> System.out.println(RED + "❌ [오류] 올바른 메뉴 번호를 입력해주세요." + RESET);
 						}
@@ -103,20 +178,21 @@ public class App {
 
 	// 도서 대여
 	private static void rentBookFlow() {
-		Member current = memberService.getCurrentUser();
-		var availableBooks = bookService.listBooks().stream().filter(b -> b.getAvailableCopies() > 0).toList();
+		Member current = memberService.getCurrentUser(sessionToken);
+		int shown = printBookPages("📖 [대여 가능한 도서 목록]", b -> b.getAvailableCopies() > 0);
 
-		if (availableBooks.isEmpty()) {
+		if (shown == 0) {
 			System.out.println(YELLOW + "⚠️ [안내] 현재 대여 가능한 도서가 없습니다." + RESET);
 			return;
 		}
 
-		System.out.println(CYAN + "\n📖 [대여 가능한 도서 목록]" + RESET);
-		availableBooks.forEach(b -> System.out.printf("  ▶ ID=%d | 제목=%s | 저자=%s | 재고=%d/%d%n", b.getId(), b.getTitle(),
-				b.getAuthor(), b.getAvailableCopies(), b.getTotalCopies()));
-
-		System.out.print("📌 대여할 도서 ID 입력> ");
-		long bookId = Long.parseLong(sc.nextLine().trim());
+		System.out.print("📌 대여할 도서 ID 입력 (여러 권은 쉼표로 구분)> ");
+		List<Long> bookIds = parseIds(sc.nextLine());
+		if (bookIds.size() > 1) {
+			printResults(rentalService.rentBooks(bookIds, current, false), "대여");
+			return;
+		}
+		long bookId = bookIds.get(0);
 
 		try {
 			Rental rental = rentalService.rentBook(bookId, current);
@@ -130,7 +206,7 @@ public class App {
 
 	// 도서 반납
 	private static void returnBookFlow() {
-		Member currentUser = memberService.getCurrentUser();
+		Member currentUser = memberService.getCurrentUser(sessionToken);
 		var rentals = rentalService.getRentalsByMember(currentUser);
 		var rentedBooks = rentals.stream().filter(r -> r.getStatus() == RentalStatus.RENTED).toList();
 
@@ -146,8 +222,13 @@ public class App {
 			System.out.printf("  ▶ 대여ID=%d | 도서명=%s | 반납예정일=%s%n", r.getId(), bookTitle, r.getDueAt());
 		});
 
-		System.out.print("↩️ 반납할 대여 ID 입력> ");
-		long rentalId = Long.parseLong(sc.nextLine().trim());
+		System.out.print("↩️ 반납할 대여 ID 입력 (여러 건은 쉼표로 구분)> ");
+		List<Long> rentalIds = parseIds(sc.nextLine());
+		if (rentalIds.size() > 1) {
+			printResults(rentalService.returnBooks(rentalIds), "반납");
+			return;
+		}
+		long rentalId = rentalIds.get(0);
 
 		try {
 			Rental rental = rentalService.returnBook(rentalId);
@@ -161,7 +242,7 @@ public class App {
 
 	// 대여 연장
 	private static void extendRentalFlow() {
-		Member current = memberService.getCurrentUser();
+		Member current = memberService.getCurrentUser(sessionToken);
 		var rentals = rentalService.getRentalsByMember(current);
 		var extendable = rentals.stream().filter(r -> r.getStatus() == RentalStatus.RENTED).toList();
 
@@ -194,7 +275,7 @@ public class App {
 
 	// 내 대여 목록
 	private static void myRentalsFlow() {
-		Member current = memberService.getCurrentUser();
+		Member current = memberService.getCurrentUser(sessionToken);
 		var rentals = rentalService.getRentalsByMember(current);
 
 		if (rentals.isEmpty()) {
@@ -212,19 +293,104 @@ public class App {
 		});
 	}
 
+	// 도서 일괄 등록 (관리자) - 오류 목록은 <파일>.errors.txt 로 저장
+	private static void importBooksFlow() {
+		System.out.println(CYAN + "\n📦 [도서 일괄 등록]" + RESET);
+		System.out.print("📂 파일 경로 입력> ");
+		Path file = Path.of(sc.nextLine().trim());
+
+		try {
+			ImportReport report = new CatalogImporter(bookService).importFile(file);
+			System.out.printf(GREEN + "✅ [완료] %d행 중 %d권 등록 (%dms)%n" + RESET, report.getRows(), report.getImported(),
+					report.getElapsedMillis());
+			if (!report.getErrors().isEmpty()) {
+				Path errorFile = file.resolveSibling(file.getFileName() + ".errors.txt");
+				try (Writer out = Files.newBufferedWriter(errorFile, StandardCharsets.UTF_8)) {
+					report.writeTo(out);
+				}
+				System.out.println(YELLOW + "⚠️ 오류 " + report.getErrors().size() + "건 → " + errorFile + RESET);
+			}
+		} catch (IOException e) {
+			System.out.println(RED + "❌ [오류] 파일을 읽을 수 없습니다: " + e.getMessage() + RESET);
+		}
+	}
+
+	// 재고/대여 현황 (관리자) - 한 시점의 읽기 뷰로 집계하므로 보고서 도중의 대여/반납이 섞이지 않음
+	private static void stockReportFlow() {
+		LocalDate today = BusinessClock.current().today();
+		try (ReadView view = snapshots.openView()) {
+			long[] totals = new long[3]; // 종수, 총 권수, 대여 중
+			System.out.println(CYAN + "\n📊 [재고/대여 현황] 기준 버전=" + view.version() + RESET);
+			view.books().forEach(b -> {
+				totals[0]++;
+				totals[1] += b.totalCopies();
+				totals[2] += b.rentedCopies();
+				if (b.rentedCopies() > 0) {
+					System.out.printf("  ▶ ID=%d | 제목=%s | 대여 중=%d | 재고=%d/%d%n", b.id(), b.title(), b.rentedCopies(),
+							b.availableCopies(), b.totalCopies());
+				}
+			});
+			long overdue = view.rentals().filter(r -> r.isOverdue(today)).count();
+			System.out.printf("도서 %d종 / 총 %d권 / 대여 중 %d권 / 연체 %d건%n", totals[0], totals[1], totals[2], overdue);
+		}
+	}
+
+	// 대여 통계 (관리자) - 이벤트로 미리 집계해 둔 값만 읽으므로 이력 크기와 무관
+	private static void circulationReportFlow() {
+		CirculationSummary s = circulationStats.summary();
+		System.out.println(CYAN + "\n📈 [대여 통계] 기준일=" + s.date() + RESET);
+		System.out.printf("대여 중 %d건 / 연체 %d건 (연체 일수 합 %d일) / 이용률 %.1f%% (%d/%d권)%n", s.openRentals(),
+				s.overdueRentals(), s.overdueDays(), s.utilization() * 100, s.rentedCopies(), s.totalCopies());
+
+		System.out.println("🏆 많이 대여된 도서");
+		for (RankedCount r : circulationStats.topBooks(REPORT_TOP_K)) {
+			System.out.printf("  ▶ %d회 | ID=%d | 제목=%s%n", r.count(), r.id(), bookTitle(r.id()));
+		}
+		System.out.println("🙋 많이 대여한 회원");
+		for (RankedCount r : circulationStats.topMembers(REPORT_TOP_K)) {
+			String name = memberRepository.findById(r.id()).map(Member::getName).orElse("(알 수 없음)");
+			System.out.printf("  ▶ %d회 | %s | 대여 중=%d권%n", r.count(), name, circulationStats.openRentalCount(r.id()));
+		}
+		System.out.println("📚 이용률 높은 도서");
+		for (Utilization u : circulationStats.mostUtilized(REPORT_TOP_K)) {
+			System.out.printf("  ▶ %.0f%% (%d/%d권) | ID=%d | 제목=%s%n", u.ratio() * 100, u.rentedCopies(),
+					u.totalCopies(), u.bookId(), bookTitle(u.bookId()));
+		}
+	}
+
+	private static String bookTitle(long bookId) {
+		return bookRepository.findById(bookId).map(Book::getTitle).orElse("(알 수 없음)");
+	}
+
 	// 도서 목록
 	private static void listBooksFlow() {
-		List<Book> books = bookService.listBooks();
-
-		if (books.isEmpty()) {
+		if (printBookPages("📚 [도서 목록]", b -> true) == 0) {
 			System.out.println(YELLOW + "⚠️ 등록된 도서가 없습니다." + RESET);
-		} else {
-			System.out.println(CYAN + "\n📚 [도서 목록]" + RESET);
-			books.forEach(b -> System.out.printf("  ▶ ID=%d | 제목=%s | 저자=%s | 재고=%d/%d%n", b.getId(), b.getTitle(),
-					b.getAuthor(), b.getAvailableCopies(), b.getTotalCopies()));
 		}
 	}
 
+	// 도서를 ID 순으로 BOOK_PAGE_SIZE권씩 출력 (전체 목록을 만들지 않음), 출력한 권수 반환
+	private static int printBookPages(String title, Predicate<Book> filter) {
+		Iterator<Book> books = bookService.streamBooks().filter(filter).iterator();
+		int shown = 0;
+		while (books.hasNext()) {
+			if (shown == 0) {
+				System.out.println(CYAN + "\n" + title + RESET);
+			}
+			Book b = books.next();
+			System.out.printf("  ▶ ID=%d | 제목=%s | 저자=%s | 재고=%d/%d%n", b.getId(), b.getTitle(), b.getAuthor(),
+					b.getAvailableCopies(), b.getTotalCopies());
+			shown++;
+			if (shown % BOOK_PAGE_SIZE == 0 && books.hasNext()) {
+				System.out.print("⏩ 다음 페이지는 Enter, 그만 보려면 q> ");
+				if (sc.nextLine().trim().equalsIgnoreCase("q")) {
+					break;
+				}
+			}
+		}
+		return shown;
+	}
+
 	// 도서 등록
 	private static void addBookFlow() {
 		try {
@@ -262,6 +428,12 @@ public class App {
 
 		if (foundBooks.isEmpty()) {
 			System.out.printf(YELLOW + "⚠️ '%s'에 대한 검색 결과가 없습니다.\n" + RESET, keyword);
+			List<Book> similar = bookService.searchBooksFuzzy(keyword, 5); // 오타일 수 있으므로 비슷한 도서 제안
+			if (!similar.isEmpty()) {
+				System.out.println(CYAN + "💡 혹시 이 도서를 찾으셨나요?" + RESET);
+				similar.forEach(b -> System.out.printf("  ▶ ID=%d | 제목=%s | 저자=%s | 재고=%d/%d%n", b.getId(),
+						b.getTitle(), b.getAuthor(), b.getAvailableCopies(), b.getTotalCopies()));
+			}
 		} else {
 			System.out.printf(CYAN + "📖 '%s' 검색 결과 (%d건)\n" + RESET, keyword, foundBooks.size());
 			foundBooks.forEach(b -> System.out.printf("  ▶ ID=%d | 제목=%s | 저자=%s | ISBN=%s | 재고=%d/%d%n", b.getId(),
@@ -277,7 +449,7 @@ public class App {
 	}
 
 	private static void showMainMenu() {
-		Member currentUser = memberService.getCurrentUser();
+		Member currentUser = memberService.getCurrentUser(sessionToken);
 
 		System.out.println(CYAN + "\n======================================");
 		System.out.printf(" 👤 로그인: %s  |  권한: %s%n", currentUser.getName(), currentUser.getRole());
@@ -291,6 +463,9 @@ public class App {
 			System.out.println("5) ↩️ 도서 반납");
 			System.out.println("6) 🔄 대여 연장");
 			System.out.println("7) 📝 내 대여 목록");
+			System.out.println("8) 📦 도서 일괄 등록 (CSV/TSV/JSONL)");
+			System.out.println("9) 📊 재고/대여 현황 보고서");
+			System.out.println("10) 📈 대여 통계 (인기 도서/회원, 이용률)");
 			System.out.println("0) 🚪 로그아웃");
 		} else {
 			System.out.println("1) 📚 도서 목록");
@@ -333,7 +508,8 @@ public class App {
 		String pw = sc.nextLine().trim();
 
 		try {
-			Member m = memberService.login(email, pw);
+			sessionToken = memberService.login(email, pw).getToken();
+			Member m = memberService.getCurrentUser(sessionToken);
 			System.out.println(GREEN + "✅ [성공] 로그인: " + m.getName() + RESET);
 		} catch (Exception e) {
 			System.out.println(RED + "❌ [오류] " + e.getMessage() + RESET);
@@ -342,16 +518,55 @@ public class App {
 
 	// 로그아웃
 	private static void logout() {
-		memberService.logout();
+		memberService.logout(sessionToken);
+		sessionToken = null;
 		System.out.println(YELLOW + "🚪 로그아웃 되었습니다." + RESET);
 	}
 
+	// "1, 2,3" → [1, 2, 3]
+	private static List<Long> parseIds(String input) {
+		List<Long> ids = new ArrayList<>();
+		for (String token : input.split(",")) {
+			if (!token.isBlank()) {
+				ids.add(Long.parseLong(token.trim()));
+			}
+		}
+		if (ids.isEmpty()) {
+			throw new IllegalArgumentException("ID를 입력해주세요.");
+		}
+		return ids;
+	}
+
+	// 일괄 처리 결과 출력
+	private static void printResults(List<RentalResult> results, String action) {
+		for (RentalResult r : results) {
+			if (r.isSuccess()) {
+				Book book = bookService.getBook(r.rental().getBookId());
+				System.out.println(GREEN + "✅ [성공] '" + book.getTitle() + "' 도서 " + action + " 완료!" + RESET);
+			} else {
+				System.out.println(RED + "❌ [오류] ID=" + r.targetId() + ": " + r.error() + RESET);
+			}
+		}
+	}
+
 	private static int promptInt(String label) {
 		System.out.print(label + "> ");
 		String s = sc.nextLine().trim();
 		return Integer.parseInt(s);
 	}
 
+	private static void startServer(int port) {
+		// 로그인마다 PBKDF2를 계산하므로 동시에 검증하는 스레드 수를 코어 수로 제한
+		Passwords.limitVerification(Runtime.getRuntime().availableProcessors(), LOGIN_VERIFY_QUEUE);
+		try {
+			ApiServer server = new ApiServer(port, bookService, memberService, rentalService, metrics,
+					circulationStats).start();
+			System.out.println(GREEN + "🌐 API 서버 시작: http://localhost:" + server.getPort() + "/api/books" + RESET);
+		} catch (IOException e) {
+			System.out.println(RED + "❌ [오류] 서버를 시작할 수 없습니다: " + e.getMessage() + RESET);
+		}
+	}
+
 	private static void seed() {
 		try {
 			memberService.signUp("정원우", "wonwoo@test.com", "1234", Role.USER);
@@ -365,15 +580,16 @@ public class App {
 			bookService.registerBook("978-89-98142-36-0", "토비의 스프링 Vol.2", "이일민", 2);
 
 			var overdueBook = bookService.registerBook("978-89-94492-00-1", "자바의 정석 4판", "남궁성", 1);
-			Rental overdueRental = new Rental(overdueBook.getId(), overdueUser.getId());
-			Field rentedAtField = Rental.class.getDeclaredField("rentedAt");
-			Field dueAtField = Rental.class.getDeclaredField("dueAt");
-			rentedAtField.setAccessible(true);
-			dueAtField.setAccessible(true);
-
-			LocalDate rentedAt = LocalDate.now().minusDays(20);
-			rentedAtField.set(overdueRental, rentedAt);
-			dueAtField.set(overdueRental, rentedAt.plusDays(14));
+
+			// 20일 전 날짜로 시계를 잠시 돌려 연체 대여 생성
+			BusinessClock clock = BusinessClock.current();
+			Rental overdueRental;
+			BusinessClock.setCurrent(BusinessClock.fixed(clock.today().minusDays(20)));
+			try {
+				overdueRental = new Rental(overdueBook.getId(), overdueUser.getId());
+			} finally {
+				BusinessClock.setCurrent(clock);
+			}
 
 			overdueBook.rent();
 			rentalRepository.save(overdueRental);
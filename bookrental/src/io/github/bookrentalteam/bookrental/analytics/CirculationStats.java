@@ -0,0 +1,253 @@
+package io.github.bookrentalteam.bookrental.analytics;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import io.github.bookrentalteam.bookrental.common.time.BusinessClock;
+import io.github.bookrentalteam.bookrental.domain.Book;
+import io.github.bookrentalteam.bookrental.domain.Rental;
+import io.github.bookrentalteam.bookrental.domain.RentalStatus;
+import io.github.bookrentalteam.bookrental.event.DomainEvent;
+import io.github.bookrentalteam.bookrental.event.EventHandler;
+
+/**
+ * 대여 통계 - 대여/반납/연장 이벤트로 집계를 갱신해 두고, 조회는 이력을 훑지 않고 바로 답한다.
+ * <p>
+ * 많이 대여된 도서/회원은 상위 K 힙, 이용률은 대여 중인 도서만 이용률 순으로 정렬해 둔 집합, 연체는 반납예정일별 대여 건수(일 단위 버킷)와
+ * 연체 합계로 관리한다. 날짜가 바뀌면 지난 버킷만큼만 연체 합계에 더한다. 이벤트 버스 구독자이므로 요청 처리보다 약간(수 ms) 늦게 반영된다.
+ * <p>
+ * 반납/연장 이벤트가 그 대여의 대여 이벤트보다 먼저 도착하면 표시(early)만 남겨 두었다가 대여 이벤트가 오면 적용한다.
+ */
+public class CirculationStats implements EventHandler {
+
+	public static final int DEFAULT_TOP_K = 100;
+	private static final long RETURNED = Long.MIN_VALUE; // early 표시: 대여 이벤트 전에 반납됨
+
+	// 이하 this로 보호
+	private final TopKCounter bookRentals; // 도서 ID → 누적 대여 건수
+	private final TopKCounter memberRentals; // 회원 ID → 누적 대여 건수
+	private final Map<Long, Integer> openByMember = new HashMap<>(); // 회원 ID → 대여 중 건수
+	private final Map<Long, Usage> usage = new HashMap<>(); // 도서 ID → 총 권수/대여 중
+	private final TreeSet<Usage> inUse = new TreeSet<>(CirculationStats::compareUtilization); // 대여 중인 도서만
+	private final Map<Long, Long> openDue = new HashMap<>(); // 대여 중인 대여 ID → 반납예정일(epoch day)
+	private final NavigableMap<Long, Integer> dueBuckets = new TreeMap<>(); // 반납예정일 → 대여 중 건수
+	private final Map<Long, Long> early = new HashMap<>(); // 대여 이벤트보다 먼저 온 대여 ID → 연장된 반납예정일 또는 RETURNED
+	private long totalCopies;
+	private long rentedCopies;
+	private long day = Long.MIN_VALUE; // 연체 합계의 기준일
+	private long overdueRentals; // 반납예정일 < day 인 대여 수
+	private long overdueDueSum; // 그 대여들의 반납예정일 합 (연체 일수 합 = 건수 * day - 합)
+
+	public CirculationStats() {
+		this(DEFAULT_TOP_K);
+	}
+
+	/** topK: 순위 조회로 볼 수 있는 최대 개수 */
+	public CirculationStats(int topK) {
+		this.bookRentals = new TopKCounter(topK);
+		this.memberRentals = new TopKCounter(topK);
+	}
+
+	/** 기존 도서/대여 이력으로 집계 초기화 - 시작 시 구독 전에 한 번 (이후는 이벤트로 갱신) */
+	public synchronized void load(Stream<Book> books, Stream<Rental> rentals) {
+		books.forEach(b -> registered(b.getId(), b.getTotalCopies()));
+		rentals.forEach(r -> {
+			bookRentals.add(r.getBookId(), 1);
+			memberRentals.add(r.getMemberId(), 1);
+			if (r.getStatus() == RentalStatus.RENTED) {
+				opened(r.getId(), r.getBookId(), r.getMemberId(), r.getDueAt().toEpochDay());
+			}
+		});
+	}
+
+	@Override
+	public synchronized void onEvent(DomainEvent event, boolean endOfBatch) {
+		advance();
+		if (event instanceof DomainEvent.BookRented e) {
+			if (openDue.containsKey(e.rentalId())) {
+				return; // load()가 이미 읽은 대여
+			}
+			bookRentals.add(e.bookId(), 1);
+			memberRentals.add(e.memberId(), 1);
+			Long pending = early.remove(e.rentalId());
+			if (pending == null) {
+				opened(e.rentalId(), e.bookId(), e.memberId(), e.dueAt().toEpochDay());
+			} else if (pending != RETURNED) {
+				opened(e.rentalId(), e.bookId(), e.memberId(), pending); // 먼저 온 연장의 반납예정일
+			} // 먼저 반납된 대여는 누적 건수만 반영
+		} else if (event instanceof DomainEvent.BookReturned e) {
+			if (removeDue(e.rentalId())) {
+				openByMember.computeIfPresent(e.memberId(), (k, n) -> (n > 1) ? n - 1 : null);
+				changeRented(e.bookId(), -1);
+			} else {
+				early.put(e.rentalId(), RETURNED);
+			}
+		} else if (event instanceof DomainEvent.RentalExtended e) {
+			long dueDay = e.dueAt().toEpochDay();
+			if (removeDue(e.rentalId())) {
+				addDue(e.rentalId(), dueDay);
+			} else {
+				early.merge(e.rentalId(), dueDay, (old, n) -> (old == RETURNED) ? old : n);
+			}
+		} else if (event instanceof DomainEvent.BookRegistered e) {
+			registered(e.bookId(), e.totalCopies());
+		}
+	}
+
+	/** 많이 대여된 도서 상위 k개 (누적) */
+	public synchronized List<RankedCount> topBooks(int k) {
+		return bookRentals.top(k);
+	}
+
+	/** 많이 대여한 회원 상위 k개 (누적) */
+	public synchronized List<RankedCount> topMembers(int k) {
+		return memberRentals.top(k);
+	}
+
+	/** 회원의 누적 대여 건수 */
+	public synchronized long rentalCount(long memberId) {
+		return memberRentals.count(memberId);
+	}
+
+	/** 회원의 현재 대여 중 건수 */
+	public synchronized int openRentalCount(long memberId) {
+		return openByMember.getOrDefault(memberId, 0);
+	}
+
+	/** 도서의 누적 대여 건수 */
+	public synchronized long bookRentalCount(long bookId) {
+		return bookRentals.count(bookId);
+	}
+
+	/** 도서 이용률 (집계에 없는 도서면 empty) */
+	public synchronized Optional<Utilization> utilization(long bookId) {
+		Usage u = usage.get(bookId);
+		return (u == null) ? Optional.empty() : Optional.of(u.toUtilization());
+	}
+
+	/** 이용률 높은 도서 상위 k개 (대여 중인 도서만, 같으면 대여 중 권수가 많은 순) - O(k) */
+	public synchronized List<Utilization> mostUtilized(int k) {
+		if (k <= 0) {
+			throw new IllegalArgumentException("조회 개수는 1 이상이어야 합니다.");
+		}
+		List<Utilization> result = new ArrayList<>(Math.min(k, inUse.size()));
+		for (Iterator<Usage> it = inUse.iterator(); it.hasNext() && result.size() < k;) {
+			result.add(it.next().toUtilization());
+		}
+		return result;
+	}
+
+	/** 오늘 기준 대여/연체/재고 요약 - O(1) (날짜가 바뀐 직후에는 지난 일수만큼의 버킷) */
+	public synchronized CirculationSummary summary() {
+		advance();
+		return new CirculationSummary(LocalDate.ofEpochDay(day), openDue.size(), overdueRentals,
+				overdueRentals * day - overdueDueSum, totalCopies, rentedCopies);
+	}
+
+	private void registered(long bookId, int copies) {
+		Usage u = usage.get(bookId);
+		if (u == null) {
+			usage.put(bookId, new Usage(bookId, copies, 0));
+			totalCopies += copies;
+		} else if (u.totalCopies != copies) { // 이벤트보다 대여가 먼저 반영된 경우 등
+			inUse.remove(u);
+			totalCopies += copies - u.totalCopies;
+			u.totalCopies = copies;
+			if (u.rented > 0) {
+				inUse.add(u);
+			}
+		}
+	}
+
+	private void opened(long rentalId, long bookId, long memberId, long dueDay) {
+		openByMember.merge(memberId, 1, Integer::sum);
+		changeRented(bookId, 1);
+		addDue(rentalId, dueDay);
+	}
+
+	// 정렬 집합의 순서가 바뀌므로 뺐다가 갱신 후 다시 넣음
+	private void changeRented(long bookId, int delta) {
+		Usage u = usage.computeIfAbsent(bookId, id -> new Usage(id, 0, 0));
+		inUse.remove(u);
+		int before = u.rented;
+		u.rented = Math.max(0, before + delta);
+		rentedCopies += u.rented - before;
+		if (u.rented > 0) {
+			inUse.add(u);
+		}
+	}
+
+	private void addDue(long rentalId, long dueDay) {
+		openDue.put(rentalId, dueDay);
+		dueBuckets.merge(dueDay, 1, Integer::sum);
+		if (dueDay < day) {
+			overdueRentals++;
+			overdueDueSum += dueDay;
+		}
+	}
+
+	// 대여 중으로 집계된 대여면 제거하고 true
+	private boolean removeDue(long rentalId) {
+		Long dueDay = openDue.remove(rentalId);
+		if (dueDay == null) {
+			return false;
+		}
+		dueBuckets.computeIfPresent(dueDay, (k, n) -> (n > 1) ? n - 1 : null);
+		if (dueDay < day) {
+			overdueRentals--;
+			overdueDueSum -= dueDay;
+		}
+		return true;
+	}
+
+	// 기준일을 오늘로 옮기며 그 사이 버킷만 연체 합계에 더하거나 뺌 (업무 시계를 과거로 돌린 경우 포함)
+	private void advance() {
+		long today = BusinessClock.current().today().toEpochDay();
+		if (today == day) {
+			return;
+		}
+		boolean forward = today > day;
+		NavigableMap<Long, Integer> moved = forward ? dueBuckets.subMap(day, true, today, false)
+				: dueBuckets.subMap(today, true, day, false);
+		for (Map.Entry<Long, Integer> bucket : moved.entrySet()) {
+			long n = forward ? bucket.getValue() : -bucket.getValue();
+			overdueRentals += n;
+			overdueDueSum += n * bucket.getKey();
+		}
+		day = today;
+	}
+
+	// 이용률 내림차순 → 대여 중 권수 내림차순 → 도서 ID 오름차순
+	private static int compareUtilization(Usage a, Usage b) {
+		int c = Long.compare((long) b.rented * a.totalCopies, (long) a.rented * b.totalCopies);
+		if (c == 0) {
+			c = Integer.compare(b.rented, a.rented);
+		}
+		return (c != 0) ? c : Long.compare(a.bookId, b.bookId);
+	}
+
+	private static final class Usage {
+		final long bookId;
+		int totalCopies;
+		int rented;
+
+		Usage(long bookId, int totalCopies, int rented) {
+			this.bookId = bookId;
+			this.totalCopies = totalCopies;
+			this.rented = rented;
+		}
+
+		Utilization toUtilization() {
+			return new Utilization(bookId, totalCopies, rented);
+		}
+	}
+}
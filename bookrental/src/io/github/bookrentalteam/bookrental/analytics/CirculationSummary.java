@@ -0,0 +1,17 @@
+package io.github.bookrentalteam.bookrental.analytics;
+
+import java.time.LocalDate;
+
+/**
+ * 대여 현황 요약
+ *
+ * @param overdueDays 연체 중인 대여의 연체 일수 합계
+ */
+public record CirculationSummary(LocalDate date, long openRentals, long overdueRentals, long overdueDays,
+		long totalCopies, long rentedCopies) {
+
+	/** 전체 이용률 0~1 (도서가 없으면 0) */
+	public double utilization() {
+		return (totalCopies == 0) ? 0.0 : (double) rentedCopies / totalCopies;
+	}
+}
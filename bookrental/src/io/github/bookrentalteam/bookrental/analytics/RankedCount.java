@@ -0,0 +1,5 @@
+package io.github.bookrentalteam.bookrental.analytics;
+
+/** 순위 항목 - 도서 또는 회원 ID와 누적 대여 건수 */
+public record RankedCount(long id, long count) {
+}
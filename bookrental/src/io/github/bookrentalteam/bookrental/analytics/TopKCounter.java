@@ -0,0 +1,114 @@
+package io.github.bookrentalteam.bookrental.analytics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 키별 누적 카운터 + 상위 K개 최소 힙.
+ * <p>
+ * 카운트는 증가만 하므로 "힙 밖의 카운트 <= 힙 최솟값"이 항상 유지된다. 증가한 키가 힙 밖에 있으면 힙 최솟값과만 비교해 교체하면 되고,
+ * 상위 K 조회는 힙만 정렬한다. 동기화는 호출자 책임.
+ */
+final class TopKCounter {
+
+	private static final Comparator<RankedCount> RANK_ORDER = Comparator.comparingLong(RankedCount::count)
+			.reversed().thenComparingLong(RankedCount::id);
+
+	private final Map<Long, Entry> counts = new HashMap<>();
+	private final Entry[] heap; // count 기준 최소 힙
+	private int heapSize;
+
+	TopKCounter(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("순위 크기는 1 이상이어야 합니다.");
+		}
+		this.heap = new Entry[capacity];
+	}
+
+	/** key의 카운트를 delta(>= 0)만큼 증가 - O(log K) */
+	void add(long key, long delta) {
+		Entry e = counts.computeIfAbsent(key, Entry::new);
+		e.count += delta;
+		if (e.heapIndex >= 0) {
+			siftDown(e.heapIndex); // 최소 힙에서 값이 커졌으므로 아래로
+		} else if (heapSize < heap.length) {
+			e.heapIndex = heapSize;
+			heap[heapSize] = e;
+			siftUp(heapSize++);
+		} else if (e.count > heap[0].count) {
+			heap[0].heapIndex = -1;
+			heap[0] = e;
+			e.heapIndex = 0;
+			siftDown(0);
+		}
+	}
+
+	long count(long key) {
+		Entry e = counts.get(key);
+		return (e == null) ? 0 : e.count;
+	}
+
+	/** 카운트 내림차순 상위 k개 (k는 capacity까지) - O(K log K) */
+	List<RankedCount> top(int k) {
+		if (k <= 0) {
+			throw new IllegalArgumentException("조회 개수는 1 이상이어야 합니다.");
+		}
+		RankedCount[] ranked = new RankedCount[heapSize];
+		for (int i = 0; i < heapSize; i++) {
+			ranked[i] = new RankedCount(heap[i].key, heap[i].count);
+		}
+		Arrays.sort(ranked, RANK_ORDER);
+		return new ArrayList<>(Arrays.asList(ranked).subList(0, Math.min(k, ranked.length)));
+	}
+
+	private void siftUp(int i) {
+		Entry e = heap[i];
+		while (i > 0) {
+			int parent = (i - 1) >>> 1;
+			if (heap[parent].count <= e.count) {
+				break;
+			}
+			place(heap[parent], i);
+			i = parent;
+		}
+		place(e, i);
+	}
+
+	private void siftDown(int i) {
+		Entry e = heap[i];
+		while (true) {
+			int child = 2 * i + 1;
+			if (child >= heapSize) {
+				break;
+			}
+			if (child + 1 < heapSize && heap[child + 1].count < heap[child].count) {
+				child++;
+			}
+			if (e.count <= heap[child].count) {
+				break;
+			}
+			place(heap[child], i);
+			i = child;
+		}
+		place(e, i);
+	}
+
+	private void place(Entry e, int i) {
+		heap[i] = e;
+		e.heapIndex = i;
+	}
+
+	private static final class Entry {
+		final long key;
+		long count;
+		int heapIndex = -1; // 힙 밖이면 -1
+
+		Entry(long key) {
+			this.key = key;
+		}
+	}
+}
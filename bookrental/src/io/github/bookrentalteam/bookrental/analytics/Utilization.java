@@ -0,0 +1,14 @@
+package io.github.bookrentalteam.bookrental.analytics;
+
+/** 도서별 이용률 - 총 권수 중 대여 중인 권수 */
+public record Utilization(long bookId, int totalCopies, int rentedCopies) {
+
+	public int availableCopies() {
+		return totalCopies - rentedCopies;
+	}
+
+	/** 이용률 0~1 (총 권수가 0이면 0) */
+	public double ratio() {
+		return (totalCopies == 0) ? 0.0 : (double) rentedCopies / totalCopies;
+	}
+}
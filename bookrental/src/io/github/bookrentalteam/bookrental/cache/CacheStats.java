@@ -0,0 +1,20 @@
+package io.github.bookrentalteam.bookrental.cache;
+
+/**
+ * 캐시 통계 (누적)
+ *
+ * @param evictionCount 크기 제한으로 밀려나거나 입장을 거절당한 항목 수
+ * @param invalidationCount 무효화 요청 수
+ */
+public record CacheStats(long hitCount, long missCount, long evictionCount, long invalidationCount, long size) {
+
+	public long requestCount() {
+		return hitCount + missCount;
+	}
+
+	/** 적중률 (요청이 없으면 1) */
+	public double hitRate() {
+		long requests = requestCount();
+		return (requests == 0) ? 1.0 : (double) hitCount / requests;
+	}
+}
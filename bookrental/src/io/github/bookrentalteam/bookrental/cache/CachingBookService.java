@@ -0,0 +1,152 @@
+package io.github.bookrentalteam.bookrental.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import io.github.bookrentalteam.bookrental.domain.Book;
+import io.github.bookrentalteam.bookrental.search.Completion;
+import io.github.bookrentalteam.bookrental.service.BookService;
+
+/**
+ * getBook/searchBooks 결과를 캐시하는 BookService 데코레이터.
+ * <p>
+ * 도서 등록 시에는 새 도서가 걸릴 검색어의 결과만 즉시 무효화한다. 캐시하는 Book은 저장소의 객체 그대로이므로 대여/반납으로 바뀐
+ * 재고도 항상 현재 값으로 보이며, 그때마다 무효화할 필요가 없다.
+ */
+public class CachingBookService implements BookService {
+
+	public static final int DEFAULT_BOOK_CACHE_SIZE = 10_000;
+	public static final int DEFAULT_SEARCH_CACHE_SIZE = 1_000;
+
+	private static final int MAX_CACHED_RESULTS = 500; // 이보다 많은 검색 결과는 캐시하지 않음
+	private static final int BULK_INVALIDATE_THRESHOLD = 64; // 일괄 등록이 이보다 크면 검색 캐시 전체 비움
+
+	private final BookService delegate;
+	private final WTinyLfuCache<Long, Book> books;
+	private final WTinyLfuCache<SearchKey, List<Book>> searches;
+
+	public CachingBookService(BookService delegate) {
+		this(delegate, DEFAULT_BOOK_CACHE_SIZE, DEFAULT_SEARCH_CACHE_SIZE);
+	}
+
+	public CachingBookService(BookService delegate, int bookCacheSize, int searchCacheSize) {
+		this.delegate = delegate;
+		this.books = new WTinyLfuCache<>(bookCacheSize);
+		this.searches = new WTinyLfuCache<>(searchCacheSize);
+	}
+
+	@Override
+	public Book registerBook(String isbn, String title, String author, int totalCopies) {
+		Book book = delegate.registerBook(isbn, title, author, totalCopies);
+		invalidateSearches(List.of(book));
+		return book;
+	}
+
+	@Override
+	public List<Book> registerBooks(List<Book> books) {
+		List<Book> registered = delegate.registerBooks(books);
+		invalidateSearches(registered);
+		return registered;
+	}
+
+	@Override
+	public List<Book> listBooks() {
+		return delegate.listBooks();
+	}
+
+	@Override
+	public List<Book> listBooks(long afterId, int limit) {
+		return delegate.listBooks(afterId, limit);
+	}
+
+	@Override
+	public Stream<Book> streamBooks() {
+		return delegate.streamBooks();
+	}
+
+	@Override
+	public List<Book> searchBooks(String keyword) {
+		if (keyword == null || keyword.isBlank()) {
+			return delegate.searchBooks(keyword); // 전체 목록은 캐시하지 않음
+		}
+		return search(new SearchKey(normalize(keyword), Integer.MAX_VALUE, false), () -> delegate.searchBooks(keyword));
+	}
+
+	@Override
+	public List<Book> searchBooks(String keyword, int limit) {
+		if (keyword == null || keyword.isBlank() || limit <= 0) {
+			return delegate.searchBooks(keyword, limit);
+		}
+		return search(new SearchKey(normalize(keyword), limit, false), () -> delegate.searchBooks(keyword, limit));
+	}
+
+	@Override
+	public List<Book> searchBooksFuzzy(String keyword, int limit) {
+		if (keyword == null || keyword.isBlank() || limit <= 0) {
+			return delegate.searchBooksFuzzy(keyword, limit);
+		}
+		return search(new SearchKey(normalize(keyword), limit, true), () -> delegate.searchBooksFuzzy(keyword, limit));
+	}
+
+	// 인기도가 대여마다 바뀌고 색인 조회가 이미 빠르므로 캐시하지 않음
+	@Override
+	public List<Completion> autocomplete(String prefix, int limit) {
+		return delegate.autocomplete(prefix, limit);
+	}
+
+	@Override
+	public Book getBook(long id) {
+		return books.get(id, delegate::getBook); // 없는 ID는 예외 그대로 전달 (캐시하지 않음)
+	}
+
+	/** getBook 캐시 통계 */
+	public CacheStats bookCacheStats() {
+		return books.stats();
+	}
+
+	/** searchBooks 캐시 통계 */
+	public CacheStats searchCacheStats() {
+		return searches.stats();
+	}
+
+	private List<Book> search(SearchKey key, Supplier<List<Book>> loader) {
+		List<List<Book>> tooLarge = new ArrayList<>(1);
+		List<Book> cached = searches.get(key, k -> {
+			List<Book> result = loader.get();
+			if (result.size() > MAX_CACHED_RESULTS) {
+				tooLarge.add(result);
+				return null;
+			}
+			return List.copyOf(result);
+		});
+		return (cached != null) ? new ArrayList<>(cached) : tooLarge.get(0); // 호출자가 고쳐도 캐시는 그대로
+	}
+
+	// 새 도서가 결과에 들어갈 검색어만 무효화 (검색 색인과 같은 규칙: 정규화한 제목/저자/ISBN에 포함, 오타 허용 검색은 모두)
+	private void invalidateSearches(List<Book> registered) {
+		if (registered.isEmpty()) {
+			return;
+		}
+		if (registered.size() > BULK_INVALIDATE_THRESHOLD) {
+			searches.invalidateAll();
+			return;
+		}
+		List<String> fields = new ArrayList<>(registered.size() * 3);
+		for (Book b : registered) {
+			fields.add(normalize(b.getTitle()));
+			fields.add(normalize(b.getAuthor()));
+			fields.add(normalize(b.getIsbn()));
+		}
+		searches.invalidateIf(key -> key.fuzzy() || fields.stream().anyMatch(f -> f.contains(key.keyword())));
+	}
+
+	private static String normalize(String s) {
+		return (s == null) ? "" : s.strip().toLowerCase(Locale.ROOT);
+	}
+
+	private record SearchKey(String keyword, int limit, boolean fuzzy) {
+	}
+}
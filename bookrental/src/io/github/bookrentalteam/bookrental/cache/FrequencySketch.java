@@ -0,0 +1,75 @@
+package io.github.bookrentalteam.bookrental.cache;
+
+/**
+ * 접근 빈도 근사 - 4bit 카운터 count-min sketch (long 하나에 카운터 16개).
+ * <p>
+ * 키마다 4개 행의 카운터 중 최솟값을 빈도로 본다. 증가 횟수가 표본 크기에 이르면 모든 카운터를 절반으로 줄여 오래된 인기도가 사라지게 한다.
+ * 스레드 안전하지 않으므로 캐시의 정책 잠금 안에서만 사용한다.
+ */
+final class FrequencySketch {
+
+	private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+			0xcbf29ce484222325L };
+	private static final long RESET_MASK = 0x7777777777777777L; // 절반으로 줄일 때 옆 카운터로 넘어가는 비트 제거
+	private static final int MAX_COUNT = 15;
+
+	private final long[] table;
+	private final int sampleSize;
+	private int additions;
+
+	FrequencySketch(int maximumSize) {
+		int length = Integer.highestOneBit(Math.max(16, maximumSize) - 1) << 1; // 2의 거듭제곱
+		this.table = new long[length];
+		this.sampleSize = 10 * length;
+	}
+
+	/** 추정 빈도 (0~15) */
+	int frequency(Object key) {
+		int hash = spread(key.hashCode());
+		int start = (hash & 3) << 2;
+		int frequency = MAX_COUNT;
+		for (int i = 0; i < 4; i++) {
+			int offset = (start + i) << 2;
+			frequency = Math.min(frequency, (int) ((table[indexOf(hash, i)] >>> offset) & 0xF));
+		}
+		return frequency;
+	}
+
+	/** 접근 1회 기록 */
+	void increment(Object key) {
+		int hash = spread(key.hashCode());
+		int start = (hash & 3) << 2;
+		boolean added = false;
+		for (int i = 0; i < 4; i++) {
+			int index = indexOf(hash, i);
+			int offset = (start + i) << 2;
+			if (((table[index] >>> offset) & 0xF) < MAX_COUNT) {
+				table[index] += 1L << offset;
+				added = true;
+			}
+		}
+		if (added && ++additions == sampleSize) {
+			reset();
+		}
+	}
+
+	// 모든 카운터 절반 (에이징)
+	private void reset() {
+		for (int i = 0; i < table.length; i++) {
+			table[i] = (table[i] >>> 1) & RESET_MASK;
+		}
+		additions >>>= 1;
+	}
+
+	private int indexOf(int hash, int row) {
+		long h = (hash + SEEDS[row]) * SEEDS[row];
+		h += h >>> 32;
+		return (int) h & (table.length - 1);
+	}
+
+	private static int spread(int h) {
+		h = ((h >>> 16) ^ h) * 0x45d9f3b;
+		h = ((h >>> 16) ^ h) * 0x45d9f3b;
+		return (h >>> 16) ^ h;
+	}
+}
@@ -0,0 +1,280 @@
+package io.github.bookrentalteam.bookrental.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 크기 제한 캐시 - W-TinyLFU 입장 정책 + LRU 퇴출.
+ * <p>
+ * 새 항목은 작은 창(window, 1%) LRU에 들어가고, 창에서 밀려난 항목은 본 영역(SLRU: probation 20% + protected 80%)의
+ * 퇴출 후보보다 접근 빈도가 높을 때만 입장한다. 빈도는 {@link FrequencySketch}로 근사하므로 한 번 스캔된 키가 자주 쓰이는 키를 밀어내지
+ * 못한다.
+ * <p>
+ * 조회는 ConcurrentHashMap에서 잠금 없이 하고, LRU 순서/빈도 기록은 정책 잠금을 tryLock으로 얻을 때만 한다 (경합 시 기록을 버려도
+ * 정확성에는 영향 없음). 적재 중에 같은 키가 무효화됐으면 적재한 값은 캐시에 넣지 않는다 (다른 키의 적재에는 영향 없음).
+ */
+public class WTinyLfuCache<K, V> {
+
+	private static final int WINDOW = 0;
+	private static final int PROBATION = 1;
+	private static final int PROTECTED = 2;
+	private static final int REMOVED = -1;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+	private final ReentrantLock policyLock = new ReentrantLock();
+	private final FrequencySketch sketch;
+	private final AccessQueue<K, V> window = new AccessQueue<>();
+	private final AccessQueue<K, V> probation = new AccessQueue<>();
+	private final AccessQueue<K, V> protectedQueue = new AccessQueue<>();
+	private final int windowMax;
+	private final int mainMax;
+	private final int protectedMax;
+	private final ConcurrentHashMap<K, Object> loads = new ConcurrentHashMap<>(); // 적재 중인 키 → 적재 표식 (무효화 시 제거)
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder invalidations = new LongAdder();
+
+	public WTinyLfuCache(int maximumSize) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다.");
+		}
+		this.windowMax = Math.max(1, maximumSize / 100);
+		this.mainMax = maximumSize - windowMax;
+		this.protectedMax = mainMax * 8 / 10;
+		this.sketch = new FrequencySketch(maximumSize);
+	}
+
+	/** 캐시된 값 (없으면 null) */
+	public V getIfPresent(K key) {
+		Node<K, V> node = data.get(key);
+		if (node == null) {
+			misses.increment();
+		} else {
+			hits.increment();
+		}
+		if (policyLock.tryLock()) {
+			try {
+				sketch.increment(key); // 없는 키도 빈도에 반영해야 다음 입장 판단에 쓰임
+				if (node != null) {
+					onAccess(node);
+				}
+			} finally {
+				policyLock.unlock();
+			}
+		}
+		return (node != null) ? node.value : null;
+	}
+
+	/** 캐시된 값, 없으면 loader로 적재 (loader가 null을 반환하거나 예외를 던지면 캐시하지 않음) */
+	public V get(K key, Function<? super K, ? extends V> loader) {
+		V value = getIfPresent(key);
+		if (value != null) {
+			return value;
+		}
+		Object load = new Object();
+		loads.put(key, load); // 같은 키를 동시에 적재하면 나중 적재만 넣음
+		try {
+			value = loader.apply(key); // 잠금 밖에서 적재
+			if (value != null) {
+				insert(key, value, load);
+			}
+			return value;
+		} finally {
+			loads.remove(key, load);
+		}
+	}
+
+	public void put(K key, V value) {
+		policyLock.lock();
+		try {
+			sketch.increment(key);
+			loads.remove(key); // 적재 중인 값보다 새 값
+			insert(key, value, null);
+		} finally {
+			policyLock.unlock();
+		}
+	}
+
+	public void invalidate(K key) {
+		policyLock.lock();
+		try {
+			loads.remove(key);
+			invalidations.increment();
+			Node<K, V> node = data.remove(key);
+			if (node != null) {
+				unlink(node);
+			}
+		} finally {
+			policyLock.unlock();
+		}
+	}
+
+	/** 조건에 맞는 키 무효화 - 캐시 크기만큼 순회 */
+	public void invalidateIf(Predicate<? super K> filter) {
+		policyLock.lock();
+		try {
+			loads.keySet().removeIf(filter);
+			invalidations.increment();
+			data.values().removeIf(node -> {
+				if (filter.test(node.key)) {
+					unlink(node);
+					return true;
+				}
+				return false;
+			});
+		} finally {
+			policyLock.unlock();
+		}
+	}
+
+	public void invalidateAll() {
+		invalidateIf(key -> true);
+	}
+
+	public long size() {
+		return data.size();
+	}
+
+	public CacheStats stats() {
+		return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(), data.size());
+	}
+
+	// 적재 표식(load)이 그 사이 무효화로 지워졌으면 오래된 값일 수 있으므로 넣지 않음 (load가 null이면 무조건)
+	private void insert(K key, V value, Object load) {
+		policyLock.lock();
+		try {
+			if (load != null && loads.get(key) != load) {
+				return;
+			}
+			Node<K, V> node = data.get(key);
+			if (node != null) {
+				node.value = value;
+				onAccess(node);
+				return;
+			}
+			node = new Node<>(key, value);
+			data.put(key, node);
+			node.queue = WINDOW;
+			window.addLast(node);
+			evict();
+		} finally {
+			policyLock.unlock();
+		}
+	}
+
+	// 창이 넘치면 창의 LRU 항목을 본 영역 퇴출 후보와 빈도로 겨루게 함
+	private void evict() {
+		while (window.size > windowMax) {
+			Node<K, V> candidate = window.pollFirst();
+			if (probation.size + protectedQueue.size < mainMax) {
+				candidate.queue = PROBATION;
+				probation.addLast(candidate);
+				continue;
+			}
+			Node<K, V> victim = (probation.size > 0) ? probation.first() : protectedQueue.first();
+			if (victim != null && sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+				unlink(victim);
+				data.remove(victim.key, victim);
+				candidate.queue = PROBATION;
+				probation.addLast(candidate);
+			} else {
+				candidate.queue = REMOVED;
+				data.remove(candidate.key, candidate);
+			}
+			evictions.increment();
+		}
+	}
+
+	private void onAccess(Node<K, V> node) {
+		switch (node.queue) {
+		case WINDOW -> window.moveToLast(node);
+		case PROBATION -> { // 두 번째 접근 → protected로 승격
+			probation.remove(node);
+			node.queue = PROTECTED;
+			protectedQueue.addLast(node);
+			if (protectedQueue.size > protectedMax) {
+				Node<K, V> demoted = protectedQueue.pollFirst();
+				demoted.queue = PROBATION;
+				probation.addLast(demoted);
+			}
+		}
+		case PROTECTED -> protectedQueue.moveToLast(node);
+		default -> {
+			// 이미 퇴출/무효화된 항목
+		}
+		}
+	}
+
+	private void unlink(Node<K, V> node) {
+		switch (node.queue) {
+		case WINDOW -> window.remove(node);
+		case PROBATION -> probation.remove(node);
+		case PROTECTED -> protectedQueue.remove(node);
+		default -> {
+		}
+		}
+		node.queue = REMOVED;
+	}
+
+	private static final class Node<K, V> {
+		final K key;
+		volatile V value;
+		int queue = REMOVED; // 이하 policyLock으로 보호
+		Node<K, V> prev;
+		Node<K, V> next;
+
+		Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	/** 접근 순서 이중 연결 리스트 (앞이 LRU) */
+	private static final class AccessQueue<K, V> {
+		private final Node<K, V> head = new Node<>(null, null); // 보초
+		int size;
+
+		AccessQueue() {
+			head.prev = head;
+			head.next = head;
+		}
+
+		Node<K, V> first() {
+			return (size > 0) ? head.next : null;
+		}
+
+		void addLast(Node<K, V> node) {
+			node.prev = head.prev;
+			node.next = head;
+			head.prev.next = node;
+			head.prev = node;
+			size++;
+		}
+
+		void remove(Node<K, V> node) {
+			node.prev.next = node.next;
+			node.next.prev = node.prev;
+			node.prev = null;
+			node.next = null;
+			size--;
+		}
+
+		Node<K, V> pollFirst() {
+			Node<K, V> node = first();
+			if (node != null) {
+				remove(node);
+			}
+			return node;
+		}
+
+		void moveToLast(Node<K, V> node) {
+			remove(node);
+			addLast(node);
+		}
+	}
+}
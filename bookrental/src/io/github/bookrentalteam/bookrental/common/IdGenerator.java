@@ -1,5 +1,84 @@
 package io.github.bookrentalteam.bookrental.common;
 
-public class IdGenerator {
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 엔티티 타입별 ID 발급기 (스레드 안전, lock-free)
+ * <p>
+ * 타입마다 하나의 시퀀스를 공유하며, 대량 등록용 구간 예약과 재시작 시 최대 ID 복원을 지원한다.
+ */
+public final class IdGenerator {
+
+	private static final Map<Class<?>, IdGenerator> GENERATORS = new ConcurrentHashMap<>();
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	private IdGenerator() {
+	}
+
+	/** 엔티티 타입별 발급기 (같은 타입이면 항상 같은 인스턴스) */
+	public static IdGenerator forType(Class<?> type) {
+		return GENERATORS.computeIfAbsent(type, t -> new IdGenerator());
+	}
+
+	/** 다음 ID 발급 */
+	public long next() {
+		return sequence.incrementAndGet();
+	}
+
+	/** 연속된 ID count개를 한 번에 예약 (대량 등록용) */
+	public Block reserve(int count) {
+		if (count <= 0) {
+			throw new IllegalArgumentException("예약 개수는 1 이상이어야 합니다: " + count);
+		}
+		long last = sequence.addAndGet(count);
+		return new Block(last - count + 1, last);
+	}
+
+	/** 마지막으로 발급된 ID */
+	public long current() {
+		return sequence.get();
+	}
+
+	/** 저장된 최대 ID로 시퀀스 복원 (이미 더 크면 그대로 유지) */
+	public void advanceTo(long highWaterMark) {
+		if (sequence.get() >= highWaterMark) {
+			return; // 대부분의 경우 쓰기 없이 반환
+		}
+		sequence.accumulateAndGet(highWaterMark, Math::max);
+	}
+
+	/** 예약된 ID 구간 [first, last] - 단일 스레드에서 순서대로 소비 */
+	public static final class Block {
+		private final long first;
+		private final long last;
+		private long cursor;
+
+		private Block(long first, long last) {
+			this.first = first;
+			this.last = last;
+			this.cursor = first;
+		}
+
+		public long first() {
+			return first;
+		}
+
+		public long last() {
+			return last;
+		}
+
+		public boolean hasNext() {
+			return cursor <= last;
+		}
+
+		public long next() {
+			if (cursor > last) {
+				throw new IllegalStateException("예약된 ID를 모두 사용했습니다.");
+			}
+			return cursor++;
+		}
+	}
 }
@@ -0,0 +1,177 @@
+package io.github.bookrentalteam.bookrental.common.collection;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * long 키 → int 값(0 이상) 오픈 어드레싱 해시 색인 - 박싱 없이 수천만 건을 담기 위한 용도.
+ * <p>
+ * 같은 키에 여러 값을 넣을 수 있으며(해시 충돌 허용 색인), 조회 시 조건에 맞는 값을 고른다. 스레드 안전하지 않다. 배열을 그대로 저장/복원할
+ * 수 있어 다시 열 때 색인을 새로 만들지 않아도 된다.
+ */
+public final class LongIntHashIndex {
+	private static final int EMPTY = -1;
+	private static final int DELETED = -2;
+	private static final int IO_CHUNK = 1 << 20; // 저장/복원 버퍼 (byte)
+
+	private long[] keys;
+	private int[] values;
+	private int mask;
+	private int size; // 유효 항목
+	private int used; // 유효 + 삭제 표시
+
+	public LongIntHashIndex(int expected) {
+		int capacity = Integer.highestOneBit(Math.max(16, expected * 2 - 1)) << 1;
+		allocate(capacity);
+	}
+
+	public void put(long key, int value) {
+		if ((used + 1) * 4L >= values.length * 3L) {
+			rehash(size * 4L >= values.length ? values.length * 2 : values.length);
+		}
+		int i = slot(key);
+		while (values[i] >= 0) {
+			i = (i + 1) & mask;
+		}
+		if (values[i] == EMPTY) {
+			used++;
+		}
+		keys[i] = key;
+		values[i] = value;
+		size++;
+	}
+
+	public boolean remove(long key, int value) {
+		for (int i = slot(key); values[i] != EMPTY; i = (i + 1) & mask) {
+			if (values[i] == value && keys[i] == key) {
+				values[i] = DELETED;
+				size--;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** key에 매핑된 값 중 accept를 만족하는 첫 값 (없으면 -1) */
+	public int find(long key, IntPredicate accept) {
+		for (int i = slot(key); values[i] != EMPTY; i = (i + 1) & mask) {
+			if (values[i] >= 0 && keys[i] == key && accept.test(values[i])) {
+				return values[i];
+			}
+		}
+		return -1;
+	}
+
+	/** key에 매핑된 첫 값 (없으면 -1) */
+	public int get(long key) {
+		for (int i = slot(key); values[i] != EMPTY; i = (i + 1) & mask) {
+			if (values[i] >= 0 && keys[i] == key) {
+				return values[i];
+			}
+		}
+		return -1;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/** 채널에 배열 그대로 기록 - readFrom으로 복원 */
+	public void writeTo(WritableByteChannel out) throws IOException {
+		ByteBuffer buf = ByteBuffer.allocate(IO_CHUNK);
+		buf.putInt(values.length).putInt(size).putInt(used).flip();
+		writeFully(out, buf);
+		for (int i = 0; i < keys.length;) {
+			int n = Math.min(keys.length - i, IO_CHUNK / Long.BYTES);
+			buf.clear();
+			buf.asLongBuffer().put(keys, i, n);
+			buf.limit(n * Long.BYTES);
+			writeFully(out, buf);
+			i += n;
+		}
+		for (int i = 0; i < values.length;) {
+			int n = Math.min(values.length - i, IO_CHUNK / Integer.BYTES);
+			buf.clear();
+			buf.asIntBuffer().put(values, i, n);
+			buf.limit(n * Integer.BYTES);
+			writeFully(out, buf);
+			i += n;
+		}
+	}
+
+	/** writeTo로 기록한 색인 복원 */
+	public static LongIntHashIndex readFrom(ReadableByteChannel in) throws IOException {
+		ByteBuffer buf = ByteBuffer.allocate(IO_CHUNK);
+		readFully(in, buf, 3 * Integer.BYTES);
+		int capacity = buf.getInt();
+		if (capacity < 16 || Integer.bitCount(capacity) != 1) {
+			throw new IOException("색인 형식이 올바르지 않습니다.");
+		}
+		LongIntHashIndex index = new LongIntHashIndex(1);
+		index.keys = new long[capacity];
+		index.values = new int[capacity];
+		index.mask = capacity - 1;
+		index.size = buf.getInt();
+		index.used = buf.getInt();
+		for (int i = 0; i < capacity;) {
+			int n = Math.min(capacity - i, IO_CHUNK / Long.BYTES);
+			readFully(in, buf, n * Long.BYTES);
+			buf.asLongBuffer().get(index.keys, i, n);
+			i += n;
+		}
+		for (int i = 0; i < capacity;) {
+			int n = Math.min(capacity - i, IO_CHUNK / Integer.BYTES);
+			readFully(in, buf, n * Integer.BYTES);
+			buf.asIntBuffer().get(index.values, i, n);
+			i += n;
+		}
+		return index;
+	}
+
+	private static void writeFully(WritableByteChannel out, ByteBuffer buf) throws IOException {
+		while (buf.hasRemaining()) {
+			out.write(buf);
+		}
+	}
+
+	// length byte를 읽어 buf를 읽기 상태로 둠
+	private static void readFully(ReadableByteChannel in, ByteBuffer buf, int length) throws IOException {
+		buf.clear().limit(length);
+		while (buf.hasRemaining()) {
+			if (in.read(buf) < 0) {
+				throw new EOFException("색인 파일이 잘렸습니다.");
+			}
+		}
+		buf.flip();
+	}
+
+	private int slot(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32)) & mask;
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new int[capacity];
+		Arrays.fill(values, EMPTY);
+		mask = capacity - 1;
+		size = 0;
+		used = 0;
+	}
+
+	private void rehash(int capacity) {
+		long[] oldKeys = keys;
+		int[] oldValues = values;
+		allocate(capacity);
+		for (int i = 0; i < oldValues.length; i++) {
+			if (oldValues[i] >= 0) {
+				put(oldKeys[i], oldValues[i]);
+			}
+		}
+	}
+}
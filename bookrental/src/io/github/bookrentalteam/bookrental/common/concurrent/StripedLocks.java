@@ -0,0 +1,56 @@
+package io.github.bookrentalteam.bookrental.common.concurrent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 키(회원 ID 등) 단위 락 - 전역 락 대신 고정 개수의 락을 해시로 나눠 쓴다.
+ */
+public class StripedLocks {
+	private final ReentrantLock[] locks;
+	private final int mask;
+
+	/** stripes는 2의 거듭제곱으로 올림 */
+	public StripedLocks(int stripes) {
+		if (stripes <= 0) {
+			throw new IllegalArgumentException("락 개수는 1 이상이어야 합니다: " + stripes);
+		}
+		int size = Integer.highestOneBit(stripes - 1) << 1;
+		if (size <= 0) {
+			size = 1;
+		}
+		this.locks = new ReentrantLock[size];
+		for (int i = 0; i < size; i++) {
+			locks[i] = new ReentrantLock();
+		}
+		this.mask = size - 1;
+	}
+
+	/** 키에 해당하는 락 */
+	public ReentrantLock get(long key) {
+		return locks[index(key)];
+	}
+
+	/** 여러 키의 락 - 중복 없이 락 번호 순으로 반환하므로 차례로 잠그면 교착되지 않음 */
+	public List<ReentrantLock> getAll(long... keys) {
+		int[] indexes = new int[keys.length];
+		for (int i = 0; i < keys.length; i++) {
+			indexes[i] = index(keys[i]);
+		}
+		Arrays.sort(indexes);
+		List<ReentrantLock> result = new ArrayList<>(Math.min(keys.length, locks.length));
+		for (int i = 0; i < indexes.length; i++) {
+			if (i == 0 || indexes[i] != indexes[i - 1]) {
+				result.add(locks[indexes[i]]);
+			}
+		}
+		return result;
+	}
+
+	private int index(long key) {
+		long h = key * 0x9E3779B97F4A7C15L; // 연속된 ID가 같은 락에 몰리지 않도록 섞음
+		return (int) (h >>> 32) & mask;
+	}
+}
@@ -0,0 +1,21 @@
+package io.github.bookrentalteam.bookrental.common.exception;
+
+/** 처리 용량 초과 예외 - 잠시 후 다시 시도하면 되는 일시적 거절 */
+public class OverloadedException extends BusinessException {
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+
+	private final int retryAfterSeconds;
+
+	public OverloadedException(String message, int retryAfterSeconds) {
+		super(message);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	/** 다시 시도하기까지 권장 대기 시간(초) */
+	public int getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
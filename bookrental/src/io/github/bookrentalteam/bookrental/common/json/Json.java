@@ -0,0 +1,169 @@
+package io.github.bookrentalteam.bookrental.common.json;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.github.bookrentalteam.bookrental.common.exception.ValidationException;
+
+/**
+ * 최소한의 JSON 유틸 - 스트리밍 출력과 평면(중첩 없는) 객체 파싱만 지원
+ */
+public final class Json {
+
+	private Json() {
+	}
+
+	/** 문자열 값을 JSON 문자열로 출력 */
+	public static void writeString(Writer out, String value) throws IOException {
+		if (value == null) {
+			out.write("null");
+			return;
+		}
+		out.write('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+			case '"' -> out.write("\\\"");
+			case '\\' -> out.write("\\\\");
+			case '\n' -> out.write("\\n");
+			case '\r' -> out.write("\\r");
+			case '\t' -> out.write("\\t");
+			default -> {
+				if (c < 0x20) {
+					out.write(String.format("\\u%04x", (int) c));
+				} else {
+					out.write(c);
+				}
+			}
+			}
+		}
+		out.write('"');
+	}
+
+	/** {"키": 값, ...} 형태의 평면 객체 파싱 (값은 문자열로 반환, null은 제외) */
+	public static Map<String, String> parseObject(String json) {
+		Parser p = new Parser(json);
+		Map<String, String> result = new LinkedHashMap<>();
+		p.skipWhitespace();
+		if (p.eof()) {
+			return result; // 빈 본문
+		}
+		p.expect('{');
+		p.skipWhitespace();
+		if (p.peek() == '}') {
+			p.pos++;
+			return result;
+		}
+		while (true) {
+			p.skipWhitespace();
+			String key = p.readString();
+			p.skipWhitespace();
+			p.expect(':');
+			p.skipWhitespace();
+			String value = p.readValue();
+			if (value != null) {
+				result.put(key, value);
+			}
+			p.skipWhitespace();
+			char c = p.next();
+			if (c == '}') {
+				break;
+			}
+			if (c != ',') {
+				throw new ValidationException("JSON 형식이 올바르지 않습니다.");
+			}
+		}
+		return result;
+	}
+
+	private static final class Parser {
+		private final String s;
+		private int pos;
+
+		Parser(String s) {
+			this.s = s;
+		}
+
+		boolean eof() {
+			return pos >= s.length();
+		}
+
+		char peek() {
+			if (eof()) {
+				throw new ValidationException("JSON 형식이 올바르지 않습니다.");
+			}
+			return s.charAt(pos);
+		}
+
+		char next() {
+			char c = peek();
+			pos++;
+			return c;
+		}
+
+		void expect(char c) {
+			if (next() != c) {
+				throw new ValidationException("JSON 형식이 올바르지 않습니다.");
+			}
+		}
+
+		void skipWhitespace() {
+			while (!eof() && Character.isWhitespace(s.charAt(pos))) {
+				pos++;
+			}
+		}
+
+		String readValue() {
+			char c = peek();
+			if (c == '"') {
+				return readString();
+			}
+			int start = pos;
+			while (!eof() && ",}] \t\r\n".indexOf(s.charAt(pos)) < 0) {
+				pos++;
+			}
+			String literal = s.substring(start, pos);
+			if (literal.isEmpty() || c == '{' || c == '[') {
+				throw new ValidationException("JSON 값은 문자열/숫자/논리값만 지원합니다.");
+			}
+			return literal.equals("null") ? null : literal;
+		}
+
+		String readString() {
+			expect('"');
+			StringBuilder sb = new StringBuilder();
+			while (true) {
+				char c = next();
+				if (c == '"') {
+					return sb.toString();
+				}
+				if (c != '\\') {
+					sb.append(c);
+					continue;
+				}
+				char e = next();
+				switch (e) {
+				case 'n' -> sb.append('\n');
+				case 'r' -> sb.append('\r');
+				case 't' -> sb.append('\t');
+				case 'b' -> sb.append('\b');
+				case 'f' -> sb.append('\f');
+				case 'u' -> {
+					if (pos + 4 > s.length()) {
+						throw new ValidationException("JSON 형식이 올바르지 않습니다.");
+					}
+					try {
+						sb.append((char) Integer.parseInt(s.substring(pos, pos + 4), 16));
+					} catch (NumberFormatException ex) {
+						throw new ValidationException("JSON 형식이 올바르지 않습니다.");
+					}
+					pos += 4;
+				}
+				default -> sb.append(e); // \" \\ \/
+				}
+			}
+		}
+	}
+}
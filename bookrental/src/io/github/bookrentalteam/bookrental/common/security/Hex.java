@@ -0,0 +1,31 @@
+package io.github.bookrentalteam.bookrental.common.security;
+
+/** 16진수 인코딩 (String.format 없이 표 조회) */
+final class Hex {
+	private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+
+	private Hex() {
+	}
+
+	static String encode(byte[] bytes) {
+		char[] out = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			out[i * 2] = DIGITS[(bytes[i] >> 4) & 0x0f];
+			out[i * 2 + 1] = DIGITS[bytes[i] & 0x0f];
+		}
+		return new String(out);
+	}
+
+	static boolean isHex(String s, int length) {
+		if (s == null || s.length() != length) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			char c = s.charAt(i);
+			if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
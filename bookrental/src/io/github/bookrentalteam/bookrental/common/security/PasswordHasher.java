@@ -0,0 +1,18 @@
+package io.github.bookrentalteam.bookrental.common.security;
+
+/**
+ * 비밀번호 해시 알고리즘
+ */
+public interface PasswordHasher {
+	/** 비밀번호 해시 (저장용 문자열) */
+	String hash(String rawPw);
+
+	/** 이 알고리즘으로 만든 해시 문자열인지 */
+	boolean supports(String hashedPw);
+
+	/** 비밀번호 비교 (상수 시간) */
+	boolean matches(String rawPw, String hashedPw);
+
+	/** 현재 설정보다 약한 해시라 다시 해시해야 하는지 */
+	boolean needsRehash(String hashedPw);
+}
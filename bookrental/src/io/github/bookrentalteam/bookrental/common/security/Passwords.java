@@ -1,30 +1,111 @@
 package io.github.bookrentalteam.bookrental.common.security;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.bookrentalteam.bookrental.common.exception.BusinessException;
+import io.github.bookrentalteam.bookrental.common.exception.OverloadedException;
 
 /**
- * 비밀번호 해시/검증 유틸 - 간단히 SHA-256 기반 (실무에서는 BCrypt/Scrypt 권장)
+ * 비밀번호 해시/검증 유틸 - 새 해시는 솔트 + PBKDF2, 기존 SHA-256 해시도 검증 가능
+ * <p>
+ * 해시 문자열 형식으로 알고리즘을 구분하므로 설정(반복 횟수)을 바꿔도 기존 회원은 그대로 로그인되고, needsRehash로 교체 여부를 알 수 있다.
  */
 public class Passwords {
 
+	private static final PasswordHasher PBKDF2 = new Pbkdf2PasswordHasher(); // 반복 횟수는 해시 문자열에서 읽음
+	private static final PasswordHasher LEGACY = new Sha256PasswordHasher();
+
+	private static final int RETRY_AFTER_SECONDS = 1; // 대기열이 가득 찼을 때 권장 재시도 간격
+
+	private static volatile PasswordHasher current = new Pbkdf2PasswordHasher();
+	private static volatile ThreadPoolExecutor verifyPool; // null이면 호출 스레드에서 검증
+
 	/** 비밀번호 해시 */
 	public static String hash(String rawPw) {
-		try {
-			MessageDigest md = MessageDigest.getInstance("SHA-256");
-			byte[] hash = md.digest(rawPw.getBytes());
-			StringBuilder sb = new StringBuilder();
-			for (byte b : hash) {
-				sb.append(String.format("%02x", b));
-			}
-			return sb.toString();
-		} catch (NoSuchAlgorithmException e) {
-			throw new RuntimeException("해시 알고리즘 오류", e);
-		}
+		return current.hash(rawPw);
 	}
 
 	/** 비밀번호 비교 */
 	public static boolean matches(String rawPw, String hashedPw) {
-		return hash(rawPw).equals(hashedPw);
+		return runLimited(() -> verify(rawPw, hashedPw));
+	}
+
+	/** 로그인 성공 후 현재 설정으로 다시 해시 - 검증과 같은 풀에서 실행 */
+	public static String rehash(String rawPw) {
+		return runLimited(() -> current.hash(rawPw));
+	}
+
+	/** 현재 설정보다 약한 해시인지 (로그인 성공 시 다시 해시하는 용도) */
+	public static boolean needsRehash(String hashedPw) {
+		PasswordHasher hasher = current;
+		return !hasher.supports(hashedPw) || hasher.needsRehash(hashedPw);
+	}
+
+	/** 새 해시에 사용할 알고리즘 교체 (예: 반복 횟수 상향) */
+	public static void setHasher(PasswordHasher hasher) {
+		current = hasher;
+	}
+
+	/**
+	 * 비밀번호 검증/재해시를 threads개 스레드 + queueSize 대기열로 제한. 대기열이 가득 차면 OverloadedException.
+	 */
+	public static synchronized void limitVerification(int threads, int queueSize) {
+		AtomicInteger seq = new AtomicInteger();
+		ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(queueSize), r -> {
+					Thread t = new Thread(r, "password-verify-" + seq.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				});
+		pool.allowCoreThreadTimeOut(true);
+		ThreadPoolExecutor previous = verifyPool;
+		verifyPool = pool;
+		if (previous != null) {
+			previous.shutdown();
+		}
+	}
+
+	// 검증 전용 풀에서 실행 - 로그인이 몰려도 동시에 해시를 계산하는 스레드 수는 풀 크기로 제한
+	private static <T> T runLimited(Callable<T> task) {
+		ThreadPoolExecutor pool = verifyPool;
+		if (pool == null) {
+			try {
+				return task.call();
+			} catch (Exception e) {
+				throw (e instanceof RuntimeException re) ? re : new IllegalStateException(e);
+			}
+		}
+		Future<T> result;
+		try {
+			result = pool.submit(task);
+		} catch (RejectedExecutionException e) {
+			throw new OverloadedException("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.", RETRY_AFTER_SECONDS);
+		}
+		try {
+			return result.get();
+		} catch (InterruptedException e) {
+			result.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new BusinessException("비밀번호 검증이 중단되었습니다.");
+		} catch (ExecutionException e) {
+			throw (e.getCause() instanceof RuntimeException re) ? re : new IllegalStateException(e.getCause());
+		}
+	}
+
+	private static boolean verify(String rawPw, String hashedPw) {
+		for (PasswordHasher hasher : List.of(current, PBKDF2, LEGACY)) {
+			if (hasher.supports(hashedPw)) {
+				return hasher.matches(rawPw, hashedPw);
+			}
+		}
+		return false;
 	}
 }
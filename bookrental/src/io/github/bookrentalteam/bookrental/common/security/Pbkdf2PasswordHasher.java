@@ -0,0 +1,132 @@
+package io.github.bookrentalteam.bookrental.common.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 솔트 + PBKDF2-HMAC-SHA256 해시.
+ * <p>
+ * 형식: {@code $pbkdf2-sha256$<반복 횟수>$<솔트 base64>$<해시 base64>}. 반복 횟수가 해시에 들어 있으므로 비용을 올려도 기존 해시는
+ * 그대로 검증되고, needsRehash로 로그인 시 새 비용으로 교체할 수 있다.
+ */
+public class Pbkdf2PasswordHasher implements PasswordHasher {
+
+	static final String PREFIX = "$pbkdf2-sha256$";
+	public static final int DEFAULT_ITERATIONS = 210_000;
+
+	private static final int SALT_BYTES = 16;
+	private static final int HASH_BYTES = 32; // HMAC-SHA256 한 블록
+	private static final SecureRandom RANDOM = new SecureRandom();
+	private static final Base64.Encoder B64 = Base64.getEncoder().withoutPadding();
+	private static final Base64.Decoder B64_DECODER = Base64.getDecoder();
+
+	// Mac은 스레드 안전하지 않으므로 스레드별로 재사용
+	private static final ThreadLocal<Mac> HMAC = ThreadLocal.withInitial(() -> {
+		try {
+			return Mac.getInstance("HmacSHA256");
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("해시 알고리즘 오류", e);
+		}
+	});
+
+	private final int iterations;
+
+	public Pbkdf2PasswordHasher() {
+		this(DEFAULT_ITERATIONS);
+	}
+
+	public Pbkdf2PasswordHasher(int iterations) {
+		if (iterations < 1) {
+			throw new IllegalArgumentException("반복 횟수는 1 이상이어야 합니다: " + iterations);
+		}
+		this.iterations = iterations;
+	}
+
+	public int getIterations() {
+		return iterations;
+	}
+
+	@Override
+	public String hash(String rawPw) {
+		byte[] salt = new byte[SALT_BYTES];
+		RANDOM.nextBytes(salt);
+		byte[] hash = derive(rawPw, salt, iterations);
+		return PREFIX + iterations + "$" + B64.encodeToString(salt) + "$" + B64.encodeToString(hash);
+	}
+
+	@Override
+	public boolean supports(String hashedPw) {
+		return hashedPw != null && hashedPw.startsWith(PREFIX);
+	}
+
+	@Override
+	public boolean matches(String rawPw, String hashedPw) {
+		Parsed parsed = parse(hashedPw);
+		if (parsed == null) {
+			return false;
+		}
+		return MessageDigest.isEqual(derive(rawPw, parsed.salt(), parsed.iterations()), parsed.hash());
+	}
+
+	@Override
+	public boolean needsRehash(String hashedPw) {
+		Parsed parsed = parse(hashedPw);
+		return parsed == null || parsed.iterations() < iterations;
+	}
+
+	// PBKDF2 (출력 길이 = HMAC 길이이므로 블록 1개)
+	private static byte[] derive(String rawPw, byte[] salt, int iterations) {
+		byte[] key = rawPw.getBytes(StandardCharsets.UTF_8);
+		if (key.length == 0) {
+			key = new byte[] { 0 }; // HMAC에서 빈 키와 0x00 한 바이트 키는 같은 결과
+		}
+		try {
+			Mac mac = HMAC.get();
+			mac.init(new SecretKeySpec(key, "HmacSHA256"));
+			byte[] u = new byte[HASH_BYTES];
+			byte[] result = new byte[HASH_BYTES];
+
+			mac.update(salt);
+			mac.update(new byte[] { 0, 0, 0, 1 }); // 블록 번호 INT(1)
+			mac.doFinal(u, 0);
+			System.arraycopy(u, 0, result, 0, HASH_BYTES);
+			for (int i = 1; i < iterations; i++) {
+				mac.update(u);
+				mac.doFinal(u, 0); // 버퍼 재사용
+				for (int j = 0; j < HASH_BYTES; j++) {
+					result[j] ^= u[j];
+				}
+			}
+			return result;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("해시 계산 오류", e);
+		}
+	}
+
+	private static Parsed parse(String hashedPw) {
+		if (hashedPw == null || !hashedPw.startsWith(PREFIX)) {
+			return null;
+		}
+		String[] parts = hashedPw.substring(PREFIX.length()).split("\\$");
+		if (parts.length != 3) {
+			return null;
+		}
+		try {
+			int iterations = Integer.parseInt(parts[0]);
+			return (iterations >= 1)
+					? new Parsed(iterations, B64_DECODER.decode(parts[1]), B64_DECODER.decode(parts[2]))
+					: null;
+		} catch (IllegalArgumentException e) {
+			return null; // 형식 오류
+		}
+	}
+
+	private record Parsed(int iterations, byte[] salt, byte[] hash) {
+	}
+}
@@ -0,0 +1,58 @@
+package io.github.bookrentalteam.bookrental.common.security;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 기존 방식(솔트 없는 SHA-256 hex) - 이미 가입한 회원의 비밀번호 검증용. 새 해시는 만들지 않는 것을 권장.
+ */
+public class Sha256PasswordHasher implements PasswordHasher {
+
+	// MessageDigest는 스레드 안전하지 않으므로 스레드별로 재사용
+	private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("해시 알고리즘 오류", e);
+		}
+	});
+
+	@Override
+	public String hash(String rawPw) {
+		return Hex.encode(digest(rawPw, StandardCharsets.UTF_8));
+	}
+
+	@Override
+	public boolean supports(String hashedPw) {
+		return Hex.isHex(hashedPw, 64);
+	}
+
+	@Override
+	public boolean matches(String rawPw, String hashedPw) {
+		if (constantTimeEquals(hash(rawPw), hashedPw)) {
+			return true;
+		}
+		// 예전 해시는 플랫폼 기본 인코딩으로 만들어졌으므로 UTF-8이 아니면 한 번 더 비교
+		Charset platform = Charset.defaultCharset();
+		return !platform.equals(StandardCharsets.UTF_8)
+				&& constantTimeEquals(Hex.encode(digest(rawPw, platform)), hashedPw);
+	}
+
+	@Override
+	public boolean needsRehash(String hashedPw) {
+		return true; // 솔트가 없으므로 항상 교체 대상
+	}
+
+	private static byte[] digest(String rawPw, Charset charset) {
+		MessageDigest md = SHA256.get();
+		md.reset();
+		return md.digest(rawPw.getBytes(charset));
+	}
+
+	static boolean constantTimeEquals(String a, String b) {
+		return b != null && MessageDigest.isEqual(a.getBytes(StandardCharsets.US_ASCII),
+				b.getBytes(StandardCharsets.US_ASCII));
+	}
+}
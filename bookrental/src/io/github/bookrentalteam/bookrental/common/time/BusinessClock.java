@@ -0,0 +1,67 @@
+package io.github.bookrentalteam.bookrental.common.time;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 업무 시계 - 도메인이 읽는 "오늘"을 한 곳에서 제공한다.
+ * <p>
+ * 오늘 날짜는 자정까지 캐시하므로 매 호출마다 시간대 계산을 하지 않는다. 전역 시계는 setCurrent로 교체할 수 있어 부하 시뮬레이션이나
+ * 과거 날짜의 더미 데이터 생성에 쓸 수 있다.
+ */
+public final class BusinessClock {
+
+	private static volatile BusinessClock current = new BusinessClock(Clock.systemDefaultZone());
+
+	private final Clock clock;
+	private volatile Day cached = new Day(LocalDate.MIN, Long.MAX_VALUE, Long.MIN_VALUE); // 첫 호출 시 계산
+
+	public BusinessClock(Clock clock) {
+		this.clock = clock;
+	}
+
+	/** 현재 사용 중인 업무 시계 */
+	public static BusinessClock current() {
+		return current;
+	}
+
+	/** 업무 시계 교체 */
+	public static void setCurrent(BusinessClock clock) {
+		current = clock;
+	}
+
+	/** 특정 날짜에 고정된 시계 */
+	public static BusinessClock fixed(LocalDate day) {
+		ZoneId zone = ZoneId.systemDefault();
+		return new BusinessClock(Clock.fixed(day.atStartOfDay(zone).toInstant(), zone));
+	}
+
+	/** 오늘 (업무일) - 자정이 지나야 다시 계산 */
+	public LocalDate today() {
+		long now = clock.millis();
+		Day day = cached;
+		if (now >= day.startMillis() && now < day.endMillis()) {
+			return day.date();
+		}
+		return roll(now);
+	}
+
+	/** 내부 시계 */
+	public Clock clock() {
+		return clock;
+	}
+
+	private LocalDate roll(long now) {
+		ZoneId zone = clock.getZone();
+		LocalDate date = LocalDate.ofInstant(Instant.ofEpochMilli(now), zone);
+		long start = date.atStartOfDay(zone).toInstant().toEpochMilli();
+		long end = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+		cached = new Day(date, start, end);
+		return date;
+	}
+
+	private record Day(LocalDate date, long startMillis, long endMillis) {
+	}
+}
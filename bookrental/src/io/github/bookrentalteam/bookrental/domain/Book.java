@@ -1,18 +1,48 @@
 package io.github.bookrentalteam.bookrental.domain;
 
+import io.github.bookrentalteam.bookrental.common.IdGenerator;
 import io.github.bookrentalteam.bookrental.common.exception.ValidationException;
 
 public class Book {
-	private static long sequence = 0; // auto-increment
+	private static final IdGenerator ID_GENERATOR = IdGenerator.forType(Book.class); // auto-increment
 
 	private Long id;
 	private String isbn;
 	private String title;
 	private String author;
 	private int totalCopies;
-	private int availableCopies;
+	private final StockCounter availableCopies; // 동시 대여/반납 시 CAS로 갱신
 
 	public Book(String isbn, String title, String author, int totalCopies) {
+		validate(isbn, title, author, totalCopies);
+
+		this.id = ID_GENERATOR.next();
+		this.isbn = isbn;
+		this.title = title;
+		this.author = author;
+		this.totalCopies = totalCopies;
+		this.availableCopies = StockCounter.of(totalCopies);
+	}
+
+	/** 미리 예약한 ID 구간에서 ID를 받아 생성 (대량 등록용 - 도서마다 공유 시퀀스를 갱신하지 않음) */
+	public Book(IdGenerator.Block ids, String isbn, String title, String author, int totalCopies) {
+		validate(isbn, title, author, totalCopies);
+
+		this.id = ids.next();
+		this.isbn = isbn;
+		this.title = title;
+		this.author = author;
+		this.totalCopies = totalCopies;
+		this.availableCopies = StockCounter.of(totalCopies);
+	}
+
+	/** 도서 ID count개를 한 번에 예약 */
+	public static IdGenerator.Block reserveIds(int count) {
+		return ID_GENERATOR.reserve(count);
+	}
+
+	/** 생성자와 같은 규칙으로 검증 (ID를 발급하지 않음) */
+	public static void validate(String isbn, String title, String author, int totalCopies) {
 		if (isbn == null || isbn.isBlank()) {
 			throw new ValidationException("ISBN은 필수입니다.");
 		}
@@ -25,13 +55,28 @@ public class Book {
 		if (totalCopies < 0) {
 			throw new ValidationException("총 권수는 0 이상이어야 합니다.");
 		}
+	}
 
-		this.id = ++sequence;
+	private Book(Long id, String isbn, String title, String author, int totalCopies, StockCounter availableCopies) {
+		this.id = id;
 		this.isbn = isbn;
 		this.title = title;
 		this.author = author;
 		this.totalCopies = totalCopies;
-		this.availableCopies = totalCopies;
+		this.availableCopies = availableCopies;
+	}
+
+	/** 저장소 복구용 - 저장된 ID/상태 그대로 재구성 (ID 발급기는 복구된 ID 이후로 전진) */
+	public static Book restore(long id, String isbn, String title, String author, int totalCopies,
+			int availableCopies) {
+		return restore(id, isbn, title, author, totalCopies, StockCounter.of(availableCopies));
+	}
+
+	/** 저장소 복구용 - 재고를 저장소가 관리하는 카운터로 직접 갱신 */
+	public static Book restore(long id, String isbn, String title, String author, int totalCopies,
+			StockCounter availableCopies) {
+		ID_GENERATOR.advanceTo(id);
+		return new Book(id, isbn, title, author, totalCopies, availableCopies);
 	}
 
 	// getter/setter
@@ -56,21 +101,31 @@ public class Book {
 	}
 
 	public int getAvailableCopies() {
-		return availableCopies;
+		return availableCopies.get();
 	}
 
 	// 비즈니스 로직
 	public boolean rent() {
-		if (availableCopies > 0) {
-			availableCopies--;
-			return true;
+		while (true) {
+			int current = availableCopies.get();
+			if (current <= 0) {
+				return false;
+			}
+			if (availableCopies.compareAndSet(current, current - 1)) {
+				return true;
+			}
 		}
-		return false;
 	}
 
 	public void returnBook() {
-		if (availableCopies < totalCopies) {
-			availableCopies++;
+		while (true) {
+			int current = availableCopies.get();
+			if (current >= totalCopies) {
+				return;
+			}
+			if (availableCopies.compareAndSet(current, current + 1)) {
+				return;
+			}
 		}
 	}
 }
@@ -2,18 +2,21 @@ package io.github.bookrentalteam.bookrental.domain;
 
 import java.time.LocalDate;
 
+import io.github.bookrentalteam.bookrental.common.IdGenerator;
+import io.github.bookrentalteam.bookrental.common.exception.OverloadedException;
 import io.github.bookrentalteam.bookrental.common.exception.ValidationException;
 import io.github.bookrentalteam.bookrental.common.security.Passwords;
+import io.github.bookrentalteam.bookrental.common.time.BusinessClock;
 
 public class Member {
-	private static long sequence = 0;
+	private static final IdGenerator ID_GENERATOR = IdGenerator.forType(Member.class);
 
 	private Long id;
 	private String name;
 	private String email;
-	private String passwordHash;
+	private volatile String passwordHash; // 로그인 시 다른 스레드가 교체할 수 있음
 	private Role role;
-	private LocalDate suspendUntil; // 대여 정지 종료일(null이면 제재 없음)
+	private volatile LocalDate suspendUntil; // 대여 정지 종료일(null이면 제재 없음)
 
 	public Member(String name, String email, String passwordHash, Role role) {
 		if (name == null || name.isBlank()) {
@@ -26,13 +29,30 @@ public class Member {
 			throw new ValidationException("비밀번호는 필수입니다.");
 		}
 
-		this.id = ++sequence;
+		this.id = ID_GENERATOR.next();
 		this.name = name;
 		this.email = email;
 		this.passwordHash = passwordHash;
 		this.role = (role != null) ? role : Role.USER;
 	}
 
+	private Member() {
+	}
+
+	/** 저장소 복구용 - 저장된 ID/상태 그대로 재구성 (ID 발급기는 복구된 ID 이후로 전진) */
+	public static Member restore(long id, String name, String email, String passwordHash, Role role,
+			LocalDate suspendUntil) {
+		ID_GENERATOR.advanceTo(id);
+		Member m = new Member();
+		m.id = id;
+		m.name = name;
+		m.email = email;
+		m.passwordHash = passwordHash;
+		m.role = role;
+		m.suspendUntil = suspendUntil;
+		return m;
+	}
+
 	// getter
 	public Long getId() {
 		return id;
@@ -50,6 +70,10 @@ public class Member {
 		return role;
 	}
 
+	public String getPasswordHash() {
+		return passwordHash;
+	}
+
 	public LocalDate getSuspendUntil() {
 		return suspendUntil;
 	}
@@ -59,13 +83,28 @@ public class Member {
 		return Passwords.matches(rawPw, passwordHash);
 	}
 
+	// 인증된 비밀번호로 약한 해시를 현재 설정으로 교체 (교체했으면 true)
+	public boolean upgradePasswordHash(String rawPw) {
+		if (!Passwords.needsRehash(passwordHash)) {
+			return false;
+		}
+		try {
+			passwordHash = Passwords.rehash(rawPw);
+		} catch (OverloadedException e) {
+			return false; // 검증 풀이 가득 차면 이번 로그인은 그대로 통과 - 다음 로그인 때 다시 교체
+		}
+		return true;
+	}
+
 	public boolean isSuspended() {
-		return suspendUntil != null && suspendUntil.isAfter(LocalDate.now());
+		LocalDate until = suspendUntil;
+		return until != null && until.isAfter(BusinessClock.current().today());
 	}
 
 	public void suspend(int days) {
-		if (suspendUntil == null || suspendUntil.isBefore(LocalDate.now())) {
-			suspendUntil = LocalDate.now().plusDays(days);
+		LocalDate today = BusinessClock.current().today();
+		if (suspendUntil == null || suspendUntil.isBefore(today)) {
+			suspendUntil = today.plusDays(days);
 		} else {
 			suspendUntil = suspendUntil.plusDays(days); // 기존 정지에 누적
 		}
@@ -1,21 +1,22 @@
 package io.github.bookrentalteam.bookrental.domain;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 
+import io.github.bookrentalteam.bookrental.common.IdGenerator;
 import io.github.bookrentalteam.bookrental.common.exception.BusinessException;
 import io.github.bookrentalteam.bookrental.common.exception.ValidationException;
+import io.github.bookrentalteam.bookrental.common.time.BusinessClock;
 
 public class Rental {
-	private static long sequence = 0;
+	private static final IdGenerator ID_GENERATOR = IdGenerator.forType(Rental.class);
 
 	private Long id;
 	private Long bookId;
 	private Long memberId;
 	private LocalDate rentedAt;
-	private LocalDate dueAt;
-	private LocalDate returnedAt;
-	private RentalStatus status;
+	private volatile LocalDate dueAt;
+	private volatile LocalDate returnedAt;
+	private volatile RentalStatus status;
 	private int extensionCount = 0; // 연장횟수
 
 	public Rental(Long bookId, Long memberId) {
@@ -26,14 +27,33 @@ public class Rental {
 			throw new ValidationException("memberId는 필수입니다.");
 		}
 
-		this.id = ++sequence;
+		this.id = ID_GENERATOR.next();
 		this.bookId = bookId;
 		this.memberId = memberId;
-		this.rentedAt = LocalDate.now();
+		this.rentedAt = BusinessClock.current().today();
 		this.dueAt = rentedAt.plusDays(14);
 		this.status = RentalStatus.RENTED;
 	}
 
+	private Rental() {
+	}
+
+	/** 저장소 복구용 - 저장된 ID/상태 그대로 재구성 (ID 발급기는 복구된 ID 이후로 전진) */
+	public static Rental restore(long id, long bookId, long memberId, LocalDate rentedAt, LocalDate dueAt,
+			LocalDate returnedAt, RentalStatus status, int extensionCount) {
+		ID_GENERATOR.advanceTo(id);
+		Rental r = new Rental();
+		r.id = id;
+		r.bookId = bookId;
+		r.memberId = memberId;
+		r.rentedAt = rentedAt;
+		r.dueAt = dueAt;
+		r.returnedAt = returnedAt;
+		r.status = status;
+		r.extensionCount = extensionCount;
+		return r;
+	}
+
 	// getter
 	public Long getId() {
 		return id;
@@ -72,12 +92,29 @@ public class Rental {
 		if (status == RentalStatus.RETURNED) {
 			throw new BusinessException("이미 반납된 대여입니다.");
 		}
-		this.returnedAt = (date != null) ? date : LocalDate.now();
+		this.returnedAt = (date != null) ? date : BusinessClock.current().today();
 		this.status = RentalStatus.RETURNED;
 	}
 
-	// 대여 연장(7일)
-	public void extend() {
+	// 반납 처리된 사본 - 원본은 그대로 두어, 저장에 실패하면 반납 전 상태가 그대로 남음
+	public Rental returnedCopy(LocalDate date) {
+		if (status == RentalStatus.RETURNED) {
+			throw new BusinessException("이미 반납된 대여입니다.");
+		}
+		Rental r = new Rental();
+		r.id = id;
+		r.bookId = bookId;
+		r.memberId = memberId;
+		r.rentedAt = rentedAt;
+		r.dueAt = dueAt;
+		r.returnedAt = (date != null) ? date : BusinessClock.current().today();
+		r.status = RentalStatus.RETURNED;
+		r.extensionCount = extensionCount;
+		return r;
+	}
+
+	// 연장된 사본(7일) - 원본은 그대로 두어, 저장에 실패하면 연장 전 상태가 그대로 남음
+	public Rental extendedCopy() {
 		if (status == RentalStatus.RETURNED) {
 			throw new ValidationException("이미 반납된 도서는 연장할 수 없습니다.");
 		}
@@ -88,17 +125,29 @@ public class Rental {
 			throw new BusinessException("연장은 1회만 가능합니다.");
 		}
 
-		this.dueAt = this.dueAt.plusDays(7);
-		this.extensionCount++;
+		Rental r = new Rental();
+		r.id = id;
+		r.bookId = bookId;
+		r.memberId = memberId;
+		r.rentedAt = rentedAt;
+		r.dueAt = dueAt.plusDays(7);
+		r.returnedAt = returnedAt;
+		r.status = status;
+		r.extensionCount = extensionCount + 1;
+		return r;
 	}
 
 	// 연체 여부
 	public boolean isOverdue() {
-		return status == RentalStatus.RENTED && dueAt.isBefore(LocalDate.now());
+		return status == RentalStatus.RENTED && dueAt.isBefore(BusinessClock.current().today());
 	}
 
 	// 연체 일수
 	public long overdueDays() {
-		return isOverdue() ? ChronoUnit.DAYS.between(dueAt, LocalDate.now()) : 0;
+		if (status != RentalStatus.RENTED) {
+			return 0;
+		}
+		long days = BusinessClock.current().today().toEpochDay() - dueAt.toEpochDay();
+		return Math.max(0, days);
 	}
 }
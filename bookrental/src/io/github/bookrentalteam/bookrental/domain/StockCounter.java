@@ -0,0 +1,28 @@
+package io.github.bookrentalteam.bookrental.domain;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 도서 재고 카운터 - 기본은 힙의 AtomicInteger, 저장소에 따라 파일 위의 값을 직접 갱신하는 구현을 끼울 수 있다.
+ */
+public interface StockCounter {
+	int get();
+
+	boolean compareAndSet(int expected, int updated);
+
+	/** 힙 메모리 카운터 */
+	static StockCounter of(int initial) {
+		AtomicInteger value = new AtomicInteger(initial);
+		return new StockCounter() {
+			@Override
+			public int get() {
+				return value.get();
+			}
+
+			@Override
+			public boolean compareAndSet(int expected, int updated) {
+				return value.compareAndSet(expected, updated);
+			}
+		};
+	}
+}
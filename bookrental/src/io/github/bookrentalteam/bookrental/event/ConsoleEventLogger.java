@@ -0,0 +1,24 @@
+package io.github.bookrentalteam.bookrental.event;
+
+import java.io.PrintStream;
+
+/** 제재 등 운영 메시지를 콘솔에 출력하는 구독자 */
+public class ConsoleEventLogger implements EventHandler {
+
+	private final PrintStream out;
+
+	public ConsoleEventLogger(PrintStream out) {
+		this.out = out;
+	}
+
+	@Override
+	public void onEvent(DomainEvent event, boolean endOfBatch) {
+		if (event instanceof DomainEvent.MemberSuspended e) {
+			out.printf("[제재] 회원 %s 연체 %d일 → %d일 대여 정지 (해제일: %s)%n", e.memberName(), e.days(), e.days(),
+					e.suspendUntil());
+		}
+		if (endOfBatch) {
+			out.flush();
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package io.github.bookrentalteam.bookrental.event;
+
+import java.time.LocalDate;
+
+/** 도메인 이벤트 - 발행 시점의 값을 담은 불변 객체 */
+public sealed interface DomainEvent {
+
+	/** 도서 대여 */
+	record BookRented(long rentalId, long bookId, long memberId, LocalDate dueAt) implements DomainEvent {
+	}
+
+	/** 도서 반납 (overdueDays: 반납 시점의 연체 일수) */
+	record BookReturned(long rentalId, long bookId, long memberId, LocalDate returnedAt, long overdueDays)
+			implements DomainEvent {
+	}
+
+	/** 대여 연장 */
+	record RentalExtended(long rentalId, long memberId, LocalDate dueAt) implements DomainEvent {
+	}
+
+	/** 회원 대여 정지 */
+	record MemberSuspended(long memberId, String memberName, long days, LocalDate suspendUntil)
+			implements DomainEvent {
+	}
+
+	/** 도서 등록 */
+	record BookRegistered(long bookId, String isbn, String title, int totalCopies) implements DomainEvent {
+	}
+}
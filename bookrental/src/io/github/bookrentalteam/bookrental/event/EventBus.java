@@ -0,0 +1,214 @@
+package io.github.bookrentalteam.bookrental.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 링 버퍼 기반 이벤트 버스
+ * <p>
+ * 미리 할당한 고정 크기 배열에 이벤트를 기록하고, 구독자마다 전용 스레드가 자기 위치(sequence)부터 읽어 나간다. 발행은 잠금 없이 순번을
+ * 받아 칸에 기록한 뒤 칸별 게시 번호로 공개한다. 구독자는 순번 순서대로, 공개된 구간을 한 번에 처리(batch)한다. 순번 받기({@link #claim})와
+ * 기록을 나눌 수 있어, 호출자는 잠금 안에서 순번만 받아 커밋 순서를 정하고 버퍼 대기는 잠금 밖에서 한다.
+ * <p>
+ * 버퍼가 가득 찼을 때의 처리는 구독자마다 정한다 ({@link Delivery}). 상태를 이벤트로 갱신하는 구독자(RELIABLE)는 한 바퀴 뒤처지면
+ * 발행자가 자리가 날 때까지 기다려 이벤트를 잃지 않는다. 로그처럼 일부를 잃어도 되는 구독자(LOSSY)는 발행자를 막지 않으며, 한 바퀴 뒤처지면
+ * 덮어쓰인 이벤트를 건너뛰고 건너뛴 수를 {@link #droppedCount()}로 센다. 스레드가 종료된 구독자는 기다리지 않는다.
+ */
+public class EventBus implements AutoCloseable {
+
+	public static final int DEFAULT_CAPACITY = 8192;
+	private static final long WRITING = Long.MIN_VALUE; // 칸을 덮어쓰는 중 (LOSSY 구독자가 읽은 이벤트를 검증할 때 사용)
+
+	/** 구독자가 밀렸을 때의 처리 */
+	public enum Delivery {
+		/** 발행자가 자리가 날 때까지 기다림 - 이벤트로 상태를 유지하는 구독자 (통계, 인기도 등) */
+		RELIABLE,
+		/** 발행자를 막지 않고 덮어쓰인 이벤트를 건너뜀 - 일부를 잃어도 되는 구독자 (콘솔 로그 등) */
+		LOSSY
+	}
+
+	private final AtomicReferenceArray<DomainEvent> entries;
+	private final AtomicLongArray published; // 칸별로 마지막에 공개된 순번
+	private final int mask;
+	private final AtomicLong cursor = new AtomicLong(-1); // 마지막으로 발급한 순번
+	private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+	private volatile long gatingCache = -1; // 가장 느린 RELIABLE 구독자 위치 (캐시, 발행자끼리 덮어써도 실제 값 이하)
+	private final AtomicLong dropped = new AtomicLong(); // LOSSY 구독자가 건너뛴 이벤트 수
+
+	public EventBus() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public EventBus(int capacity) {
+		if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("버퍼 크기는 2의 거듭제곱이어야 합니다.");
+		}
+		this.entries = new AtomicReferenceArray<>(capacity);
+		this.published = new AtomicLongArray(capacity);
+		for (int i = 0; i < capacity; i++) {
+			published.set(i, -1);
+		}
+		this.mask = capacity - 1;
+	}
+
+	/** 구독 - 등록 이후 발행된 이벤트부터 전달 */
+	public synchronized void subscribe(String name, Delivery delivery, EventHandler handler) {
+		Subscriber s = new Subscriber(name, delivery, handler, cursor.get());
+		s.thread.start(); // 시작 전 구독자는 종료된 것으로 보이므로 시작 후 등록
+		subscribers.add(s);
+	}
+
+	/** 이벤트 발행 - 버퍼가 가득 차면 가장 느린 RELIABLE 구독자가 자리를 비울 때까지 대기 (LOSSY 구독자는 기다리지 않음) */
+	public void publish(DomainEvent event) {
+		publish(claim(1), event);
+	}
+
+	/**
+	 * 순번 n개를 연속으로 미리 받음 - 대기 없이 바로 반환하므로 잠금 안에서 호출해 커밋 순서대로 순번을 받고, 잠금을 푼 뒤
+	 * {@link #publish(long, DomainEvent)}로 기록한다. 받은 순번은 반드시 모두 기록해야 한다 (기록 전까지 뒤 순번 이벤트도 전달되지 않음).
+	 *
+	 * @return 첫 순번 (n이 0이면 -1)
+	 */
+	public long claim(int n) {
+		return (n > 0) ? cursor.getAndAdd(n) + 1 : -1;
+	}
+
+	/** claim으로 받은 순번에 이벤트 기록 - 칸이 비지 않았으면 가장 느린 RELIABLE 구독자가 자리를 비울 때까지 대기 */
+	public void publish(long seq, DomainEvent event) {
+		long wrapPoint = seq - entries.length();
+		while (wrapPoint > gatingCache) {
+			long min = minReliableSequence(seq - 1);
+			gatingCache = min;
+			if (wrapPoint > min) {
+				LockSupport.parkNanos(1_000);
+			}
+		}
+		int index = (int) (seq & mask);
+		published.set(index, WRITING); // 덮어쓰기 시작 표시 - 이전 이벤트를 읽던 LOSSY 구독자가 알아챔
+		entries.set(index, event);
+		published.set(index, seq); // 이벤트 기록 후 공개
+
+		for (Subscriber s : subscribers) {
+			if (s.sleeping) {
+				LockSupport.unpark(s.thread);
+			}
+		}
+	}
+
+	/** 발행된 이벤트를 모든 구독자가 처리할 때까지 대기 후 종료 */
+	@Override
+	public void close() {
+		for (Subscriber s : subscribers) {
+			s.running = false;
+			LockSupport.unpark(s.thread);
+		}
+		for (Subscriber s : subscribers) {
+			try {
+				s.thread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	/** LOSSY 구독자가 밀려 건너뛴 이벤트 수 (구독자별 합계) */
+	public long droppedCount() {
+		return dropped.get();
+	}
+
+	// LOSSY 구독자와 스레드가 종료된 구독자(종료 후, 처리 중 치명적 오류)는 기다리지 않으므로 제외
+	private long minReliableSequence(long upperBound) {
+		long min = upperBound;
+		for (Subscriber s : subscribers) {
+			if (s.delivery == Delivery.RELIABLE && s.thread.isAlive()) {
+				min = Math.min(min, s.sequence.get());
+			}
+		}
+		return min;
+	}
+
+	// from부터 연속으로 공개된 마지막 순번 (없으면 from - 1)
+	private long highestPublished(long from) {
+		long limit = cursor.get();
+		long seq = from;
+		while (seq <= limit && published.get((int) (seq & mask)) == seq) {
+			seq++;
+		}
+		return seq - 1;
+	}
+
+	private final class Subscriber implements Runnable {
+		private final String name;
+		private final Delivery delivery;
+		private final EventHandler handler;
+		private final AtomicLong sequence; // 처리를 마친 마지막 순번
+		private final Thread thread;
+		private volatile boolean running = true;
+		private volatile boolean sleeping;
+
+		Subscriber(String name, Delivery delivery, EventHandler handler, long start) {
+			this.name = name;
+			this.delivery = delivery;
+			this.handler = handler;
+			this.sequence = new AtomicLong(start);
+			this.thread = new Thread(this, "event-" + name);
+			thread.setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			while (true) {
+				long next = sequence.get() + 1;
+				if (delivery == Delivery.LOSSY) {
+					next = skipOverwritten(next);
+				}
+				long available = highestPublished(next);
+				if (available >= next) {
+					long seq = next;
+					for (; seq <= available; seq++) {
+						int index = (int) (seq & mask);
+						DomainEvent event = entries.get(index);
+						if (delivery == Delivery.LOSSY && published.get(index) != seq) {
+							break; // 읽는 사이 발행자가 덮어씀 - 다음 바퀴에서 건너뜀
+						}
+						dispatch(event, seq == available);
+					}
+					sequence.lazySet(seq - 1); // 처리한 칸 반납
+					continue;
+				}
+				if (!running) {
+					return; // 남은 이벤트까지 처리한 뒤 종료
+				}
+				sleeping = true;
+				if (highestPublished(next) < next && running) {
+					LockSupport.parkNanos(10_000_000L); // 발행 시 깨움, 놓쳐도 10ms 후 재확인
+				}
+				sleeping = false;
+			}
+		}
+
+		// 한 바퀴 이상 뒤처져 이미 덮어쓰였을 수 있는 순번은 건너뛰고 버린 수에 더함
+		private long skipOverwritten(long next) {
+			long oldest = cursor.get() - mask; // 아직 덮어쓰지 않았을 수 있는 가장 오래된 순번
+			if (next >= oldest) {
+				return next;
+			}
+			dropped.addAndGet(oldest - next);
+			sequence.lazySet(oldest - 1);
+			return oldest;
+		}
+
+		private void dispatch(DomainEvent event, boolean endOfBatch) {
+			try {
+				handler.onEvent(event, endOfBatch);
+			} catch (Throwable e) {
+				System.err.println("[이벤트 처리 실패] " + name + ": " + e); // Error도 삼켜 구독 스레드를 유지하고 다음 이벤트 처리
+			}
+		}
+	}
+}
@@ -0,0 +1,11 @@
+package io.github.bookrentalteam.bookrental.event;
+
+/** 이벤트 구독자 - 구독자마다 전용 스레드에서 순서대로 호출된다. */
+@FunctionalInterface
+public interface EventHandler {
+
+	/**
+	 * @param endOfBatch 지금까지 발행된 이벤트 중 마지막이면 true (출력 버퍼 flush 등을 한 번에 하도록)
+	 */
+	void onEvent(DomainEvent event, boolean endOfBatch) throws Exception;
+}
@@ -0,0 +1,343 @@
+package io.github.bookrentalteam.bookrental.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import io.github.bookrentalteam.bookrental.common.IdGenerator;
+import io.github.bookrentalteam.bookrental.common.exception.ValidationException;
+import io.github.bookrentalteam.bookrental.common.json.Json;
+import io.github.bookrentalteam.bookrental.domain.Book;
+import io.github.bookrentalteam.bookrental.service.BookService;
+
+/**
+ * 도서 목록 일괄 등록기 (CSV / TSV / JSON Lines)
+ * <p>
+ * 파일을 한 줄씩 읽어 CHUNK_LINES 단위로 나눠 여러 스레드에서 파싱/검증하고, 파싱 결과는 파일 순서대로 한 스레드가 받아 ISBN 중복을
+ * 걸러낸 뒤 batchSize 단위로 BookService.registerBooks 에 넘긴다. 파일 전체를 메모리에 올리지 않는다.
+ * <p>
+ * CSV/TSV 첫 줄이 헤더(isbn, title, author, totalCopies)이면 열 이름으로, 아니면 그 순서대로 읽는다. CSV는 큰따옴표로 감싼
+ * 필드를 지원하지만 필드 안의 줄바꿈은 지원하지 않는다.
+ */
+public class CatalogImporter {
+
+	/** 입력 형식 */
+	public enum Format {
+		CSV, TSV, JSONL;
+
+		/** 확장자로 형식 결정 (.tsv, .jsonl/.ndjson, 그 외 CSV) */
+		public static Format of(Path file) {
+			String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+			if (name.endsWith(".tsv")) {
+				return TSV;
+			}
+			if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+				return JSONL;
+			}
+			return CSV;
+		}
+	}
+
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+	private static final int CHUNK_LINES = 4096;
+	private static final String[] COLUMNS = { "isbn", "title", "author", "totalcopies" };
+
+	private final BookService bookService;
+	private final int batchSize;
+	private final int parallelism;
+
+	public CatalogImporter(BookService bookService) {
+		this(bookService, DEFAULT_BATCH_SIZE, Runtime.getRuntime().availableProcessors());
+	}
+
+	public CatalogImporter(BookService bookService, int batchSize, int parallelism) {
+		if (batchSize <= 0 || parallelism <= 0) {
+			throw new IllegalArgumentException("배치 크기와 병렬도는 1 이상이어야 합니다.");
+		}
+		this.bookService = bookService;
+		this.batchSize = batchSize;
+		this.parallelism = parallelism;
+	}
+
+	/** 파일 등록 (형식은 확장자로 결정) */
+	public ImportReport importFile(Path file) throws IOException {
+		try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			return importFrom(in, Format.of(file));
+		}
+	}
+
+	/** 입력 스트림 등록 */
+	public ImportReport importFrom(BufferedReader in, Format format) throws IOException {
+		long start = System.nanoTime();
+		ImportReport report = new ImportReport();
+		Committer committer = new Committer(report);
+		ExecutorService pool = Executors.newFixedThreadPool(parallelism, r -> {
+			Thread t = new Thread(r, "catalog-import");
+			t.setDaemon(true);
+			return t;
+		});
+		Deque<Future<Chunk>> inFlight = new ArrayDeque<>();
+		try {
+			int[] columns = { 0, 1, 2, 3 };
+			long lineNo = 0;
+			List<String> lines = new ArrayList<>(CHUNK_LINES);
+			long firstLine = 1;
+			String line;
+			while ((line = in.readLine()) != null) {
+				lineNo++;
+				if (lineNo == 1 && format != Format.JSONL) {
+					if (line.startsWith("\uFEFF")) {
+						line = line.substring(1); // UTF-8 BOM
+					}
+					int[] header = parseHeader(line, format);
+					if (header != null) {
+						columns = header;
+						firstLine = 2;
+						continue;
+					}
+				}
+				lines.add(line);
+				if (lines.size() == CHUNK_LINES) {
+					submit(pool, inFlight, lines, firstLine, format, columns);
+					firstLine = lineNo + 1;
+					lines = new ArrayList<>(CHUNK_LINES);
+					// 파싱이 커밋보다 너무 앞서가지 않도록 (메모리 상한)
+					while (inFlight.size() > parallelism * 2) {
+						committer.accept(await(inFlight.poll()));
+					}
+				}
+			}
+			if (!lines.isEmpty()) {
+				submit(pool, inFlight, lines, firstLine, format, columns);
+			}
+			while (!inFlight.isEmpty()) {
+				committer.accept(await(inFlight.poll()));
+			}
+			committer.flush();
+		} finally {
+			pool.shutdownNow();
+		}
+		report.finish((System.nanoTime() - start) / 1_000_000);
+		return report;
+	}
+
+	private static void submit(ExecutorService pool, Deque<Future<Chunk>> inFlight, List<String> lines,
+			long firstLine, Format format, int[] columns) {
+		inFlight.add(pool.submit(() -> parse(lines, firstLine, format, columns)));
+	}
+
+	private static Chunk await(Future<Chunk> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("일괄 등록이 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("일괄 등록 파싱 실패", e.getCause());
+		}
+	}
+
+	// ===== 파싱 (작업 스레드) =====
+
+	/** 검증까지 마친 한 행 */
+	private record Row(long line, String isbn, String title, String author, int totalCopies) {
+	}
+
+	private record Chunk(List<Row> rows, List<ImportReport.Error> errors) {
+	}
+
+	private static Chunk parse(List<String> lines, long firstLine, Format format, int[] columns) {
+		List<Row> rows = new ArrayList<>(lines.size());
+		List<ImportReport.Error> errors = new ArrayList<>();
+		for (int i = 0; i < lines.size(); i++) {
+			String line = lines.get(i);
+			if (line.isBlank()) {
+				continue;
+			}
+			long lineNo = firstLine + i;
+			String isbn = null;
+			try {
+				String[] fields = (format == Format.JSONL) ? jsonFields(line) : pick(split(line, format), columns);
+				isbn = trim(fields[0]);
+				String title = trim(fields[1]);
+				String author = trim(fields[2]);
+				int totalCopies = parseCopies(fields[3]);
+				Book.validate(isbn, title, author, totalCopies); // 생성자와 같은 규칙
+				if (totalCopies <= 0) { // 등록 규칙 - 배치 전체가 거절되지 않도록 행 오류로 보고
+					throw new ValidationException("총 권수는 1권 이상이어야 합니다.");
+				}
+				rows.add(new Row(lineNo, isbn, title, author, totalCopies));
+			} catch (ValidationException e) {
+				errors.add(new ImportReport.Error(lineNo, isbn, e.getMessage()));
+			}
+		}
+		return new Chunk(rows, errors);
+	}
+
+	private static String[] jsonFields(String line) {
+		Map<String, String> obj = Json.parseObject(line);
+		return new String[] { obj.get("isbn"), obj.get("title"), obj.get("author"), obj.get("totalCopies") };
+	}
+
+	private static String[] pick(List<String> fields, int[] columns) {
+		String[] picked = new String[columns.length];
+		for (int i = 0; i < columns.length; i++) {
+			picked[i] = (columns[i] < fields.size()) ? fields.get(columns[i]) : null;
+		}
+		return picked;
+	}
+
+	private static int parseCopies(String value) {
+		if (value == null || value.isBlank()) {
+			throw new ValidationException("총 권수는 필수입니다.");
+		}
+		try {
+			return Integer.parseInt(value.trim());
+		} catch (NumberFormatException e) {
+			throw new ValidationException("총 권수는 숫자여야 합니다: " + value.trim());
+		}
+	}
+
+	private static String trim(String value) {
+		return (value != null) ? value.trim() : null;
+	}
+
+	// 헤더 행(isbn 열 이름 포함)이면 열 위치 반환, 아니면 null
+	private static int[] parseHeader(String line, Format format) {
+		List<String> fields;
+		try {
+			fields = split(line, format);
+		} catch (ValidationException e) {
+			return null; // 데이터 행 - 파싱 단계에서 오류로 보고
+		}
+		if (fields.stream().noneMatch(f -> f.trim().equalsIgnoreCase("isbn"))) {
+			return null;
+		}
+		int[] columns = new int[COLUMNS.length];
+		for (int c = 0; c < COLUMNS.length; c++) {
+			columns[c] = Integer.MAX_VALUE; // 없는 열 → 값 없음
+			for (int i = 0; i < fields.size(); i++) {
+				if (fields.get(i).trim().equalsIgnoreCase(COLUMNS[c])) {
+					columns[c] = i;
+					break;
+				}
+			}
+		}
+		return columns;
+	}
+
+	static List<String> split(String line, Format format) {
+		List<String> fields = new ArrayList<>(4);
+		if (format == Format.TSV) {
+			int from = 0;
+			for (int i; (i = line.indexOf('\t', from)) >= 0; from = i + 1) {
+				fields.add(line.substring(from, i));
+			}
+			fields.add(line.substring(from));
+			return fields;
+		}
+		// CSV: "..." 안의 쉼표는 필드 구분자가 아니며 ""는 큰따옴표 하나
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (quoted) {
+				if (c == '"') {
+					if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+						field.append('"');
+						i++;
+					} else {
+						quoted = false;
+					}
+				} else {
+					field.append(c);
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else {
+				field.append(c);
+			}
+		}
+		if (quoted) {
+			throw new ValidationException("닫히지 않은 큰따옴표가 있습니다.");
+		}
+		fields.add(field.toString());
+		return fields;
+	}
+
+	// ===== 커밋 (호출 스레드, 파일 순서) =====
+
+	private final class Committer {
+		private final ImportReport report;
+		private final Set<String> seenIsbns = new HashSet<>(); // 파일 안 중복 검사 (정규화된 ISBN)
+		private final List<Book> batch = new ArrayList<>(batchSize);
+		private final Map<Book, Long> lineOf = new IdentityHashMap<>();
+
+		Committer(ImportReport report) {
+			this.report = report;
+		}
+
+		void accept(Chunk chunk) {
+			report.addRows(chunk.rows().size() + chunk.errors().size());
+			chunk.errors().forEach(e -> report.addError(e.line(), e.isbn(), e.message()));
+			List<Row> fresh = new ArrayList<>(chunk.rows().size());
+			for (Row row : chunk.rows()) {
+				if (!seenIsbns.add(row.isbn().toLowerCase(Locale.ROOT))) {
+					report.addError(row.line(), row.isbn(), "파일 안에서 중복된 ISBN입니다.");
+					continue;
+				}
+				fresh.add(row);
+			}
+			if (fresh.isEmpty()) {
+				return;
+			}
+			IdGenerator.Block ids = Book.reserveIds(fresh.size()); // 청크 단위로 ID 구간 예약
+			for (Row row : fresh) {
+				Book book = new Book(ids, row.isbn(), row.title(), row.author(), row.totalCopies());
+				batch.add(book);
+				lineOf.put(book, row.line());
+				if (batch.size() == batchSize) {
+					flush();
+				}
+			}
+		}
+
+		void flush() {
+			if (batch.isEmpty()) {
+				return;
+			}
+			List<Book> registered = bookService.registerBooks(batch);
+			report.addImported(registered.size());
+			if (registered.size() < batch.size()) {
+				Set<Book> ok = Collections.newSetFromMap(new IdentityHashMap<>());
+				ok.addAll(registered);
+				for (Book book : batch) {
+					if (!ok.contains(book)) {
+						report.addError(lineOf.get(book), book.getIsbn(), "이미 등록된 ISBN입니다.");
+					}
+				}
+			}
+			batch.clear();
+			lineOf.clear();
+		}
+	}
+}
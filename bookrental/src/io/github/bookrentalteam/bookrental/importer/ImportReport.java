@@ -0,0 +1,63 @@
+package io.github.bookrentalteam.bookrental.importer;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/** 일괄 등록 결과 - 등록 건수와 행 번호별 오류 */
+public class ImportReport {
+
+	/** 한 행의 오류 */
+	public record Error(long line, String isbn, String message) {
+	}
+
+	private final List<Error> errors = new ArrayList<>();
+	private long rows;
+	private long imported;
+	private long elapsedMillis;
+
+	void addRows(long count) {
+		rows += count;
+	}
+
+	void addImported(long count) {
+		imported += count;
+	}
+
+	void addError(long line, String isbn, String message) {
+		errors.add(new Error(line, isbn, message));
+	}
+
+	void finish(long elapsedMillis) {
+		this.elapsedMillis = elapsedMillis;
+		errors.sort(Comparator.comparingLong(Error::line)); // 배치 단위 오류가 뒤섞이지 않게 행 순서로
+	}
+
+	/** 읽은 데이터 행 수 (헤더/빈 줄 제외) */
+	public long getRows() {
+		return rows;
+	}
+
+	public long getImported() {
+		return imported;
+	}
+
+	public List<Error> getErrors() {
+		return Collections.unmodifiableList(errors);
+	}
+
+	public long getElapsedMillis() {
+		return elapsedMillis;
+	}
+
+	/** 오류 목록을 "행번호\tISBN\t사유" 형식으로 출력 */
+	public void writeTo(Writer out) throws IOException {
+		out.write("# 읽은 행 " + rows + ", 등록 " + imported + ", 오류 " + errors.size() + ", " + elapsedMillis + "ms\n");
+		for (Error e : errors) {
+			out.write(e.line() + "\t" + (e.isbn() != null ? e.isbn() : "") + "\t" + e.message() + "\n");
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package io.github.bookrentalteam.bookrental.metrics;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import io.github.bookrentalteam.bookrental.domain.Book;
+import io.github.bookrentalteam.bookrental.repository.BookRepository;
+
+/** 호출마다 지연 시간/예외 수를 기록하는 BookRepository 데코레이터 */
+public class InstrumentedBookRepository implements BookRepository {
+	private final BookRepository delegate;
+	private final MethodTimer save;
+	private final MethodTimer saveAll;
+	private final MethodTimer findById;
+	private final MethodTimer findAll;
+	private final MethodTimer findPage;
+	private final MethodTimer stream;
+	private final MethodTimer delete;
+	private final MethodTimer findByIsbn;
+
+	public InstrumentedBookRepository(BookRepository delegate, MetricsRegistry registry) {
+		this.delegate = delegate;
+		this.save = registry.timer("BookRepository", "save");
+		this.saveAll = registry.timer("BookRepository", "saveAll");
+		this.findById = registry.timer("BookRepository", "findById");
+		this.findAll = registry.timer("BookRepository", "findAll");
+		this.findPage = registry.timer("BookRepository", "findPage");
+		this.stream = registry.timer("BookRepository", "stream");
+		this.delete = registry.timer("BookRepository", "delete");
+		this.findByIsbn = registry.timer("BookRepository", "findByIsbn");
+	}
+
+	@Override
+	public void save(Book book) {
+		save.run(() -> delegate.save(book));
+	}
+
+	@Override
+	public void saveAll(List<Book> books) {
+		saveAll.run(() -> delegate.saveAll(books));
+	}
+
+	@Override
+	public Optional<Book> findById(Long id) {
+		return findById.time(() -> delegate.findById(id));
+	}
+
+	@Override
+	public List<Book> findAll() {
+		return findAll.time(() -> delegate.findAll());
+	}
+
+	@Override
+	public List<Book> findPage(long afterId, int limit) {
+		return findPage.time(() -> delegate.findPage(afterId, limit));
+	}
+
+	// 스트림 생성까지만 측정 (순회는 호출자 몫)
+	@Override
+	public Stream<Book> stream() {
+		return stream.time(() -> delegate.stream());
+	}
+
+	@Override
+	public void delete(Long id) {
+		delete.run(() -> delegate.delete(id));
+	}
+
+	@Override
+	public Optional<Book> findByIsbn(String isbn) {
+		return findByIsbn.time(() -> delegate.findByIsbn(isbn));
+	}
+}
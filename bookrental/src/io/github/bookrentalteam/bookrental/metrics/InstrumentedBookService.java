@@ -0,0 +1,88 @@
+package io.github.bookrentalteam.bookrental.metrics;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import io.github.bookrentalteam.bookrental.domain.Book;
+import io.github.bookrentalteam.bookrental.search.Completion;
+import io.github.bookrentalteam.bookrental.service.BookService;
+
+/** 호출마다 지연 시간/예외 수를 기록하는 BookService 데코레이터 */
+public class InstrumentedBookService implements BookService {
+	private final BookService delegate;
+	private final MethodTimer registerBook;
+	private final MethodTimer registerBooks;
+	private final MethodTimer listBooks;
+	private final MethodTimer listBooksPage;
+	private final MethodTimer streamBooks;
+	private final MethodTimer searchBooks;
+	private final MethodTimer searchBooksTop;
+	private final MethodTimer searchBooksFuzzy;
+	private final MethodTimer autocomplete;
+	private final MethodTimer getBook;
+
+	public InstrumentedBookService(BookService delegate, MetricsRegistry registry) {
+		this.delegate = delegate;
+		this.registerBook = registry.timer("BookService", "registerBook");
+		this.registerBooks = registry.timer("BookService", "registerBooks");
+		this.listBooks = registry.timer("BookService", "listBooks");
+		this.listBooksPage = registry.timer("BookService", "listBooksPage");
+		this.streamBooks = registry.timer("BookService", "streamBooks");
+		this.searchBooks = registry.timer("BookService", "searchBooks");
+		this.searchBooksTop = registry.timer("BookService", "searchBooksTop");
+		this.searchBooksFuzzy = registry.timer("BookService", "searchBooksFuzzy");
+		this.autocomplete = registry.timer("BookService", "autocomplete");
+		this.getBook = registry.timer("BookService", "getBook");
+	}
+
+	@Override
+	public Book registerBook(String isbn, String title, String author, int totalCopies) {
+		return registerBook.time(() -> delegate.registerBook(isbn, title, author, totalCopies));
+	}
+
+	@Override
+	public List<Book> registerBooks(List<Book> books) {
+		return registerBooks.time(() -> delegate.registerBooks(books));
+	}
+
+	@Override
+	public List<Book> listBooks() {
+		return listBooks.time(() -> delegate.listBooks());
+	}
+
+	@Override
+	public List<Book> listBooks(long afterId, int limit) {
+		return listBooksPage.time(() -> delegate.listBooks(afterId, limit));
+	}
+
+	// 스트림 생성까지만 측정 (순회는 호출자 몫)
+	@Override
+	public Stream<Book> streamBooks() {
+		return streamBooks.time(() -> delegate.streamBooks());
+	}
+
+	@Override
+	public List<Book> searchBooks(String keyword) {
+		return searchBooks.time(() -> delegate.searchBooks(keyword));
+	}
+
+	@Override
+	public List<Book> searchBooks(String keyword, int limit) {
+		return searchBooksTop.time(() -> delegate.searchBooks(keyword, limit));
+	}
+
+	@Override
+	public List<Book> searchBooksFuzzy(String keyword, int limit) {
+		return searchBooksFuzzy.time(() -> delegate.searchBooksFuzzy(keyword, limit));
+	}
+
+	@Override
+	public List<Completion> autocomplete(String prefix, int limit) {
+		return autocomplete.time(() -> delegate.autocomplete(prefix, limit));
+	}
+
+	@Override
+	public Book getBook(long id) {
+		return getBook.time(() -> delegate.getBook(id));
+	}
+}
@@ -0,0 +1,67 @@
+package io.github.bookrentalteam.bookrental.metrics;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import io.github.bookrentalteam.bookrental.domain.Member;
+import io.github.bookrentalteam.bookrental.repository.MemberRepository;
+
+/** 호출마다 지연 시간/예외 수를 기록하는 MemberRepository 데코레이터 */
+public class InstrumentedMemberRepository implements MemberRepository {
+	private final MemberRepository delegate;
+	private final MethodTimer save;
+	private final MethodTimer findById;
+	private final MethodTimer findByEmail;
+	private final MethodTimer findAll;
+	private final MethodTimer findPage;
+	private final MethodTimer stream;
+	private final MethodTimer delete;
+
+	public InstrumentedMemberRepository(MemberRepository delegate, MetricsRegistry registry) {
+		this.delegate = delegate;
+		this.save = registry.timer("MemberRepository", "save");
+		this.findById = registry.timer("MemberRepository", "findById");
+		this.findByEmail = registry.timer("MemberRepository", "findByEmail");
+		this.findAll = registry.timer("MemberRepository", "findAll");
+		this.findPage = registry.timer("MemberRepository", "findPage");
+		this.stream = registry.timer("MemberRepository", "stream");
+		this.delete = registry.timer("MemberRepository", "delete");
+	}
+
+	@Override
+	public void save(Member member) {
+		save.run(() -> delegate.save(member));
+	}
+
+	@Override
+	public Optional<Member> findById(Long id) {
+		return findById.time(() -> delegate.findById(id));
+	}
+
+	@Override
+	public Optional<Member> findByEmail(String email) {
+		return findByEmail.time(() -> delegate.findByEmail(email));
+	}
+
+	@Override
+	public List<Member> findAll() {
+		return findAll.time(() -> delegate.findAll());
+	}
+
+	@Override
+	public List<Member> findPage(long afterId, int limit) {
+		return findPage.time(() -> delegate.findPage(afterId, limit));
+	}
+
+	// 스트림 생성까지만 측정 (순회는 호출자 몫)
+	@Override
+	public Stream<Member> stream() {
+		return stream.time(() -> delegate.stream());
+	}
+
+	@Override
+	public void delete(Long id) {
+		delete.run(() -> delegate.delete(id));
+	}
+}
@@ -0,0 +1,50 @@
+package io.github.bookrentalteam.bookrental.metrics;
+
+import io.github.bookrentalteam.bookrental.domain.Member;
+import io.github.bookrentalteam.bookrental.domain.Role;
+import io.github.bookrentalteam.bookrental.service.MemberService;
+import io.github.bookrentalteam.bookrental.session.Session;
+
+/** 호출마다 지연 시간/예외 수를 기록하는 MemberService 데코레이터 */
+public class InstrumentedMemberService implements MemberService {
+	private final MemberService delegate;
+	private final MethodTimer signUp;
+	private final MethodTimer authenticate;
+	private final MethodTimer login;
+	private final MethodTimer getCurrentUser;
+	private final MethodTimer logout;
+
+	public InstrumentedMemberService(MemberService delegate, MetricsRegistry registry) {
+		this.delegate = delegate;
+		this.signUp = registry.timer("MemberService", "signUp");
+		this.authenticate = registry.timer("MemberService", "authenticate");
+		this.login = registry.timer("MemberService", "login");
+		this.getCurrentUser = registry.timer("MemberService", "getCurrentUser");
+		this.logout = registry.timer("MemberService", "logout");
+	}
+
+	@Override
+	public Member signUp(String name, String email, String password, Role role) {
+		return signUp.time(() -> delegate.signUp(name, email, password, role));
+	}
+
+	@Override
+	public Member authenticate(String email, String password) {
+		return authenticate.time(() -> delegate.authenticate(email, password));
+	}
+
+	@Override
+	public Session login(String email, String password) {
+		return login.time(() -> delegate.login(email, password));
+	}
+
+	@Override
+	public Member getCurrentUser(String token) {
+		return getCurrentUser.time(() -> delegate.getCurrentUser(token));
+	}
+
+	@Override
+	public void logout(String token) {
+		logout.run(() -> delegate.logout(token));
+	}
+}
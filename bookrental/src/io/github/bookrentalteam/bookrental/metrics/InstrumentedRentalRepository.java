@@ -0,0 +1,125 @@
+package io.github.bookrentalteam.bookrental.metrics;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import io.github.bookrentalteam.bookrental.domain.Rental;
+import io.github.bookrentalteam.bookrental.repository.RentalRepository;
+
+/** 호출마다 지연 시간/예외 수를 기록하는 RentalRepository 데코레이터 */
+public class InstrumentedRentalRepository implements RentalRepository {
+	private final RentalRepository delegate;
+	private final MethodTimer save;
+	private final MethodTimer saveAll;
+	private final MethodTimer findById;
+	private final MethodTimer findAll;
+	private final MethodTimer findPage;
+	private final MethodTimer stream;
+	private final MethodTimer findByMemberId;
+	private final MethodTimer findOpenByMemberId;
+	private final MethodTimer countOpenByMemberId;
+	private final MethodTimer hasOverdueByMemberId;
+	private final MethodTimer findOverdueByMemberId;
+	private final MethodTimer findOverdue;
+	private final MethodTimer findMemberIdsWithOverdue;
+	private final MethodTimer refreshOverdue;
+	private final MethodTimer delete;
+
+	public InstrumentedRentalRepository(RentalRepository delegate, MetricsRegistry registry) {
+		this.delegate = delegate;
+		this.save = registry.timer("RentalRepository", "save");
+		this.saveAll = registry.timer("RentalRepository", "saveAll");
+		this.findById = registry.timer("RentalRepository", "findById");
+		this.findAll = registry.timer("RentalRepository", "findAll");
+		this.findPage = registry.timer("RentalRepository", "findPage");
+		this.stream = registry.timer("RentalRepository", "stream");
+		this.findByMemberId = registry.timer("RentalRepository", "findByMemberId");
+		this.findOpenByMemberId = registry.timer("RentalRepository", "findOpenByMemberId");
+		this.countOpenByMemberId = registry.timer("RentalRepository", "countOpenByMemberId");
+		this.hasOverdueByMemberId = registry.timer("RentalRepository", "hasOverdueByMemberId");
+		this.findOverdueByMemberId = registry.timer("RentalRepository", "findOverdueByMemberId");
+		this.findOverdue = registry.timer("RentalRepository", "findOverdue");
+		this.findMemberIdsWithOverdue = registry.timer("RentalRepository", "findMemberIdsWithOverdue");
+		this.refreshOverdue = registry.timer("RentalRepository", "refreshOverdue");
+		this.delete = registry.timer("RentalRepository", "delete");
+	}
+
+	@Override
+	public void save(Rental rental) {
+		save.run(() -> delegate.save(rental));
+	}
+
+	@Override
+	public void saveAll(List<Rental> rentals) {
+		saveAll.run(() -> delegate.saveAll(rentals));
+	}
+
+	@Override
+	public Optional<Rental> findById(Long id) {
+		return findById.time(() -> delegate.findById(id));
+	}
+
+	@Override
+	public List<Rental> findAll() {
+		return findAll.time(() -> delegate.findAll());
+	}
+
+	@Override
+	public List<Rental> findPage(long afterId, int limit) {
+		return findPage.time(() -> delegate.findPage(afterId, limit));
+	}
+
+	// 스트림 생성까지만 측정 (순회는 호출자 몫)
+	@Override
+	public Stream<Rental> stream() {
+		return stream.time(() -> delegate.stream());
+	}
+
+	@Override
+	public List<Rental> findByMemberId(Long memberId) {
+		return findByMemberId.time(() -> delegate.findByMemberId(memberId));
+	}
+
+	@Override
+	public List<Rental> findOpenByMemberId(Long memberId) {
+		return findOpenByMemberId.time(() -> delegate.findOpenByMemberId(memberId));
+	}
+
+	@Override
+	public int countOpenByMemberId(Long memberId) {
+		return countOpenByMemberId.time(() -> delegate.countOpenByMemberId(memberId));
+	}
+
+	@Override
+	public boolean hasOverdueByMemberId(Long memberId) {
+		return hasOverdueByMemberId.time(() -> delegate.hasOverdueByMemberId(memberId));
+	}
+
+	@Override
+	public List<Rental> findOverdueByMemberId(Long memberId) {
+		return findOverdueByMemberId.time(() -> delegate.findOverdueByMemberId(memberId));
+	}
+
+	@Override
+	public List<Rental> findOverdue() {
+		return findOverdue.time(() -> delegate.findOverdue());
+	}
+
+	@Override
+	public Set<Long> findMemberIdsWithOverdue() {
+		return findMemberIdsWithOverdue.time(() -> delegate.findMemberIdsWithOverdue());
+	}
+
+	@Override
+	public void refreshOverdue(LocalDate today) {
+		refreshOverdue.run(() -> delegate.refreshOverdue(today));
+	}
+
+	@Override
+	public void delete(Long id) {
+		delete.run(() -> delegate.delete(id));
+	}
+}
@@ -0,0 +1,94 @@
+package io.github.bookrentalteam.bookrental.metrics;
+
+import java.util.List;
+
+import io.github.bookrentalteam.bookrental.domain.Member;
+import io.github.bookrentalteam.bookrental.domain.Rental;
+import io.github.bookrentalteam.bookrental.service.RentalResult;
+import io.github.bookrentalteam.bookrental.service.RentalService;
+
+/** 호출마다 지연 시간/예외 수를 기록하는 RentalService 데코레이터 */
+public class InstrumentedRentalService implements RentalService {
+	private final RentalService delegate;
+	private final MethodTimer rentBook;
+	private final MethodTimer rentBooks;
+	private final MethodTimer returnBook;
+	private final MethodTimer returnBooks;
+	private final MethodTimer getRental;
+	private final MethodTimer getRentalsByMember;
+	private final MethodTimer checkOverdueAndApplySuspension;
+	private final MethodTimer extendRental;
+	private final MethodTimer extendRentals;
+	private final MethodTimer getOverdueRentals;
+	private final MethodTimer getMembersWithOverdue;
+
+	public InstrumentedRentalService(RentalService delegate, MetricsRegistry registry) {
+		this.delegate = delegate;
+		this.rentBook = registry.timer("RentalService", "rentBook");
+		this.rentBooks = registry.timer("RentalService", "rentBooks");
+		this.returnBook = registry.timer("RentalService", "returnBook");
+		this.returnBooks = registry.timer("RentalService", "returnBooks");
+		this.getRental = registry.timer("RentalService", "getRental");
+		this.getRentalsByMember = registry.timer("RentalService", "getRentalsByMember");
+		this.checkOverdueAndApplySuspension = registry.timer("RentalService", "checkOverdueAndApplySuspension");
+		this.extendRental = registry.timer("RentalService", "extendRental");
+		this.extendRentals = registry.timer("RentalService", "extendRentals");
+		this.getOverdueRentals = registry.timer("RentalService", "getOverdueRentals");
+		this.getMembersWithOverdue = registry.timer("RentalService", "getMembersWithOverdue");
+	}
+
+	@Override
+	public Rental rentBook(long bookId, Member member) {
+		return rentBook.time(() -> delegate.rentBook(bookId, member));
+	}
+
+	@Override
+	public List<RentalResult> rentBooks(List<Long> bookIds, Member member, boolean allOrNothing) {
+		return rentBooks.time(() -> delegate.rentBooks(bookIds, member, allOrNothing));
+	}
+
+	@Override
+	public Rental returnBook(long rentalId) {
+		return returnBook.time(() -> delegate.returnBook(rentalId));
+	}
+
+	@Override
+	public List<RentalResult> returnBooks(List<Long> rentalIds) {
+		return returnBooks.time(() -> delegate.returnBooks(rentalIds));
+	}
+
+	@Override
+	public Rental getRental(long rentalId) {
+		return getRental.time(() -> delegate.getRental(rentalId));
+	}
+
+	@Override
+	public List<Rental> getRentalsByMember(Member member) {
+		return getRentalsByMember.time(() -> delegate.getRentalsByMember(member));
+	}
+
+	@Override
+	public void checkOverdueAndApplySuspension(Member member) {
+		checkOverdueAndApplySuspension.run(() -> delegate.checkOverdueAndApplySuspension(member));
+	}
+
+	@Override
+	public Rental extendRental(long rentalId) {
+		return extendRental.time(() -> delegate.extendRental(rentalId));
+	}
+
+	@Override
+	public List<RentalResult> extendRentals(List<Long> rentalIds) {
+		return extendRentals.time(() -> delegate.extendRentals(rentalIds));
+	}
+
+	@Override
+	public List<Rental> getOverdueRentals() {
+		return getOverdueRentals.time(() -> delegate.getOverdueRentals());
+	}
+
+	@Override
+	public List<Member> getMembersWithOverdue() {
+		return getMembersWithOverdue.time(() -> delegate.getMembersWithOverdue());
+	}
+}
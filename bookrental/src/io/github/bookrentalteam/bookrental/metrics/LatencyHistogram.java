@@ -0,0 +1,124 @@
+package io.github.bookrentalteam.bookrental.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 잠금 없는 지연 시간 히스토그램 (나노초, 로그-선형 버킷)
+ * <p>
+ * 2의 거듭제곱 구간마다 16칸으로 나눠 상대 오차를 약 6% 이내로 유지한다. 스레드별로 나뉜 stripe에 기록해 같은 칸을 두고 CPU 캐시 라인이
+ * 경합하지 않게 하고, 조회할 때 합친다. 기록은 원자적 덧셈 두 번이다.
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BITS = 4;
+	private static final int SUB_COUNT = 1 << SUB_BITS; // 구간당 칸 수
+	private static final int MAX_EXPONENT = 40; // 2^40ns ≈ 18분 이상은 마지막 칸
+	private static final int BUCKETS = (MAX_EXPONENT - SUB_BITS + 2) * SUB_COUNT;
+	private static final int SUM = BUCKETS; // stripe 배열 끝에 합계 저장
+	private static final int STRIPES = Math.min(16,
+			Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1);
+
+	private final AtomicLongArray[] stripes = new AtomicLongArray[STRIPES];
+
+	public LatencyHistogram() {
+		for (int i = 0; i < STRIPES; i++) {
+			stripes[i] = new AtomicLongArray(BUCKETS + 1);
+		}
+	}
+
+	/** 지연 시간 기록 (나노초) */
+	public void record(long nanos) {
+		long value = Math.max(0, nanos);
+		AtomicLongArray stripe = stripes[(int) Thread.currentThread().getId() & (STRIPES - 1)];
+		stripe.getAndIncrement(bucketOf(value));
+		stripe.getAndAdd(SUM, value);
+	}
+
+	/** 현재까지의 기록을 합쳐서 반환 (기록과 동시에 호출해도 됨) */
+	public Snapshot snapshot() {
+		long[] counts = new long[BUCKETS];
+		long sum = 0;
+		for (AtomicLongArray stripe : stripes) {
+			for (int i = 0; i < BUCKETS; i++) {
+				counts[i] += stripe.get(i);
+			}
+			sum += stripe.get(SUM);
+		}
+		return new Snapshot(counts, sum);
+	}
+
+	static int bucketOf(long value) {
+		if (value < SUB_COUNT) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		if (exponent > MAX_EXPONENT) {
+			return BUCKETS - 1;
+		}
+		int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_COUNT - 1);
+		return (exponent - SUB_BITS + 1) * SUB_COUNT + sub;
+	}
+
+	// 칸의 상한 (이 칸에 들어가는 가장 큰 값)
+	static long upperBoundOf(int bucket) {
+		if (bucket < SUB_COUNT) {
+			return bucket;
+		}
+		int exponent = bucket / SUB_COUNT + SUB_BITS - 1;
+		long sub = bucket % SUB_COUNT;
+		return ((SUB_COUNT + sub + 1) << (exponent - SUB_BITS)) - 1;
+	}
+
+	/** 특정 시점의 히스토그램 */
+	public static final class Snapshot {
+		private final long[] counts;
+		private final long count;
+		private final long sum;
+
+		Snapshot(long[] counts, long sum) {
+			this.counts = counts;
+			this.sum = sum;
+			long total = 0;
+			for (long c : counts) {
+				total += c;
+			}
+			this.count = total;
+		}
+
+		/** 기록 건수 */
+		public long count() {
+			return count;
+		}
+
+		/** 지연 시간 합계 (나노초) */
+		public long sum() {
+			return sum;
+		}
+
+		/** 백분위 값 (나노초, 칸의 상한) - quantile은 0~1 */
+		public long percentile(double quantile) {
+			if (count == 0) {
+				return 0;
+			}
+			long rank = (long) Math.ceil(quantile * count);
+			long seen = 0;
+			for (int i = 0; i < counts.length; i++) {
+				seen += counts[i];
+				if (seen >= Math.max(1, rank)) {
+					return upperBoundOf(i);
+				}
+			}
+			return upperBoundOf(counts.length - 1);
+		}
+
+		/** 가장 큰 값이 속한 칸의 상한 (나노초) */
+		public long max() {
+			for (int i = counts.length - 1; i >= 0; i--) {
+				if (counts[i] > 0) {
+					return upperBoundOf(i);
+				}
+			}
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package io.github.bookrentalteam.bookrental.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/** 메서드 하나의 호출 지연 시간과 예외 건수 */
+public class MethodTimer {
+
+	private final String component;
+	private final String method;
+	private final LatencyHistogram latency = new LatencyHistogram();
+	private final LongAdder errors = new LongAdder(); // stripe 카운터
+
+	MethodTimer(String component, String method) {
+		this.component = component;
+		this.method = method;
+	}
+
+	/** 호출하고 걸린 시간 기록 (예외도 건수 기록 후 그대로 전달) */
+	public <T> T time(Supplier<T> call) {
+		long start = System.nanoTime();
+		try {
+			return call.get();
+		} catch (RuntimeException | Error e) {
+			errors.increment();
+			throw e;
+		} finally {
+			latency.record(System.nanoTime() - start);
+		}
+	}
+
+	/** 반환값 없는 호출 */
+	public void run(Runnable call) {
+		long start = System.nanoTime();
+		try {
+			call.run();
+		} catch (RuntimeException | Error e) {
+			errors.increment();
+			throw e;
+		} finally {
+			latency.record(System.nanoTime() - start);
+		}
+	}
+
+	public String getComponent() {
+		return component;
+	}
+
+	public String getMethod() {
+		return method;
+	}
+
+	public LatencyHistogram.Snapshot latency() {
+		return latency.snapshot();
+	}
+
+	public long errors() {
+		return errors.sum();
+	}
+}
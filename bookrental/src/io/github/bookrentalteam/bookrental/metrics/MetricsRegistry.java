@@ -0,0 +1,131 @@
+package io.github.bookrentalteam.bookrental.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import io.github.bookrentalteam.bookrental.cache.CacheStats;
+
+/**
+ * 메서드별 지표 모음 - Prometheus 텍스트 형식으로 내보낸다.
+ *
+ * <pre>
+ * bookrental_method_duration_seconds{component="BookService",method="searchBooks",quantile="0.99"} 0.000123
+ * bookrental_method_duration_seconds_count{...}   호출 수 (처리량은 Prometheus에서 rate로 계산)
+ * bookrental_method_errors_total{...}             예외로 끝난 호출 수
+ * bookrental_cache_requests_total{cache="book",result="hit"}   등록된 캐시의 적중/실패 수
+ * bookrental_events_dropped_total                 이벤트 버스에서 밀린 구독자가 건너뛴 이벤트 수
+ * </pre>
+ */
+public class MetricsRegistry {
+
+	private static final double[] QUANTILES = { 0.5, 0.9, 0.99, 0.999 };
+
+	private final Map<String, MethodTimer> timers = new ConcurrentHashMap<>();
+	private final Map<String, Supplier<CacheStats>> caches = new ConcurrentSkipListMap<>(); // 이름 순
+	private volatile LongSupplier droppedEvents; // 이벤트 버스 (등록 전이면 출력 안 함)
+
+	/** 컴포넌트/메서드 이름의 타이머 (없으면 생성) */
+	public MethodTimer timer(String component, String method) {
+		return timers.computeIfAbsent(component + '.' + method, k -> new MethodTimer(component, method));
+	}
+
+	/** 등록된 타이머 (컴포넌트, 메서드 이름 순) */
+	public List<MethodTimer> timers() {
+		List<MethodTimer> list = new ArrayList<>(timers.values());
+		list.sort(Comparator.comparing(MethodTimer::getComponent).thenComparing(MethodTimer::getMethod));
+		return list;
+	}
+
+	/** 캐시 통계 내보내기 등록 (출력할 때마다 stats를 읽음) */
+	public void cache(String name, Supplier<CacheStats> stats) {
+		caches.put(name, stats);
+	}
+
+	/** 이벤트 버스의 버린 이벤트 수 내보내기 등록 (출력할 때마다 읽음) */
+	public void events(LongSupplier dropped) {
+		this.droppedEvents = dropped;
+	}
+
+	/** Prometheus 텍스트 형식 출력 */
+	public void writePrometheus(Writer out) throws IOException {
+		List<MethodTimer> list = timers();
+		out.write("# HELP bookrental_method_duration_seconds 서비스/저장소 메서드 호출 지연 시간\n");
+		out.write("# TYPE bookrental_method_duration_seconds summary\n");
+		for (MethodTimer t : list) {
+			LatencyHistogram.Snapshot s = t.latency();
+			String labels = "component=\"" + t.getComponent() + "\",method=\"" + t.getMethod() + "\"";
+			for (double q : QUANTILES) {
+				out.write("bookrental_method_duration_seconds{" + labels + ",quantile=\"" + q + "\"} "
+						+ seconds(s.percentile(q)) + "\n");
+			}
+			out.write("bookrental_method_duration_seconds_sum{" + labels + "} " + seconds(s.sum()) + "\n");
+			out.write("bookrental_method_duration_seconds_count{" + labels + "} " + s.count() + "\n");
+		}
+		out.write("# HELP bookrental_method_errors_total 예외로 끝난 호출 수\n");
+		out.write("# TYPE bookrental_method_errors_total counter\n");
+		for (MethodTimer t : list) {
+			out.write("bookrental_method_errors_total{component=\"" + t.getComponent() + "\",method=\"" + t.getMethod()
+					+ "\"} " + t.errors() + "\n");
+		}
+		if (!caches.isEmpty()) {
+			writeCaches(out);
+		}
+		LongSupplier dropped = droppedEvents;
+		if (dropped != null) {
+			out.write("# HELP bookrental_events_dropped_total 밀린 구독자가 건너뛴 도메인 이벤트 수\n");
+			out.write("# TYPE bookrental_events_dropped_total counter\n");
+			out.write("bookrental_events_dropped_total " + dropped.getAsLong() + "\n");
+		}
+	}
+
+	private void writeCaches(Writer out) throws IOException {
+		Map<String, CacheStats> snapshot = new LinkedHashMap<>();
+		caches.forEach((name, stats) -> snapshot.put(name, stats.get()));
+		out.write("# HELP bookrental_cache_requests_total 캐시 조회 수 (result=hit|miss)\n");
+		out.write("# TYPE bookrental_cache_requests_total counter\n");
+		for (Map.Entry<String, CacheStats> e : snapshot.entrySet()) {
+			out.write("bookrental_cache_requests_total{cache=\"" + e.getKey() + "\",result=\"hit\"} "
+					+ e.getValue().hitCount() + "\n");
+			out.write("bookrental_cache_requests_total{cache=\"" + e.getKey() + "\",result=\"miss\"} "
+					+ e.getValue().missCount() + "\n");
+		}
+		out.write("# HELP bookrental_cache_evictions_total 크기 제한으로 퇴출된 항목 수\n");
+		out.write("# TYPE bookrental_cache_evictions_total counter\n");
+		for (Map.Entry<String, CacheStats> e : snapshot.entrySet()) {
+			out.write("bookrental_cache_evictions_total{cache=\"" + e.getKey() + "\"} " + e.getValue().evictionCount()
+					+ "\n");
+		}
+		out.write("# HELP bookrental_cache_size 캐시 항목 수\n");
+		out.write("# TYPE bookrental_cache_size gauge\n");
+		for (Map.Entry<String, CacheStats> e : snapshot.entrySet()) {
+			out.write("bookrental_cache_size{cache=\"" + e.getKey() + "\"} " + e.getValue().size() + "\n");
+		}
+	}
+
+	/** 파일로 내보내기 (임시 파일에 쓴 뒤 교체하므로 수집기가 반쯤 쓴 파일을 읽지 않음) */
+	public void writeTo(Path file) throws IOException {
+		Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+		try (Writer out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+			writePrometheus(out);
+		}
+		Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private static String seconds(long nanos) {
+		return String.format(Locale.ROOT, "%.9f", nanos / 1e9);
+	}
+}
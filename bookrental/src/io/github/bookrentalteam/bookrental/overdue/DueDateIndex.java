@@ -0,0 +1,134 @@
+package io.github.bookrentalteam.bookrental.overdue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import io.github.bookrentalteam.bookrental.domain.Rental;
+import io.github.bookrentalteam.bookrental.domain.RentalStatus;
+
+/**
+ * 반납예정일 색인 - 반납 전 대여를 dueAt 기준으로 정렬해 두고, 날짜가 바뀔 때 기한이 지난 대여만 연체 목록으로 옮긴다.
+ * <p>
+ * 연체 여부 조회는 이력 전체를 훑지 않고 회원별 연체 목록만 확인한다.
+ */
+public class DueDateIndex {
+
+	private final NavigableMap<LocalDate, Map<Long, Rental>> pending = new ConcurrentSkipListMap<>(); // 아직 기한 내
+	private final Map<Long, LocalDate> trackedDue = new ConcurrentHashMap<>(); // 대여 ID → 색인된 반납예정일
+	private final Map<Long, Rental> overdue = new ConcurrentHashMap<>(); // 연체 중인 대여
+	private final Map<Long, Set<Long>> overdueByMember = new ConcurrentHashMap<>(); // 회원 ID → 연체 대여 ID
+
+	private volatile LocalDate today; // 마지막으로 반영한 날짜
+
+	/** 대여 상태/반납예정일 반영 (반납 완료면 색인에서 제거) */
+	public synchronized void track(Rental rental) {
+		untrack(rental);
+		if (rental.getStatus() != RentalStatus.RENTED) {
+			return;
+		}
+		LocalDate dueAt = rental.getDueAt();
+		trackedDue.put(rental.getId(), dueAt);
+		if (today != null && dueAt.isBefore(today)) {
+			markOverdue(rental);
+		} else {
+			pending.computeIfAbsent(dueAt, k -> new ConcurrentHashMap<>()).put(rental.getId(), rental);
+		}
+	}
+
+	/** 색인에서 제거 */
+	public synchronized void untrack(Rental rental) {
+		LocalDate dueAt = trackedDue.remove(rental.getId());
+		if (dueAt == null) {
+			return;
+		}
+		pending.computeIfPresent(dueAt, (k, rentals) -> {
+			rentals.remove(rental.getId());
+			return rentals.isEmpty() ? null : rentals;
+		});
+		if (overdue.remove(rental.getId()) != null) {
+			overdueByMember.computeIfPresent(rental.getMemberId(), (k, ids) -> {
+				ids.remove(rental.getId());
+				return ids.isEmpty() ? null : ids;
+			});
+		}
+	}
+
+	/**
+	 * 날짜 반영: date 이전이 기한인 대여를 연체로 이동 (같은 날이면 즉시 반환)
+	 * <p>
+	 * 날짜가 되돌아가면 기한이 다시 date 이후가 된 연체 대여를 기한 내로 되돌림 - O(연체 건수)
+	 */
+	public void advanceTo(LocalDate date) {
+		LocalDate current = today;
+		if (current != null && date.isEqual(current)) {
+			return;
+		}
+		synchronized (this) {
+			if (today != null && date.isBefore(today)) {
+				rewindTo(date);
+				today = date;
+				return;
+			}
+			NavigableMap<LocalDate, Map<Long, Rental>> due = pending.headMap(date, false);
+			for (Map<Long, Rental> rentals : due.values()) {
+				rentals.values().forEach(this::markOverdue);
+			}
+			due.clear();
+			today = date;
+		}
+	}
+
+	/** 회원의 연체 대여 존재 여부 - O(1) */
+	public boolean hasOverdue(Long memberId) {
+		return overdueByMember.containsKey(memberId);
+	}
+
+	/** 회원의 연체 대여 목록 - O(k) */
+	public List<Rental> overdueOf(Long memberId) {
+		List<Rental> result = new ArrayList<>();
+		for (Long id : overdueByMember.getOrDefault(memberId, Set.of())) {
+			Rental rental = overdue.get(id);
+			if (rental != null) {
+				result.add(rental);
+			}
+		}
+		return result;
+	}
+
+	/** 전체 연체 대여 목록 - O(k) */
+	public List<Rental> overdueRentals() {
+		return new ArrayList<>(overdue.values());
+	}
+
+	/** 연체 도서가 있는 회원 ID - O(k) */
+	public Set<Long> membersWithOverdue() {
+		return new HashSet<>(overdueByMember.keySet());
+	}
+
+	private void rewindTo(LocalDate date) {
+		for (Rental rental : new ArrayList<>(overdue.values())) {
+			LocalDate dueAt = trackedDue.get(rental.getId());
+			if (dueAt.isBefore(date)) {
+				continue;
+			}
+			overdue.remove(rental.getId());
+			overdueByMember.computeIfPresent(rental.getMemberId(), (k, ids) -> {
+				ids.remove(rental.getId());
+				return ids.isEmpty() ? null : ids;
+			});
+			pending.computeIfAbsent(dueAt, k -> new ConcurrentHashMap<>()).put(rental.getId(), rental);
+		}
+	}
+
+	private void markOverdue(Rental rental) {
+		overdue.put(rental.getId(), rental);
+		overdueByMember.computeIfAbsent(rental.getMemberId(), k -> ConcurrentHashMap.newKeySet()).add(rental.getId());
+	}
+}
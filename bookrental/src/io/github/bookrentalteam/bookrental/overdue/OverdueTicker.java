@@ -0,0 +1,48 @@
+package io.github.bookrentalteam.bookrental.overdue;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.github.bookrentalteam.bookrental.common.time.BusinessClock;
+import io.github.bookrentalteam.bookrental.repository.RentalRepository;
+
+/**
+ * 연체 색인 갱신기 - 백그라운드에서 주기적으로 날짜 변경을 반영한다.
+ * <p>
+ * 조회 시에도 날짜를 확인하므로 ticker는 날짜가 바뀐 직후 첫 요청이 이동 비용을 떠안지 않게 하는 용도다.
+ */
+public class OverdueTicker implements AutoCloseable {
+
+	private final RentalRepository rentalRepository;
+	private final ScheduledExecutorService scheduler;
+
+	public OverdueTicker(RentalRepository rentalRepository) {
+		this.rentalRepository = rentalRepository;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread t = new Thread(r, "overdue-ticker");
+			t.setDaemon(true);
+			return t;
+		});
+	}
+
+	/** period 간격으로 연체 색인 갱신 시작 */
+	public OverdueTicker start(long period, TimeUnit unit) {
+		scheduler.scheduleAtFixedRate(this::tick, 0, period, unit);
+		return this;
+	}
+
+	/** 한 번 갱신 */
+	public void tick() {
+		try {
+			rentalRepository.refreshOverdue(BusinessClock.current().today());
+		} catch (RuntimeException e) {
+			System.err.println("[연체 갱신 실패] " + e.getMessage()); // 다음 주기에 재시도
+		}
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+	}
+}
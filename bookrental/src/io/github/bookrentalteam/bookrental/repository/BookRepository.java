@@ -2,16 +2,27 @@ package io.github.bookrentalteam.bookrental.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import io.github.bookrentalteam.bookrental.domain.Book;
 
 public interface BookRepository {
+	/** 저장 (이미 다른 도서가 사용 중인 ISBN이면 IllegalStateException) */
 	void save(Book book);
 
+	/** 일괄 저장 - 차례로 저장하다 ISBN이 충돌하면 IllegalStateException (앞서 저장된 도서는 유지) */
+	void saveAll(List<Book> books);
+
 	Optional<Book> findById(Long id);
 
 	List<Book> findAll();
 
+	/** ID 순 페이지 조회 - afterId보다 큰 ID부터 최대 limit건 (키셋 페이지네이션) */
+	List<Book> findPage(long afterId, int limit);
+
+	/** ID 순 전체 순회 - 목록을 한 번에 만들지 않음 */
+	Stream<Book> stream();
+
 	void delete(Long id);
 
 	Optional<Book> findByIsbn(String isbn); // ISBN으로 책을 찾는 메서드 추가
@@ -2,10 +2,12 @@ package io.github.bookrentalteam.bookrental.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import io.github.bookrentalteam.bookrental.domain.Member;
 
 public interface MemberRepository {
+	/** 저장 (이미 다른 회원이 사용 중인 이메일이면 IllegalStateException) */
 	void save(Member member);
 
 	Optional<Member> findById(Long id);
@@ -14,5 +16,11 @@ public interface MemberRepository {
 
 	List<Member> findAll();
 
+	/** ID 순 페이지 조회 - afterId보다 큰 ID부터 최대 limit건 (키셋 페이지네이션) */
+	List<Member> findPage(long afterId, int limit);
+
+	/** ID 순 전체 순회 - 목록을 한 번에 만들지 않음 */
+	Stream<Member> stream();
+
 	void delete(Long id);
 }
\ No newline at end of file
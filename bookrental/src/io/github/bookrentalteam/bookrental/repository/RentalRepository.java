@@ -1,18 +1,43 @@
 package io.github.bookrentalteam.bookrental.repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import io.github.bookrentalteam.bookrental.domain.Rental;
 
 public interface RentalRepository {
 	void save(Rental rental);
 
+	void saveAll(List<Rental> rentals); // 일괄 저장 (저널은 한 번에 기록)
+
 	Optional<Rental> findById(Long id);
 
 	List<Rental> findAll();
 
+	/** ID 순 페이지 조회 - afterId보다 큰 ID부터 최대 limit건 (키셋 페이지네이션) */
+	List<Rental> findPage(long afterId, int limit);
+
+	/** ID 순 전체 순회 - 목록을 한 번에 만들지 않음 */
+	Stream<Rental> stream();
+
 	List<Rental> findByMemberId(Long memberId); // 내 대여목록 조회용
 
+	List<Rental> findOpenByMemberId(Long memberId); // 반납 전(RENTED) 대여만 조회
+
+	int countOpenByMemberId(Long memberId); // 반납 전 대여 권수 (대여 한도 검사용)
+
+	boolean hasOverdueByMemberId(Long memberId); // 연체 대여 존재 여부
+
+	List<Rental> findOverdueByMemberId(Long memberId); // 회원의 연체 대여
+
+	List<Rental> findOverdue(); // 전체 연체 대여
+
+	Set<Long> findMemberIdsWithOverdue(); // 연체 도서가 있는 회원
+
+	void refreshOverdue(LocalDate today); // 날짜 변경 반영 (기한 지난 대여를 연체로 이동)
+
 	void delete(Long id);
 }
@@ -1,20 +1,41 @@
 package io.github.bookrentalteam.bookrental.repository.impl;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
 
 import io.github.bookrentalteam.bookrental.domain.Book;
 import io.github.bookrentalteam.bookrental.repository.BookRepository;
 
 public class InMemoryBookRepository implements BookRepository {
-	private final Map<Long, Book> store = new HashMap<>();
+	private final ConcurrentSkipListMap<Long, Book> store = new ConcurrentSkipListMap<>(); // ID 순
+	private final Map<String, Long> isbnIndex = new ConcurrentHashMap<>(); // 정규화된 ISBN → 도서 ID
 
 	@Override
 	public void save(Book book) {
-		store.put(book.getId(), book); // Book 생성 시 ID가 자동 부여되므로 그대로 사용
+		// ISBN 선점: 동시에 같은 ISBN을 등록해도 한 권만 통과
+		String key = normalizeIsbn(book.getIsbn());
+		Long owner = isbnIndex.putIfAbsent(key, book.getId());
+		if (owner != null && !owner.equals(book.getId())) {
+			throw new IllegalStateException("이미 존재하는 ISBN입니다: " + book.getIsbn());
+		}
+
+		Book previous = store.put(book.getId(), book); // Book 생성 시 ID가 자동 부여되므로 그대로 사용
+		if (previous != null && !normalizeIsbn(previous.getIsbn()).equals(key)) {
+			isbnIndex.remove(normalizeIsbn(previous.getIsbn()), previous.getId());
+		}
+	}
+
+	@Override
+	public void saveAll(List<Book> books) {
+		for (Book book : books) {
+			save(book);
+		}
 	}
 
 	@Override
@@ -27,14 +48,46 @@ public class InMemoryBookRepository implements BookRepository {
 		return new ArrayList<>(store.values());
 	}
 
+	@Override
+	public List<Book> findPage(long afterId, int limit) {
+		if (limit <= 0) {
+			throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다.");
+		}
+		List<Book> page = new ArrayList<>(Math.min(limit, 256));
+		for (Book e : store.tailMap(afterId, false).values()) {
+			page.add(e);
+			if (page.size() == limit) {
+				break;
+			}
+		}
+		return page;
+	}
+
+	@Override
+	public Stream<Book> stream() {
+		return store.values().stream(); // 약한 일관성 (순회 중 변경은 반영될 수도, 안 될 수도 있음)
+	}
+
 	@Override
 	public void delete(Long id) {
-		store.remove(id);
+		Book removed = store.remove(id);
+		if (removed != null) {
+			isbnIndex.remove(normalizeIsbn(removed.getIsbn()), id);
+		}
 	}
 
 	@Override
 	public Optional<Book> findByIsbn(String isbn) {
-		return store.values().stream().filter(book -> book.getIsbn().equalsIgnoreCase(isbn)).findFirst();
+		if (isbn == null) {
+			return Optional.empty();
+		}
+		Long id = isbnIndex.get(normalizeIsbn(isbn));
+		return (id != null) ? Optional.ofNullable(store.get(id)) : Optional.empty();
+	}
+
+	// 대소문자 구분 없이 비교하기 위한 인덱스 키
+	private static String normalizeIsbn(String isbn) {
+		return isbn.toLowerCase(Locale.ROOT);
 	}
 
 }
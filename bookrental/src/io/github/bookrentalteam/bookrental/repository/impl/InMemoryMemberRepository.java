@@ -1,20 +1,32 @@
 package io.github.bookrentalteam.bookrental.repository.impl;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
 
 import io.github.bookrentalteam.bookrental.domain.Member;
 import io.github.bookrentalteam.bookrental.repository.MemberRepository;
 
 public class InMemoryMemberRepository implements MemberRepository {
-	private final Map<Long, Member> store = new HashMap<>();
+	private final ConcurrentSkipListMap<Long, Member> store = new ConcurrentSkipListMap<>(); // ID 순
+	private final Map<String, Long> emailIndex = new ConcurrentHashMap<>(); // 이메일 → 회원 ID (유니크)
 
 	@Override
 	public void save(Member member) {
-		store.put(member.getId(), member); // Member 생성자에서 ID 자동 생성됨
+		// 이메일 선점: 동시에 같은 이메일로 가입해도 한 명만 통과
+		Long owner = emailIndex.putIfAbsent(member.getEmail(), member.getId());
+		if (owner != null && !owner.equals(member.getId())) {
+			throw new IllegalStateException("이미 등록된 이메일입니다.");
+		}
+
+		Member previous = store.put(member.getId(), member); // Member 생성자에서 ID 자동 생성됨
+		if (previous != null && !previous.getEmail().equals(member.getEmail())) {
+			emailIndex.remove(previous.getEmail(), member.getId()); // 이메일 변경 시 이전 키 정리
+		}
 	}
 
 	@Override
@@ -24,7 +36,11 @@ public class InMemoryMemberRepository implements MemberRepository {
 
 	@Override
 	public Optional<Member> findByEmail(String email) {
-		return store.values().stream().filter(m -> m.getEmail().equals(email)).findFirst();
+		if (email == null) {
+			return Optional.empty();
+		}
+		Long id = emailIndex.get(email);
+		return (id != null) ? Optional.ofNullable(store.get(id)) : Optional.empty();
 	}
 
 	@Override
@@ -32,8 +48,31 @@ public class InMemoryMemberRepository implements MemberRepository {
 		return new ArrayList<>(store.values());
 	}
 
+	@Override
+	public List<Member> findPage(long afterId, int limit) {
+		if (limit <= 0) {
+			throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다.");
+		}
+		List<Member> page = new ArrayList<>(Math.min(limit, 256));
+		for (Member e : store.tailMap(afterId, false).values()) {
+			page.add(e);
+			if (page.size() == limit) {
+				break;
+			}
+		}
+		return page;
+	}
+
+	@Override
+	public Stream<Member> stream() {
+		return store.values().stream(); // 약한 일관성 (순회 중 변경은 반영될 수도, 안 될 수도 있음)
+	}
+
 	@Override
 	public void delete(Long id) {
-		store.remove(id);
+		Member removed = store.remove(id);
+		if (removed != null) {
+			emailIndex.remove(removed.getEmail(), id);
+		}
 	}
 }
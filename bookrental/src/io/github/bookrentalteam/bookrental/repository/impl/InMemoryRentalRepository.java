@@ -1,45 +1,211 @@
 package io.github.bookrentalteam.bookrental.repository.impl;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import io.github.bookrentalteam.bookrental.common.time.BusinessClock;
 import io.github.bookrentalteam.bookrental.domain.Rental;
+import io.github.bookrentalteam.bookrental.domain.RentalStatus;
+import io.github.bookrentalteam.bookrental.overdue.DueDateIndex;
 import io.github.bookrentalteam.bookrental.repository.RentalRepository;
 
+/**
+ * 메모리 대여 저장소 - 반납 전 대여는 객체 그대로, 반납 완료 대여는 보관소(RentalArchive)에 열 단위로 옮겨 저장한다.
+ * <p>
+ * 이력의 대부분인 반납 완료 대여를 원시 타입 배열로 두어 메모리를 줄인다. 조회는 두 곳을 ID 순으로 합쳐 반환하므로 호출자는 구분하지 않는다.
+ */
 public class InMemoryRentalRepository implements RentalRepository {
-	private final Map<Long, Rental> store = new HashMap<>();
+	private final ConcurrentSkipListMap<Long, Rental> store = new ConcurrentSkipListMap<>(); // 반납 전 대여, ID 순
+	private final Map<Long, Map<Long, Rental>> openByMember = new ConcurrentHashMap<>(); // 회원 ID → 반납 전(RENTED) 대여
+	private final RentalArchive archive = new RentalArchive(); // 반납 완료 대여
+	private final DueDateIndex dueDateIndex = new DueDateIndex(); // 반납예정일/연체 색인
 
 	@Override
 	public void save(Rental rental) {
-		store.put(rental.getId(), rental); // Rental 생성자에서 ID 자동 생성됨
+		// 상태 변경(반납 등)은 save 시점에 반영
+		if (rental.getStatus() == RentalStatus.RENTED) {
+			Rental previous = store.put(rental.getId(), rental); // Rental 생성자에서 ID 자동 생성됨
+			addTo(openByMember, rental.getMemberId(), rental);
+			if (previous == null) {
+				archive.remove(rental.getId()); // 저널 재실행 등으로 반납 전 상태가 다시 저장된 경우 (보관되지 않았으면 읽기 잠금만)
+			}
+		} else {
+			archive.add(rental); // 보관 후 제거 - 옮기는 도중에도 어느 한쪽에서는 조회됨
+			store.remove(rental.getId());
+			removeFrom(openByMember, rental.getMemberId(), rental.getId());
+		}
+		dueDateIndex.track(rental); // 연장 시 반납예정일 재색인, 반납 시 제거
+	}
+
+	@Override
+	public void saveAll(List<Rental> rentals) {
+		for (Rental rental : rentals) {
+			save(rental);
+		}
 	}
 
 	@Override
 	public Optional<Rental> findById(Long id) {
-		return Optional.ofNullable(store.get(id));
+		Rental rental = store.get(id);
+		return Optional.ofNullable((rental != null) ? rental : archive.get(id));
 	}
 
 	@Override
 	public List<Rental> findAll() {
-		return new ArrayList<>(store.values());
+		return stream().collect(Collectors.toCollection(ArrayList::new));
 	}
 
 	@Override
-	public List<Rental> findByMemberId(Long memberId) {
-		List<Rental> rentals = new ArrayList<>();
-		for (Rental rental : store.values()) {
-			if (rental.getMemberId().equals(memberId)) {
-				rentals.add(rental);
-			}
+	public List<Rental> findPage(long afterId, int limit) {
+		if (limit <= 0) {
+			throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다.");
 		}
-		return rentals;
+		return merged(store.tailMap(afterId, false).values().iterator(), archive.spliterator(afterId)).limit(limit)
+				.collect(Collectors.toCollection(ArrayList::new));
+	}
+
+	@Override
+	public Stream<Rental> stream() {
+		// 반납 전 대여와 보관소를 한 번에 병합 - 약한 일관성 (순회 중 변경은 반영될 수도, 안 될 수도 있음)
+		return merged(store.values().iterator(), archive.spliterator(0));
+	}
+
+	@Override
+	public List<Rental> findByMemberId(Long memberId) {
+		Map<Long, Rental> open = openByMember.get(memberId);
+		List<Rental> archived = archive.findByMemberId(memberId);
+		return (open != null)
+				? merged(open.values().iterator(), archived.spliterator()).collect(Collectors.toCollection(ArrayList::new))
+				: archived;
+	}
+
+	@Override
+	public List<Rental> findOpenByMemberId(Long memberId) {
+		Map<Long, Rental> rentals = openByMember.get(memberId);
+		return (rentals != null) ? new ArrayList<>(rentals.values()) : new ArrayList<>();
+	}
+
+	@Override
+	public int countOpenByMemberId(Long memberId) {
+		Map<Long, Rental> rentals = openByMember.get(memberId);
+		return (rentals != null) ? rentals.size() : 0;
+	}
+
+	@Override
+	public boolean hasOverdueByMemberId(Long memberId) {
+		dueDateIndex.advanceTo(BusinessClock.current().today());
+		return dueDateIndex.hasOverdue(memberId);
+	}
+
+	@Override
+	public List<Rental> findOverdueByMemberId(Long memberId) {
+		dueDateIndex.advanceTo(BusinessClock.current().today());
+		return dueDateIndex.overdueOf(memberId);
+	}
+
+	@Override
+	public List<Rental> findOverdue() {
+		dueDateIndex.advanceTo(BusinessClock.current().today());
+		return dueDateIndex.overdueRentals();
+	}
+
+	@Override
+	public Set<Long> findMemberIdsWithOverdue() {
+		dueDateIndex.advanceTo(BusinessClock.current().today());
+		return dueDateIndex.membersWithOverdue();
+	}
+
+	@Override
+	public void refreshOverdue(LocalDate today) {
+		dueDateIndex.advanceTo(today);
 	}
 
 	@Override
 	public void delete(Long id) {
-		store.remove(id);
+		Rental removed = store.remove(id);
+		if (removed != null) {
+			removeFrom(openByMember, removed.getMemberId(), id);
+			dueDateIndex.untrack(removed);
+		} else {
+			archive.remove(id);
+		}
+	}
+
+	/** 보관소로 옮겨진 반납 완료 대여 수 */
+	public int archivedCount() {
+		return archive.size();
+	}
+
+	private static Stream<Rental> merged(Iterator<Rental> open, Spliterator<Rental> archived) {
+		return StreamSupport.stream(new MergeSpliterator(open, archived), false);
+	}
+
+	// 회원별 맵 생성/추가를 한 번의 compute 안에서 - 비워진 맵을 removeFrom이 떼어 내는 사이 떨어진 맵에 넣지 않도록
+	private static void addTo(Map<Long, Map<Long, Rental>> index, Long memberId, Rental rental) {
+		index.compute(memberId, (k, rentals) -> {
+			Map<Long, Rental> target = (rentals != null) ? rentals : new ConcurrentSkipListMap<>();
+			target.put(rental.getId(), rental);
+			return target;
+		});
+	}
+
+	private static void removeFrom(Map<Long, Map<Long, Rental>> index, Long memberId, Long rentalId) {
+		index.computeIfPresent(memberId, (k, rentals) -> {
+			rentals.remove(rentalId);
+			return rentals.isEmpty() ? null : rentals;
+		});
+	}
+
+	/** ID 순인 반납 전 대여와 보관 대여를 합치는 순회 (옮기는 도중 양쪽에 있는 대여는 반납 전 쪽을 사용) */
+	private static final class MergeSpliterator extends Spliterators.AbstractSpliterator<Rental> {
+		private final Iterator<Rental> open;
+		private final Spliterator<Rental> archived;
+		private Rental nextOpen;
+		private Rental nextArchived;
+
+		MergeSpliterator(Iterator<Rental> open, Spliterator<Rental> archived) {
+			super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+			this.open = open;
+			this.archived = archived;
+			this.nextOpen = open.hasNext() ? open.next() : null;
+			advanceArchived();
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Rental> action) {
+			if (nextOpen == null && nextArchived == null) {
+				return false;
+			}
+			long archivedId = (nextArchived != null) ? nextArchived.getId() : Long.MAX_VALUE;
+			if (nextOpen != null && nextOpen.getId() <= archivedId) {
+				if (nextOpen.getId() == archivedId) {
+					advanceArchived();
+				}
+				action.accept(nextOpen);
+				nextOpen = open.hasNext() ? open.next() : null;
+			} else {
+				action.accept(nextArchived);
+				advanceArchived();
+			}
+			return true;
+		}
+
+		private void advanceArchived() {
+			nextArchived = null;
+			archived.tryAdvance(r -> nextArchived = r);
+		}
 	}
 }
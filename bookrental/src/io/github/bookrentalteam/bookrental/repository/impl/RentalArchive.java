@@ -0,0 +1,335 @@
+package io.github.bookrentalteam.bookrental.repository.impl;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import io.github.bookrentalteam.bookrental.common.collection.LongIntHashIndex;
+import io.github.bookrentalteam.bookrental.domain.Rental;
+import io.github.bookrentalteam.bookrental.domain.RentalStatus;
+
+/**
+ * 반납 완료 대여 보관소 - 대여를 객체 대신 원시 타입 열(column)로 저장한다.
+ * <p>
+ * 행은 CHUNK_SIZE 단위 청크에 보관 순서대로 덧붙이기만 하고, 청크마다 ID 순 행 순서(order)를 추가할 때마다 맞춰 둔다. 대여 ID → 행은 원시
+ * 타입 해시 색인, 회원 → 행은 ID 순 int 목록으로 찾는다. 삭제되거나 다시 저장되어 대체된 행은 상태 열에 표시만 하고 자리는 재사용하지 않는다.
+ * 조회할 때마다 Rental을 새로 만들어 반환한다(반납 완료 대여는 더 바뀌지 않음).
+ */
+final class RentalArchive {
+
+	static final int CHUNK_SIZE = 4096;
+
+	private static final byte REMOVED = -1; // 상태 열의 삭제 표시
+	private static final int NO_DATE = Integer.MIN_VALUE;
+	private static final RentalStatus[] STATUSES = RentalStatus.values();
+	private static final int DATE_CACHE_SIZE = 4096; // 2의 거듭제곱
+
+	// epoch day → LocalDate 캐시 (이력의 날짜는 몇천 종류뿐이라 대부분 적중, 불변 객체라 경쟁해도 무해)
+	private static final DayDate[] DATE_CACHE = new DayDate[DATE_CACHE_SIZE];
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	// 이하 lock으로 보호
+	private final List<Chunk> chunks = new ArrayList<>();
+	private final LongIntHashIndex idIndex = new LongIntHashIndex(CHUNK_SIZE); // 대여 ID → 행
+	private final Map<Long, RowList> byMember = new HashMap<>(); // 회원 ID → 행 (ID 순)
+	private int count; // 사용한 행 수 (삭제 포함)
+	private int live; // 유효한 행 수
+
+	/** 보관 (같은 ID가 이미 있으면 대체) */
+	void add(Rental rental) {
+		lock.writeLock().lock();
+		try {
+			int previous = idIndex.get(rental.getId());
+			if (previous >= 0) {
+				markRemoved(rental.getId(), previous);
+			}
+			if (count == chunks.size() * CHUNK_SIZE) {
+				chunks.add(new Chunk());
+			}
+			int row = count++;
+			chunks.get(row / CHUNK_SIZE).append(rental);
+			idIndex.put(rental.getId(), row);
+			byMember.computeIfAbsent(rental.getMemberId(), k -> new RowList()).insert(row, rental.getId(), this);
+			live++;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/** 보관된 대여 (없으면 null) */
+	Rental get(long id) {
+		lock.readLock().lock();
+		try {
+			int row = idIndex.get(id);
+			return (row >= 0) ? read(row) : null;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/** 삭제 - 보관되어 있었으면 true (없으면 읽기 잠금만 잡고 반환) */
+	boolean remove(long id) {
+		lock.readLock().lock();
+		try {
+			if (idIndex.get(id) < 0) {
+				return false;
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		lock.writeLock().lock();
+		try {
+			int row = idIndex.get(id);
+			if (row < 0) {
+				return false;
+			}
+			markRemoved(id, row);
+			return true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/** 회원의 보관된 대여 (ID 순) */
+	List<Rental> findByMemberId(long memberId) {
+		lock.readLock().lock();
+		try {
+			RowList rows = byMember.get(memberId);
+			if (rows == null) {
+				return new ArrayList<>();
+			}
+			List<Rental> result = new ArrayList<>(rows.size);
+			for (int i = 0; i < rows.size; i++) {
+				int row = rows.rows[i];
+				if (chunks.get(row / CHUNK_SIZE).status[row % CHUNK_SIZE] != REMOVED) {
+					result.add(read(row));
+				}
+			}
+			return result;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/** ID 순 페이지 - afterId보다 큰 ID부터 최대 limit건 */
+	List<Rental> findPage(long afterId, int limit) {
+		List<Rental> page = new ArrayList<>(Math.min(limit, 256));
+		Spliterator<Rental> it = spliterator(afterId);
+		while (page.size() < limit && it.tryAdvance(page::add)) {
+			// tryAdvance가 추가
+		}
+		return page;
+	}
+
+	/**
+	 * afterId보다 큰 ID부터 ID 순 순회 - 청크별 ID 순서를 한 번만 만든 힙으로 병합한다.
+	 * <p>
+	 * 시작 시점의 행까지만 보며(약한 일관성) 순회 중에는 잠금을 잡지 않는다. 가득 찬 청크의 열과 순서는 더 바뀌지 않고, 채우는 중인 청크의 순서는
+	 * 복사해 둔다.
+	 */
+	Spliterator<Rental> spliterator(long afterId) {
+		lock.readLock().lock();
+		try {
+			PriorityQueue<Cursor> heads = new PriorityQueue<>(Math.max(1, chunks.size()),
+					Comparator.comparingLong(Cursor::id));
+			for (Chunk chunk : chunks) {
+				int[] order = (chunk.size == CHUNK_SIZE) ? chunk.order : Arrays.copyOf(chunk.order, chunk.size);
+				Cursor cursor = new Cursor(chunk, order, chunk.firstAfter(afterId));
+				if (cursor.skipRemoved()) {
+					heads.add(cursor);
+				}
+			}
+			return new MergeSpliterator(heads);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/** 유효한 보관 건수 */
+	int size() {
+		lock.readLock().lock();
+		try {
+			return live;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private Rental read(int row) {
+		return chunks.get(row / CHUNK_SIZE).read(row % CHUNK_SIZE);
+	}
+
+	private long idAt(int row) {
+		return chunks.get(row / CHUNK_SIZE).ids[row % CHUNK_SIZE];
+	}
+
+	private void markRemoved(long id, int row) {
+		chunks.get(row / CHUNK_SIZE).status[row % CHUNK_SIZE] = REMOVED;
+		idIndex.remove(id, row);
+		live--;
+	}
+
+	private static int day(LocalDate date) {
+		return (date != null) ? Math.toIntExact(date.toEpochDay()) : NO_DATE;
+	}
+
+	private static LocalDate date(int day) {
+		if (day == NO_DATE) {
+			return null;
+		}
+		int slot = day & (DATE_CACHE_SIZE - 1);
+		DayDate cached = DATE_CACHE[slot];
+		if (cached != null && cached.day == day) {
+			return cached.date;
+		}
+		LocalDate date = LocalDate.ofEpochDay(day);
+		DATE_CACHE[slot] = new DayDate(day, date);
+		return date;
+	}
+
+	private record DayDate(int day, LocalDate date) {
+	}
+
+	/** 열 묶음 - 대여 ID/도서 ID/회원 ID는 long, 날짜는 epoch day(int), 상태/연장 횟수는 byte */
+	private static final class Chunk {
+		final long[] ids = new long[CHUNK_SIZE];
+		final long[] bookIds = new long[CHUNK_SIZE];
+		final long[] memberIds = new long[CHUNK_SIZE];
+		final int[] rentedAt = new int[CHUNK_SIZE];
+		final int[] dueAt = new int[CHUNK_SIZE];
+		final int[] returnedAt = new int[CHUNK_SIZE];
+		final byte[] status = new byte[CHUNK_SIZE];
+		final byte[] extensions = new byte[CHUNK_SIZE];
+		final int[] order = new int[CHUNK_SIZE]; // 앞의 size개가 ID 순 행 번호
+		int size;
+
+		void append(Rental r) {
+			int i = size;
+			ids[i] = r.getId();
+			bookIds[i] = r.getBookId();
+			memberIds[i] = r.getMemberId();
+			rentedAt[i] = day(r.getRentedAt());
+			dueAt[i] = day(r.getDueAt());
+			returnedAt[i] = day(r.getReturnedAt());
+			status[i] = (byte) r.getStatus().ordinal();
+			extensions[i] = (byte) r.getExtensionCount();
+
+			// 반납은 대체로 ID 순이라 끝에 붙는 경우가 대부분 (같은 ID는 대체된 행 뒤로)
+			int pos = firstAfter(ids[i]);
+			System.arraycopy(order, pos, order, pos + 1, size - pos);
+			order[pos] = i;
+			size++;
+		}
+
+		// 순회는 잠금 없이 읽으므로 건너뛴 뒤에 삭제 표시될 수 있음 - 상태를 한 번만 읽고, 삭제됐으면 null
+		Rental read(int i) {
+			byte s = status[i];
+			if (s == REMOVED) {
+				return null;
+			}
+			return Rental.restore(ids[i], bookIds[i], memberIds[i], date(rentedAt[i]), date(dueAt[i]),
+					date(returnedAt[i]), STATUSES[s], extensions[i]);
+		}
+
+		// ID 순서에서 ID가 afterId보다 큰 첫 위치 (이진 탐색)
+		int firstAfter(long afterId) {
+			int lo = 0;
+			int hi = size;
+			while (lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				if (ids[order[mid]] <= afterId) {
+					lo = mid + 1;
+				} else {
+					hi = mid;
+				}
+			}
+			return lo;
+		}
+	}
+
+	/** 청크 하나의 ID 순 읽기 위치 */
+	private static final class Cursor {
+		final Chunk chunk;
+		final int[] order;
+		int pos;
+
+		Cursor(Chunk chunk, int[] order, int pos) {
+			this.chunk = chunk;
+			this.order = order;
+			this.pos = pos;
+		}
+
+		long id() {
+			return chunk.ids[order[pos]];
+		}
+
+		// 삭제 표시된 행을 건너뛰고, 남은 행이 있으면 true
+		boolean skipRemoved() {
+			while (pos < order.length && chunk.status[order[pos]] == REMOVED) {
+				pos++;
+			}
+			return pos < order.length;
+		}
+	}
+
+	/** 청크 커서들을 ID 순으로 병합 - 청크의 ID 범위가 겹치지 않는 동안은 힙을 건드리지 않고 한 청크를 이어 읽음 */
+	private static final class MergeSpliterator extends Spliterators.AbstractSpliterator<Rental> {
+		private final PriorityQueue<Cursor> heads;
+		private Cursor current;
+
+		MergeSpliterator(PriorityQueue<Cursor> heads) {
+			super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+			this.heads = heads;
+			this.current = heads.poll();
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Rental> action) {
+			while (current != null) {
+				Cursor cursor = current;
+				Rental rental = cursor.chunk.read(cursor.order[cursor.pos]);
+				cursor.pos++;
+				if (!cursor.skipRemoved()) {
+					current = heads.poll();
+				} else if (!heads.isEmpty() && heads.peek().id() < cursor.id()) {
+					heads.add(cursor);
+					current = heads.poll();
+				}
+				if (rental != null) {
+					action.accept(rental);
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/** 늘어나는 행 목록 (ID 순) */
+	private static final class RowList {
+		int[] rows = new int[4];
+		int size;
+
+		// 반납은 대체로 ID 순이므로 뒤에서부터 자리를 찾음
+		void insert(int row, long id, RentalArchive archive) {
+			if (size == rows.length) {
+				rows = Arrays.copyOf(rows, size * 2);
+			}
+			int pos = size;
+			while (pos > 0 && archive.idAt(rows[pos - 1]) > id) {
+				pos--;
+			}
+			System.arraycopy(rows, pos, rows, pos + 1, size - pos);
+			rows[pos] = row;
+			size++;
+		}
+	}
+}
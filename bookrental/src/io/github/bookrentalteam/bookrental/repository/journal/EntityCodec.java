@@ -0,0 +1,130 @@
+package io.github.bookrentalteam.bookrental.repository.journal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+
+import io.github.bookrentalteam.bookrental.common.exception.ValidationException;
+import io.github.bookrentalteam.bookrental.domain.Book;
+import io.github.bookrentalteam.bookrental.domain.Member;
+import io.github.bookrentalteam.bookrental.domain.Rental;
+import io.github.bookrentalteam.bookrental.domain.RentalStatus;
+import io.github.bookrentalteam.bookrental.domain.Role;
+
+/**
+ * 저널/스냅샷 레코드 직렬화 - [타입 byte][엔티티 전체 상태] 형식 (같은 레코드를 여러 번 적용해도 결과가 같음)
+ */
+final class EntityCodec {
+
+	static final byte BOOK_SAVE = 1;
+	static final byte BOOK_DELETE = 2;
+	static final byte MEMBER_SAVE = 3;
+	static final byte MEMBER_DELETE = 4;
+	static final byte RENTAL_SAVE = 5;
+	static final byte RENTAL_DELETE = 6;
+
+	private EntityCodec() {
+	}
+
+	static byte[] encodeBook(Book b) {
+		return encode(BOOK_SAVE, out -> {
+			out.writeLong(b.getId());
+			writeString(out, b.getIsbn());
+			writeString(out, b.getTitle());
+			writeString(out, b.getAuthor());
+			out.writeInt(b.getTotalCopies());
+			out.writeInt(b.getAvailableCopies());
+		});
+	}
+
+	static Book decodeBook(DataInputStream in) throws IOException {
+		return Book.restore(in.readLong(), in.readUTF(), in.readUTF(), in.readUTF(), in.readInt(), in.readInt());
+	}
+
+	static byte[] encodeMember(Member m) {
+		return encode(MEMBER_SAVE, out -> {
+			out.writeLong(m.getId());
+			writeString(out, m.getName());
+			writeString(out, m.getEmail());
+			writeString(out, m.getPasswordHash());
+			out.writeByte(m.getRole().ordinal());
+			writeDate(out, m.getSuspendUntil());
+		});
+	}
+
+	static Member decodeMember(DataInputStream in) throws IOException {
+		return Member.restore(in.readLong(), in.readUTF(), in.readUTF(), in.readUTF(), Role.values()[in.readByte()],
+				readDate(in));
+	}
+
+	static byte[] encodeRental(Rental r) {
+		return encode(RENTAL_SAVE, out -> {
+			out.writeLong(r.getId());
+			out.writeLong(r.getBookId());
+			out.writeLong(r.getMemberId());
+			writeDate(out, r.getRentedAt());
+			writeDate(out, r.getDueAt());
+			writeDate(out, r.getReturnedAt());
+			out.writeByte(r.getStatus().ordinal());
+			out.writeInt(r.getExtensionCount());
+		});
+	}
+
+	static Rental decodeRental(DataInputStream in) throws IOException {
+		return Rental.restore(in.readLong(), in.readLong(), in.readLong(), readDate(in), readDate(in), readDate(in),
+				RentalStatus.values()[in.readByte()], in.readInt());
+	}
+
+	static byte[] encodeDelete(byte type, Long id) {
+		return encode(type, out -> out.writeLong(id));
+	}
+
+	static DataInputStream open(byte[] record) {
+		return new DataInputStream(new ByteArrayInputStream(record, 1, record.length - 1));
+	}
+
+	private static byte[] encode(byte type, Writer writer) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeByte(type);
+			writer.write(out);
+			out.flush();
+			return bytes.toByteArray();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e); // 메모리 버퍼라 입출력 오류는 없음 (writeUTF 길이 초과는 writeString에서 미리 거절)
+		}
+	}
+
+	// writeUTF는 modified UTF-8로 65535byte까지만 기록 - 넘으면 기록 전에 검증 오류로 거절 (가져오기의 긴 제목/저자 등)
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		long length = 0;
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			length += (c >= 0x0001 && c <= 0x007F) ? 1 : (c <= 0x07FF) ? 2 : 3;
+		}
+		if (length > 65535) {
+			throw new ValidationException("저장할 수 있는 길이를 넘었습니다 (" + length + "byte, 최대 65535byte).");
+		}
+		out.writeUTF(value);
+	}
+
+	// null 날짜는 Long.MIN_VALUE로 표시
+	private static void writeDate(DataOutputStream out, LocalDate date) throws IOException {
+		out.writeLong((date != null) ? date.toEpochDay() : Long.MIN_VALUE);
+	}
+
+	private static LocalDate readDate(DataInputStream in) throws IOException {
+		long epochDay = in.readLong();
+		return (epochDay != Long.MIN_VALUE) ? LocalDate.ofEpochDay(epochDay) : null;
+	}
+
+	@FunctionalInterface
+	private interface Writer {
+		void write(DataOutputStream out) throws IOException;
+	}
+}
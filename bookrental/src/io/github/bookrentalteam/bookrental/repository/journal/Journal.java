@@ -0,0 +1,210 @@
+package io.github.bookrentalteam.bookrental.repository.journal;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 추가 전용(append-only) 이진 저널 - 그룹 커밋으로 fsync를 묶어서 수행한다.
+ * <p>
+ * 레코드 형식: [길이 int][본문 byte[]][CRC32 int]. 여러 스레드가 동시에 append 하면 전용 스레드가 모아서 한 번에 쓰고
+ * fsync 한 뒤 대기 중인 스레드를 모두 깨운다.
+ */
+public class Journal implements AutoCloseable {
+
+	private static final int MAX_RECORD_SIZE = 1 << 24; // 손상된 길이 값으로 과도하게 할당하지 않도록
+
+	private final FileChannel channel;
+	private final Object lock = new Object();
+	private final Thread flusher;
+
+	// lock으로 보호
+	private ByteArrayOutputStream pending = new ByteArrayOutputStream();
+	private long appendedSeq; // 마지막으로 접수된 레코드 번호
+	private long durableSeq; // fsync가 끝난 레코드 번호
+	private IOException failure;
+	private boolean closed;
+
+	public Journal(Path file) throws IOException {
+		this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.APPEND);
+		this.flusher = new Thread(this::flushLoop, "journal-flusher");
+		flusher.setDaemon(true);
+		flusher.start();
+	}
+
+	/** 레코드 추가 - 디스크에 기록(fsync)될 때까지 대기 */
+	public void append(byte[] record) {
+		appendAll(List.of(record));
+	}
+
+	/** 여러 레코드를 한 번에 추가 - fsync 한 번으로 함께 기록 */
+	public void appendAll(List<byte[]> records) {
+		if (records.isEmpty()) {
+			return;
+		}
+		List<byte[]> frames = new ArrayList<>(records.size());
+		for (byte[] record : records) {
+			frames.add(frame(record));
+		}
+		long seq;
+		synchronized (lock) {
+			if (closed) {
+				throw new IllegalStateException("저널이 닫혔습니다.");
+			}
+			frames.forEach(pending::writeBytes);
+			seq = ++appendedSeq;
+			lock.notifyAll();
+
+			boolean interrupted = false;
+			while (durableSeq < seq && failure == null) {
+				try {
+					lock.wait();
+				} catch (InterruptedException e) {
+					interrupted = true; // 기록 완료까지는 기다린 뒤 인터럽트 복원
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+			if (durableSeq < seq) {
+				throw new UncheckedIOException("저널 기록 실패", failure);
+			}
+		}
+	}
+
+	/** 저널 비우기 (스냅샷 직후, 진행 중인 append가 없을 때 호출) */
+	public void truncate() throws IOException {
+		synchronized (lock) {
+			channel.truncate(0);
+			channel.force(true);
+		}
+	}
+
+	/** 현재 저널 크기(byte) */
+	public long size() throws IOException {
+		return channel.size();
+	}
+
+	private void flushLoop() {
+		while (true) {
+			byte[] batch;
+			long upto;
+			synchronized (lock) {
+				while (pending.size() == 0 && !closed) {
+					try {
+						lock.wait();
+					} catch (InterruptedException e) {
+						return;
+					}
+				}
+				if (pending.size() == 0) {
+					return; // closed
+				}
+				batch = pending.toByteArray();
+				pending = new ByteArrayOutputStream(Math.max(32, batch.length));
+				upto = appendedSeq;
+			}
+
+			try {
+				ByteBuffer buf = ByteBuffer.wrap(batch);
+				while (buf.hasRemaining()) {
+					channel.write(buf);
+				}
+				channel.force(false); // 묶음 단위 fsync
+				synchronized (lock) {
+					durableSeq = upto;
+					lock.notifyAll();
+				}
+			} catch (IOException e) {
+				synchronized (lock) {
+					failure = e;
+					lock.notifyAll();
+				}
+				return;
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		synchronized (lock) {
+			closed = true;
+			lock.notifyAll();
+		}
+		try {
+			flusher.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		channel.close();
+	}
+
+	static byte[] frame(byte[] record) {
+		CRC32 crc = new CRC32();
+		crc.update(record);
+		ByteBuffer buf = ByteBuffer.allocate(4 + record.length + 4);
+		buf.putInt(record.length).put(record).putInt((int) crc.getValue());
+		return buf.array();
+	}
+
+	/**
+	 * 저널 파일 읽기 - 마지막에 잘리거나 깨진 레코드가 있으면 그 앞까지만 읽고 파일도 그 위치로 자른다.
+	 */
+	public static List<byte[]> readAll(Path file) throws IOException {
+		List<byte[]> records = new ArrayList<>();
+		if (!Files.exists(file)) {
+			return records;
+		}
+		long validEnd = 0;
+		try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			InputStream in = Channels.newInputStream(ch);
+			DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+			while (true) {
+				byte[] record = readFrame(data);
+				if (record == null) {
+					break;
+				}
+				records.add(record);
+				validEnd += 4 + record.length + 4;
+			}
+			if (ch.size() > validEnd) {
+				ch.truncate(validEnd); // 비정상 종료로 남은 꼬리 제거
+			}
+		}
+		return records;
+	}
+
+	// 한 레코드 읽기 (끝이거나 손상되었으면 null)
+	static byte[] readFrame(DataInputStream in) throws IOException {
+		try {
+			int length = in.readInt();
+			if (length < 0 || length > MAX_RECORD_SIZE) {
+				return null;
+			}
+			byte[] record = in.readNBytes(length);
+			if (record.length < length) {
+				return null;
+			}
+			int expected = in.readInt();
+			CRC32 crc = new CRC32();
+			crc.update(record);
+			return ((int) crc.getValue() == expected) ? record : null;
+		} catch (EOFException e) {
+			return null;
+		}
+	}
+}
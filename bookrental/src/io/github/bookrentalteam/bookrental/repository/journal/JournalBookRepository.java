@@ -0,0 +1,76 @@
+package io.github.bookrentalteam.bookrental.repository.journal;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import io.github.bookrentalteam.bookrental.domain.Book;
+import io.github.bookrentalteam.bookrental.repository.BookRepository;
+
+/** 도서 저장소 - 변경은 저널에 기록, 조회는 메모리 저장소 */
+class JournalBookRepository implements BookRepository {
+	private final JournalStore store;
+	private final BookRepository delegate;
+
+	JournalBookRepository(JournalStore store, BookRepository delegate) {
+		this.store = store;
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void save(Book book) {
+		store.write(book, this::keys, delegate::save, EntityCodec::encodeBook);
+	}
+
+	@Override
+	public void saveAll(List<Book> books) {
+		store.writeBatch(books, this::keys, delegate::save, EntityCodec::encodeBook); // fsync 한 번
+	}
+
+	@Override
+	public Optional<Book> findById(Long id) {
+		return delegate.findById(id);
+	}
+
+	@Override
+	public List<Book> findAll() {
+		return delegate.findAll();
+	}
+
+	@Override
+	public List<Book> findPage(long afterId, int limit) {
+		return delegate.findPage(afterId, limit);
+	}
+
+	@Override
+	public Stream<Book> stream() {
+		return delegate.stream();
+	}
+
+	@Override
+	public void delete(Long id) {
+		store.write(id, this::keys, delegate::delete, k -> EntityCodec.encodeDelete(EntityCodec.BOOK_DELETE, k));
+	}
+
+	@Override
+	public Optional<Book> findByIsbn(String isbn) {
+		return delegate.findByIsbn(isbn);
+	}
+
+	// ID + 새 ISBN + 저장된 ISBN (ISBN을 바꾸면 이전 ISBN을 노리는 등록과도 순서를 맞춤)
+	private long[] keys(Book book) {
+		Long id = book.getId();
+		return new long[] { id, isbnKey(book.getIsbn()),
+				delegate.findById(id).map(b -> isbnKey(b.getIsbn())).orElse(id) };
+	}
+
+	// 삭제는 ID + 저장된 ISBN (삭제로 풀리는 ISBN을 노리는 등록과 순서를 맞춤)
+	private long[] keys(Long id) {
+		return new long[] { id, delegate.findById(id).map(b -> isbnKey(b.getIsbn())).orElse(id) };
+	}
+
+	private static long isbnKey(String isbn) {
+		return JournalStore.uniqueKey(isbn.toLowerCase(Locale.ROOT)); // 메모리 저장소와 같이 대소문자 무시
+	}
+}
@@ -0,0 +1,66 @@
+package io.github.bookrentalteam.bookrental.repository.journal;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import io.github.bookrentalteam.bookrental.domain.Member;
+import io.github.bookrentalteam.bookrental.repository.MemberRepository;
+
+/** 회원 저장소 - 변경은 저널에 기록, 조회는 메모리 저장소 */
+class JournalMemberRepository implements MemberRepository {
+	private final JournalStore store;
+	private final MemberRepository delegate;
+
+	JournalMemberRepository(JournalStore store, MemberRepository delegate) {
+		this.store = store;
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void save(Member member) {
+		store.write(member, this::keys, delegate::save, EntityCodec::encodeMember);
+	}
+
+	@Override
+	public Optional<Member> findById(Long id) {
+		return delegate.findById(id);
+	}
+
+	@Override
+	public Optional<Member> findByEmail(String email) {
+		return delegate.findByEmail(email);
+	}
+
+	@Override
+	public List<Member> findAll() {
+		return delegate.findAll();
+	}
+
+	@Override
+	public List<Member> findPage(long afterId, int limit) {
+		return delegate.findPage(afterId, limit);
+	}
+
+	@Override
+	public Stream<Member> stream() {
+		return delegate.stream();
+	}
+
+	@Override
+	public void delete(Long id) {
+		store.write(id, this::keys, delegate::delete, k -> EntityCodec.encodeDelete(EntityCodec.MEMBER_DELETE, k));
+	}
+
+	// ID + 새 이메일 + 저장된 이메일 (이메일을 바꾸면 이전 이메일로 가입하는 요청과도 순서를 맞춤)
+	private long[] keys(Member member) {
+		Long id = member.getId();
+		return new long[] { id, JournalStore.uniqueKey(member.getEmail()),
+				delegate.findById(id).map(m -> JournalStore.uniqueKey(m.getEmail())).orElse(id) };
+	}
+
+	// 삭제는 ID + 저장된 이메일
+	private long[] keys(Long id) {
+		return new long[] { id, delegate.findById(id).map(m -> JournalStore.uniqueKey(m.getEmail())).orElse(id) };
+	}
+}
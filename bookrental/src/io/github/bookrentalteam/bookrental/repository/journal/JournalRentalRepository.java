@@ -0,0 +1,97 @@
+package io.github.bookrentalteam.bookrental.repository.journal;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import io.github.bookrentalteam.bookrental.domain.Rental;
+import io.github.bookrentalteam.bookrental.repository.RentalRepository;
+
+/** 대여 저장소 - 변경은 저널에 기록, 조회는 메모리 저장소 */
+class JournalRentalRepository implements RentalRepository {
+	private final JournalStore store;
+	private final RentalRepository delegate;
+
+	JournalRentalRepository(JournalStore store, RentalRepository delegate) {
+		this.store = store;
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void save(Rental rental) {
+		store.write(rental, r -> new long[] { r.getId() }, delegate::save, EntityCodec::encodeRental);
+	}
+
+	@Override
+	public void saveAll(List<Rental> rentals) {
+		store.writeBatch(rentals, r -> new long[] { r.getId() }, delegate::save, EntityCodec::encodeRental); // fsync 한 번
+	}
+
+	@Override
+	public Optional<Rental> findById(Long id) {
+		return delegate.findById(id);
+	}
+
+	@Override
+	public List<Rental> findAll() {
+		return delegate.findAll();
+	}
+
+	@Override
+	public List<Rental> findPage(long afterId, int limit) {
+		return delegate.findPage(afterId, limit);
+	}
+
+	@Override
+	public Stream<Rental> stream() {
+		return delegate.stream();
+	}
+
+	@Override
+	public List<Rental> findByMemberId(Long memberId) {
+		return delegate.findByMemberId(memberId);
+	}
+
+	@Override
+	public List<Rental> findOpenByMemberId(Long memberId) {
+		return delegate.findOpenByMemberId(memberId);
+	}
+
+	@Override
+	public int countOpenByMemberId(Long memberId) {
+		return delegate.countOpenByMemberId(memberId);
+	}
+
+	@Override
+	public boolean hasOverdueByMemberId(Long memberId) {
+		return delegate.hasOverdueByMemberId(memberId);
+	}
+
+	@Override
+	public List<Rental> findOverdueByMemberId(Long memberId) {
+		return delegate.findOverdueByMemberId(memberId);
+	}
+
+	@Override
+	public List<Rental> findOverdue() {
+		return delegate.findOverdue();
+	}
+
+	@Override
+	public Set<Long> findMemberIdsWithOverdue() {
+		return delegate.findMemberIdsWithOverdue();
+	}
+
+	@Override
+	public void refreshOverdue(LocalDate today) {
+		delegate.refreshOverdue(today);
+	}
+
+	@Override
+	public void delete(Long id) {
+		store.write(id, k -> new long[] { k }, delegate::delete,
+				k -> EntityCodec.encodeDelete(EntityCodec.RENTAL_DELETE, k));
+	}
+}
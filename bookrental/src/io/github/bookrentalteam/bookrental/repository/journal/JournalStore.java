@@ -0,0 +1,283 @@
+package io.github.bookrentalteam.bookrental.repository.journal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.github.bookrentalteam.bookrental.common.concurrent.StripedLocks;
+import io.github.bookrentalteam.bookrental.domain.Book;
+import io.github.bookrentalteam.bookrental.domain.Member;
+import io.github.bookrentalteam.bookrental.domain.Rental;
+import io.github.bookrentalteam.bookrental.domain.RentalStatus;
+import io.github.bookrentalteam.bookrental.repository.BookRepository;
+import io.github.bookrentalteam.bookrental.repository.MemberRepository;
+import io.github.bookrentalteam.bookrental.repository.RentalRepository;
+import io.github.bookrentalteam.bookrental.repository.impl.InMemoryBookRepository;
+import io.github.bookrentalteam.bookrental.repository.impl.InMemoryMemberRepository;
+import io.github.bookrentalteam.bookrental.repository.impl.InMemoryRentalRepository;
+
+/**
+ * 영속 저장소 - 조회는 메모리 저장소 그대로, 변경은 저널에 기록(fsync)한 뒤 메모리에 반영한다.
+ * <p>
+ * 시작 시 최신 스냅샷을 읽고 저널 꼬리를 재실행한다. 스냅샷을 찍으면 저널은 비운다. 도서 재고는 대여 중 건수로부터 다시 계산하므로
+ * 저널에 재고 변경을 따로 남기지 않는다.
+ */
+public class JournalStore implements AutoCloseable {
+
+	private static final String SNAPSHOT_FILE = "snapshot.bin";
+	private static final String JOURNAL_FILE = "journal.bin";
+	private static final int SNAPSHOT_MAGIC = 0x42525331; // "BRS1"
+
+	private final Path dir;
+	private final InMemoryBookRepository books = new InMemoryBookRepository();
+	private final InMemoryMemberRepository members = new InMemoryMemberRepository();
+	private final InMemoryRentalRepository rentals = new InMemoryRentalRepository();
+	// 변경은 read lock(동시 진행), 스냅샷은 write lock(변경 정지)
+	private final ReentrantReadWriteLock checkpointLock = new ReentrantReadWriteLock();
+	// 같은 ID/유니크 키(ISBN, 이메일)를 건드리는 변경은 기록~반영을 직렬화 - 저널 순서와 메모리 반영 순서가 어긋나지 않도록
+	private final StripedLocks keyLocks = new StripedLocks(256);
+	private final Journal journal;
+
+	private final BookRepository bookRepository;
+	private final MemberRepository memberRepository;
+	private final RentalRepository rentalRepository;
+
+	private ScheduledExecutorService snapshotScheduler;
+
+	private JournalStore(Path dir) throws IOException {
+		this.dir = dir;
+		Files.createDirectories(dir);
+		recover();
+		this.journal = new Journal(dir.resolve(JOURNAL_FILE));
+		this.bookRepository = new JournalBookRepository(this, books);
+		this.memberRepository = new JournalMemberRepository(this, members);
+		this.rentalRepository = new JournalRentalRepository(this, rentals);
+	}
+
+	/** 디렉터리의 스냅샷 + 저널로 저장소 열기 (없으면 빈 저장소) */
+	public static JournalStore open(Path dir) throws IOException {
+		return new JournalStore(dir);
+	}
+
+	public BookRepository bookRepository() {
+		return bookRepository;
+	}
+
+	public MemberRepository memberRepository() {
+		return memberRepository;
+	}
+
+	public RentalRepository rentalRepository() {
+		return rentalRepository;
+	}
+
+	/** period 간격으로 스냅샷 + 저널 정리 */
+	public synchronized JournalStore startSnapshots(long period, TimeUnit unit) {
+		if (snapshotScheduler == null) {
+			snapshotScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+				Thread t = new Thread(r, "journal-snapshot");
+				t.setDaemon(true);
+				return t;
+			});
+			snapshotScheduler.scheduleWithFixedDelay(() -> {
+				try {
+					snapshot();
+				} catch (IOException | RuntimeException e) {
+					System.err.println("[스냅샷 실패] " + e.getMessage()); // 저널은 그대로 남아 있으므로 다음 주기에 재시도
+				}
+			}, period, period, unit);
+		}
+		return this;
+	}
+
+	/** 현재 상태를 스냅샷으로 저장하고 저널 비우기 */
+	public void snapshot() throws IOException {
+		checkpointLock.writeLock().lock();
+		try {
+			Path tmp = dir.resolve(SNAPSHOT_FILE + ".tmp");
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+				out.writeInt(SNAPSHOT_MAGIC);
+				for (Iterator<Book> it = books.stream().iterator(); it.hasNext();) {
+					out.write(Journal.frame(EntityCodec.encodeBook(it.next())));
+				}
+				for (Iterator<Member> it = members.stream().iterator(); it.hasNext();) {
+					out.write(Journal.frame(EntityCodec.encodeMember(it.next())));
+				}
+				for (Iterator<Rental> it = rentals.stream().iterator(); it.hasNext();) {
+					out.write(Journal.frame(EntityCodec.encodeRental(it.next())));
+				}
+			}
+			try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+				ch.force(true);
+			}
+			Files.move(tmp, dir.resolve(SNAPSHOT_FILE), StandardCopyOption.ATOMIC_MOVE,
+					StandardCopyOption.REPLACE_EXISTING);
+			forceDirectory(); // 이름 바꾸기가 디스크에 남은 뒤에 저널을 비움 - 전원이 나가도 스냅샷이나 저널 중 하나는 남음
+			journal.truncate(); // 여기서 중단되어도 저널 레코드는 다시 적용해도 같은 결과
+		} finally {
+			checkpointLock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 저널 기록(fsync 완료까지 대기) 후 메모리 반영 - 기록에 실패하면 메모리 저장소에 반영하지 않는다. 단, 호출자가 저장 전에 객체 자체를
+	 * 바꿨다면 그 변경은 남으므로 대여처럼 저장소가 들고 있는 객체는 사본(returnedCopy/extendedCopy)으로 저장해야 한다.
+	 * <p>
+	 * keys는 변경이 건드리는 ID와 유니크 키 - 겹치는 변경끼리는 먼저 기록한 쪽이 먼저 반영된다.
+	 */
+	<T> void write(T item, Function<T, long[]> keys, Consumer<T> apply, Function<T, byte[]> encode) {
+		writeBatch(List.of(item), keys, apply, encode);
+	}
+
+	/**
+	 * 여러 건을 한 번에 저널 기록(fsync 한 번)한 뒤 차례로 메모리 반영 - 직렬화에 실패한 건부터는 기록도 반영도 하지 않고 예외 전달.
+	 * 메모리 저장소가 거절한 건(ISBN 중복 등)은 건너뛰고 나머지를 반영한 뒤 그 예외를 전달한다 (재시작 시 재실행도 같은 건을 건너뜀).
+	 */
+	<T> void writeBatch(List<T> items, Function<T, long[]> keys, Consumer<T> apply, Function<T, byte[]> encode) {
+		List<byte[]> records = new ArrayList<>(items.size());
+		RuntimeException failure = null;
+		for (T item : items) {
+			try {
+				records.add(encode.apply(item));
+			} catch (RuntimeException e) {
+				failure = e;
+				break;
+			}
+		}
+		List<T> written = items.subList(0, records.size());
+		List<ReentrantLock> locks = lockKeys(written, keys);
+		checkpointLock.readLock().lock();
+		try {
+			journal.appendAll(records);
+			RuntimeException rejected = null;
+			for (T item : written) {
+				try {
+					apply.accept(item);
+				} catch (RuntimeException e) {
+					rejected = (rejected != null) ? rejected : e;
+				}
+			}
+			failure = (rejected != null) ? rejected : failure;
+		} finally {
+			checkpointLock.readLock().unlock();
+			locks.forEach(ReentrantLock::unlock);
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	// 키 락을 잡은 뒤 키를 다시 계산 - 잠그는 사이 이전 값(ISBN/이메일 변경 전 키)이 바뀌었으면 풀고 다시 잠금
+	private <T> List<ReentrantLock> lockKeys(List<T> items, Function<T, long[]> keys) {
+		List<ReentrantLock> held = keyLocks.getAll(allKeys(items, keys));
+		while (true) {
+			held.forEach(ReentrantLock::lock);
+			List<ReentrantLock> needed = keyLocks.getAll(allKeys(items, keys));
+			if (held.containsAll(needed)) {
+				return held;
+			}
+			held.forEach(ReentrantLock::unlock);
+			held = needed;
+		}
+	}
+
+	private static <T> long[] allKeys(List<T> items, Function<T, long[]> keys) {
+		return items.stream().map(keys).flatMapToLong(Arrays::stream).toArray();
+	}
+
+	/** 유니크 키(정규화된 ISBN, 이메일)의 락 키 - ID와 같은 락에 걸려도 직렬화만 늘 뿐 결과는 같음 */
+	static long uniqueKey(String value) {
+		return value.hashCode();
+	}
+
+	// 디렉터리 항목(스냅샷 파일 이름 바꾸기) fsync - 디렉터리를 열 수 없는 Windows에서는 건너뜀 (NTFS는 메타데이터를 저널링)
+	private void forceDirectory() throws IOException {
+		FileChannel ch;
+		try {
+			ch = FileChannel.open(dir, StandardOpenOption.READ);
+		} catch (AccessDeniedException e) {
+			return;
+		}
+		try (ch) {
+			ch.force(true);
+		}
+	}
+
+	private void recover() throws IOException {
+		Path snapshot = dir.resolve(SNAPSHOT_FILE);
+		if (Files.exists(snapshot)) {
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot)))) {
+				if (in.readInt() != SNAPSHOT_MAGIC) {
+					throw new IOException("스냅샷 형식이 올바르지 않습니다: " + snapshot);
+				}
+				byte[] record;
+				while ((record = Journal.readFrame(in)) != null) {
+					apply(record);
+				}
+			}
+		}
+		for (byte[] record : Journal.readAll(dir.resolve(JOURNAL_FILE))) {
+			try {
+				apply(record);
+			} catch (IllegalStateException e) {
+				// 기록 후 메모리 저장소가 거절한 변경 (ISBN/이메일 중복) - 실행 중에도 반영되지 않았으므로 건너뜀
+			}
+		}
+
+		// 재고 = 총 권수 - 반납 전 대여 수
+		Map<Long, Integer> rented = new HashMap<>();
+		rentals.stream().filter(r -> r.getStatus() == RentalStatus.RENTED)
+				.forEach(r -> rented.merge(r.getBookId(), 1, Integer::sum));
+		for (Book b : books.findAll()) { // 순회 중 save 하므로 복사본 사용
+			int available = Math.max(0, b.getTotalCopies() - rented.getOrDefault(b.getId(), 0));
+			if (available != b.getAvailableCopies()) {
+				books.save(Book.restore(b.getId(), b.getIsbn(), b.getTitle(), b.getAuthor(), b.getTotalCopies(),
+						available));
+			}
+		}
+	}
+
+	private void apply(byte[] record) throws IOException {
+		DataInputStream in = EntityCodec.open(record);
+		switch (record[0]) {
+		case EntityCodec.BOOK_SAVE -> books.save(EntityCodec.decodeBook(in));
+		case EntityCodec.BOOK_DELETE -> books.delete(in.readLong());
+		case EntityCodec.MEMBER_SAVE -> members.save(EntityCodec.decodeMember(in));
+		case EntityCodec.MEMBER_DELETE -> members.delete(in.readLong());
+		case EntityCodec.RENTAL_SAVE -> rentals.save(EntityCodec.decodeRental(in));
+		case EntityCodec.RENTAL_DELETE -> rentals.delete(in.readLong());
+		default -> throw new IOException("알 수 없는 저널 레코드 타입: " + record[0]);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		synchronized (this) {
+			if (snapshotScheduler != null) {
+				snapshotScheduler.shutdownNow();
+			}
+		}
+		journal.close();
+	}
+}
@@ -0,0 +1,551 @@
+package io.github.bookrentalteam.bookrental.repository.mapped;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import io.github.bookrentalteam.bookrental.common.IdGenerator;
+import io.github.bookrentalteam.bookrental.common.collection.LongIntHashIndex;
+import io.github.bookrentalteam.bookrental.domain.Book;
+import io.github.bookrentalteam.bookrental.domain.StockCounter;
+import io.github.bookrentalteam.bookrental.repository.BookRepository;
+
+/**
+ * 메모리 매핑 파일 기반 도서 저장소 - 힙보다 큰 카탈로그용.
+ * <p>
+ * 도서는 고정 폭(64byte) 레코드 파일과 문자열 영역(arena) 파일에 저장하고, 힙에는 ID/ISBN 원시 타입 해시 색인만 둔다.
+ * 조회 시마다 Book 뷰를 만들며, 뷰의 재고 변경(rent/returnBook)은 매핑된 레코드의 값을 CAS로 직접 갱신한다. 색인은 close 시 파일로
+ * 저장해 두었다가 다음에 열 때 배열째 읽으므로 레코드를 다시 훑지 않는다 (정상 종료되지 않았으면 레코드를 스캔해 다시 만든다).
+ */
+public class MappedBookRepository implements BookRepository, AutoCloseable {
+
+	private static final String RECORD_FILE = "books.dat";
+	private static final String ARENA_FILE = "strings.dat";
+	private static final String INDEX_FILE = "index.dat";
+	private static final int MAGIC = 0x424B4D31; // "BKM1"
+	private static final int INDEX_MAGIC = 0x424B4931; // "BKI1"
+
+	private static final int SEGMENT_SIZE = 1 << 26; // 64MB 단위로 매핑
+	private static final int HEADER_SIZE = 64;
+	private static final int RECORD_SIZE = 64;
+	private static final int STREAM_PAGE_SIZE = 1024;
+
+	// 헤더 필드
+	private static final int H_MAGIC = 0;
+	private static final int H_COUNT = 8;
+	private static final int H_ARENA_END = 16;
+	private static final int H_INDEX_SAVED = 24; // 1이면 색인 파일이 레코드와 일치 (열면 0으로 되돌림)
+
+	// 레코드 필드 오프셋
+	private static final int R_ID = 0;
+	private static final int R_ISBN_OFF = 8;
+	private static final int R_TITLE_OFF = 16;
+	private static final int R_AUTHOR_OFF = 24;
+	private static final int R_ISBN_LEN = 32;
+	private static final int R_TITLE_LEN = 36;
+	private static final int R_AUTHOR_LEN = 40;
+	private static final int R_TOTAL = 44;
+	private static final int R_AVAILABLE = 48; // 4byte 정렬 (CAS 대상)
+	private static final int R_LIVE = 52;
+
+	// MappedByteBuffer 기본 바이트 순서(BIG_ENDIAN)와 맞춤
+	private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+	private final Path dir;
+	private final FileChannel records;
+	private final FileChannel arena;
+	private final Segments recordSegments;
+	private final Segments arenaSegments;
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	// lock으로 보호
+	private LongIntHashIndex idIndex; // 도서 ID → 슬롯
+	private LongIntHashIndex isbnIndex; // 정규화된 ISBN 해시 → 슬롯 (충돌 시 원문 비교)
+	private int count; // 사용된 슬롯 수 (삭제 포함)
+	private int[] idOrder; // ID 순 슬롯 목록 (null이면 슬롯 순서가 곧 ID 순서)
+	private long arenaEnd; // 문자열 영역 끝
+
+	private MappedBookRepository(Path dir) throws IOException {
+		Files.createDirectories(dir);
+		this.dir = dir;
+		this.records = FileChannel.open(dir.resolve(RECORD_FILE), StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+		this.arena = FileChannel.open(dir.resolve(ARENA_FILE), StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+		this.recordSegments = new Segments(records);
+		this.arenaSegments = new Segments(arena);
+
+		boolean fresh = records.size() == 0;
+		MappedByteBuffer header = recordSegment(0);
+		if (fresh) {
+			header.putInt(H_MAGIC, MAGIC);
+			header.putLong(H_COUNT, 0);
+			header.putLong(H_ARENA_END, 0);
+		} else if (header.getInt(H_MAGIC) != MAGIC) {
+			throw new IOException("도서 파일 형식이 올바르지 않습니다: " + dir.resolve(RECORD_FILE));
+		}
+		this.count = (int) header.getLong(H_COUNT);
+		this.arenaEnd = header.getLong(H_ARENA_END);
+		if (header.getInt(H_INDEX_SAVED) != 1 || !readIndexes()) {
+			rebuildIndexes();
+		}
+		header.putInt(H_INDEX_SAVED, 0); // 이후 변경은 색인 파일에 없음 - 비정상 종료 시 다음에 다시 스캔
+		header.force(0, HEADER_SIZE);
+		IdGenerator.forType(Book.class).advanceTo((count > 0) ? idAt(slotAtOrder(count - 1)) : 0);
+	}
+
+	/** 디렉터리의 도서 파일 열기 (없으면 생성) */
+	public static MappedBookRepository open(Path dir) throws IOException {
+		return new MappedBookRepository(dir);
+	}
+
+	@Override
+	public void save(Book book) {
+		String normalized = normalizeIsbn(book.getIsbn());
+		long isbnHash = hash(normalized);
+		lock.writeLock().lock();
+		try {
+			int owner = isbnIndex.find(isbnHash, s -> normalizeIsbn(isbnAt(s)).equals(normalized));
+			if (owner >= 0 && idAt(owner) != book.getId()) {
+				throw new IllegalStateException("이미 존재하는 ISBN입니다: " + book.getIsbn());
+			}
+
+			int slot = idIndex.get(book.getId());
+			if (slot < 0) {
+				slot = count;
+				MappedByteBuffer seg = segmentOf(slot);
+				int base = offsetOf(slot);
+				writeRecord(seg, base, book);
+				seg.putInt(base + R_LIVE, 1);
+				appendToIdOrder(slot, book.getId());
+				count++;
+				recordSegment(0).putLong(H_COUNT, count);
+				idIndex.put(book.getId(), slot);
+			} else {
+				String previousIsbn = normalizeIsbn(isbnAt(slot));
+				if (!previousIsbn.equals(normalized)) {
+					isbnIndex.remove(hash(previousIsbn), slot);
+				}
+				writeRecord(segmentOf(slot), offsetOf(slot), book);
+			}
+			if (owner < 0) {
+				isbnIndex.put(isbnHash, slot);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void saveAll(List<Book> books) {
+		lock.writeLock().lock(); // 재진입 - 배치 동안 한 번만 경합
+		try {
+			for (Book book : books) {
+				save(book);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public Optional<Book> findById(Long id) {
+		lock.readLock().lock();
+		try {
+			int slot = idIndex.get(id);
+			return (slot >= 0) ? Optional.of(view(slot)) : Optional.empty();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public List<Book> findAll() {
+		lock.readLock().lock();
+		try {
+			List<Book> books = new ArrayList<>(idIndex.size());
+			for (int i = 0; i < count; i++) {
+				int slot = slotAtOrder(i);
+				if (segmentOf(slot).getInt(offsetOf(slot) + R_LIVE) != 0) {
+					books.add(view(slot));
+				}
+			}
+			return books;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public List<Book> findPage(long afterId, int limit) {
+		if (limit <= 0) {
+			throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다.");
+		}
+		lock.readLock().lock();
+		try {
+			List<Book> page = new ArrayList<>(Math.min(limit, 256));
+			for (int i = firstOrderAfter(afterId); i < count && page.size() < limit; i++) {
+				int slot = slotAtOrder(i);
+				if (segmentOf(slot).getInt(offsetOf(slot) + R_LIVE) != 0) {
+					page.add(view(slot));
+				}
+			}
+			return page;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public Stream<Book> stream() {
+		// 페이지 단위로 읽기 잠금을 잡으므로 순회 중에도 저장이 막히지 않음
+		return StreamSupport.stream(new PagedSpliterator<>(this::findPage, Book::getId, STREAM_PAGE_SIZE), false);
+	}
+
+	@Override
+	public void delete(Long id) {
+		lock.writeLock().lock();
+		try {
+			int slot = idIndex.get(id);
+			if (slot < 0) {
+				return;
+			}
+			segmentOf(slot).putInt(offsetOf(slot) + R_LIVE, 0); // 슬롯은 재사용하지 않음
+			idIndex.remove(id, slot);
+			isbnIndex.remove(hash(normalizeIsbn(isbnAt(slot))), slot);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public Optional<Book> findByIsbn(String isbn) {
+		if (isbn == null) {
+			return Optional.empty();
+		}
+		String normalized = normalizeIsbn(isbn);
+		lock.readLock().lock();
+		try {
+			int slot = isbnIndex.find(hash(normalized), s -> normalizeIsbn(isbnAt(s)).equals(normalized));
+			return (slot >= 0) ? Optional.of(view(slot)) : Optional.empty();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/** 매핑된 내용을 디스크에 반영 */
+	public void flush() {
+		lock.readLock().lock();
+		try {
+			recordSegments.force();
+			arenaSegments.force();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/** 색인을 파일로 저장하고 닫음 - 다음에 열 때 레코드 스캔 없이 색인을 읽음 */
+	@Override
+	public void close() throws IOException {
+		lock.writeLock().lock();
+		try {
+			flush();
+			writeIndexes();
+			MappedByteBuffer header = recordSegment(0);
+			header.putInt(H_INDEX_SAVED, 1); // 레코드와 색인 파일이 모두 디스크에 있은 뒤에 표시
+			header.force();
+		} finally {
+			lock.writeLock().unlock();
+		}
+		records.close();
+		arena.close();
+	}
+
+	// 레코드를 순차 스캔해 색인 재구성
+	private void rebuildIndexes() {
+		idIndex = new LongIntHashIndex(count);
+		isbnIndex = new LongIntHashIndex(count);
+		boolean inIdOrder = true;
+		for (int slot = 0; slot < count; slot++) {
+			MappedByteBuffer seg = segmentOf(slot);
+			int base = offsetOf(slot);
+			long id = seg.getLong(base + R_ID);
+			inIdOrder &= (slot == 0 || idAt(slot - 1) <= id);
+			if (seg.getInt(base + R_LIVE) == 0) {
+				continue;
+			}
+			idIndex.put(id, slot);
+			isbnIndex.put(hash(normalizeIsbn(readString(seg, base, R_ISBN_OFF, R_ISBN_LEN))), slot);
+		}
+		idOrder = inIdOrder ? null
+				: IntStream.range(0, count).boxed().sorted(Comparator.comparingLong(this::idAt))
+						.mapToInt(Integer::intValue).toArray();
+	}
+
+	// 색인 파일 형식: [magic][슬롯 수][문자열 영역 끝][ID 색인][ISBN 색인][ID 순서 길이(-1이면 없음)][ID 순서]
+	private void writeIndexes() throws IOException {
+		Path tmp = dir.resolve(INDEX_FILE + ".tmp");
+		try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer head = ByteBuffer.allocate(16).putInt(INDEX_MAGIC).putInt(count).putLong(arenaEnd).flip();
+			while (head.hasRemaining()) {
+				ch.write(head);
+			}
+			idIndex.writeTo(ch);
+			isbnIndex.writeTo(ch);
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(ch)));
+			out.writeInt((idOrder != null) ? count : -1);
+			for (int i = 0; idOrder != null && i < count; i++) {
+				out.writeInt(idOrder[i]);
+			}
+			out.flush();
+			ch.force(true);
+		}
+		Files.move(tmp, dir.resolve(INDEX_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	// 저장된 색인 읽기 - 없거나 레코드와 맞지 않으면 false
+	private boolean readIndexes() {
+		Path file = dir.resolve(INDEX_FILE);
+		if (!Files.exists(file)) {
+			return false;
+		}
+		try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+			ByteBuffer head = ByteBuffer.allocate(16);
+			while (head.hasRemaining() && ch.read(head) >= 0) {
+				// 머리 16byte
+			}
+			head.flip();
+			if (head.remaining() < 16 || head.getInt() != INDEX_MAGIC || head.getInt() != count
+					|| head.getLong() != arenaEnd) {
+				return false;
+			}
+			LongIntHashIndex ids = LongIntHashIndex.readFrom(ch);
+			LongIntHashIndex isbns = LongIntHashIndex.readFrom(ch);
+			DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(ch)));
+			int orderLength = in.readInt();
+			int[] order = null;
+			if (orderLength >= 0) {
+				order = new int[orderLength];
+				for (int i = 0; i < orderLength; i++) {
+					order[i] = in.readInt();
+				}
+			}
+			idIndex = ids;
+			isbnIndex = isbns;
+			idOrder = order;
+			return true;
+		} catch (IOException e) {
+			return false; // 손상된 색인 파일 - 스캔으로 재구성
+		}
+	}
+
+	// 슬롯 내용으로 Book 뷰 생성 (재고는 매핑된 값을 직접 사용)
+	private Book view(int slot) {
+		MappedByteBuffer seg = segmentOf(slot);
+		int base = offsetOf(slot);
+		return Book.restore(seg.getLong(base + R_ID), readString(seg, base, R_ISBN_OFF, R_ISBN_LEN),
+				readString(seg, base, R_TITLE_OFF, R_TITLE_LEN), readString(seg, base, R_AUTHOR_OFF, R_AUTHOR_LEN),
+				seg.getInt(base + R_TOTAL), new MappedStockCounter(seg, base + R_AVAILABLE));
+	}
+
+	private void writeRecord(MappedByteBuffer seg, int base, Book book) {
+		seg.putLong(base + R_ID, book.getId());
+		writeString(seg, base, R_ISBN_OFF, R_ISBN_LEN, book.getIsbn());
+		writeString(seg, base, R_TITLE_OFF, R_TITLE_LEN, book.getTitle());
+		writeString(seg, base, R_AUTHOR_OFF, R_AUTHOR_LEN, book.getAuthor());
+		seg.putInt(base + R_TOTAL, book.getTotalCopies());
+		INT.setVolatile(seg, base + R_AVAILABLE, book.getAvailableCopies());
+	}
+
+	// 새 슬롯을 ID 순서에 반영 (ID가 증가하는 순으로 추가되는 동안은 별도 목록 불필요)
+	private void appendToIdOrder(int slot, long id) {
+		if (idOrder == null) {
+			if (slot == 0 || idAt(slot - 1) <= id) {
+				return;
+			}
+			idOrder = IntStream.range(0, slot).toArray(); // 지금까지는 슬롯 순서가 ID 순서
+		}
+		if (idOrder.length <= slot) {
+			idOrder = Arrays.copyOf(idOrder, Math.max(16, slot * 2));
+		}
+		int pos = firstOrderAfter(id);
+		System.arraycopy(idOrder, pos, idOrder, pos + 1, slot - pos);
+		idOrder[pos] = slot;
+	}
+
+	// ID 순서에서 afterId보다 큰 첫 위치 (이진 탐색)
+	private int firstOrderAfter(long afterId) {
+		int lo = 0;
+		int hi = count;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (idAt(slotAtOrder(mid)) <= afterId) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	private int slotAtOrder(int index) {
+		return (idOrder != null) ? idOrder[index] : index;
+	}
+
+	private long idAt(int slot) {
+		return segmentOf(slot).getLong(offsetOf(slot) + R_ID);
+	}
+
+	private String isbnAt(int slot) {
+		return readString(segmentOf(slot), offsetOf(slot), R_ISBN_OFF, R_ISBN_LEN);
+	}
+
+	// 문자열은 세그먼트 경계를 넘지 않도록 배치
+	private void writeString(MappedByteBuffer seg, int base, int offField, int lenField, String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		if (seg.getInt(base + lenField) == bytes.length && readString(seg, base, offField, lenField).equals(value)) {
+			return; // 변경 없음 - 영역을 다시 쓰지 않음
+		}
+		if (bytes.length > SEGMENT_SIZE) {
+			throw new IllegalArgumentException("문자열이 너무 깁니다: " + bytes.length + "byte");
+		}
+		long offset = arenaEnd;
+		long segmentEnd = (offset / SEGMENT_SIZE + 1) * SEGMENT_SIZE;
+		if (offset + bytes.length > segmentEnd) {
+			offset = segmentEnd;
+		}
+		arenaSegment((int) (offset / SEGMENT_SIZE)).put((int) (offset % SEGMENT_SIZE), bytes);
+		arenaEnd = offset + bytes.length;
+		recordSegment(0).putLong(H_ARENA_END, arenaEnd);
+
+		seg.putLong(base + offField, offset);
+		seg.putInt(base + lenField, bytes.length);
+	}
+
+	private String readString(MappedByteBuffer seg, int base, int offField, int lenField) {
+		long offset = seg.getLong(base + offField);
+		byte[] bytes = new byte[seg.getInt(base + lenField)];
+		arenaSegment((int) (offset / SEGMENT_SIZE)).get((int) (offset % SEGMENT_SIZE), bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private MappedByteBuffer segmentOf(int slot) {
+		long position = HEADER_SIZE + (long) slot * RECORD_SIZE;
+		return recordSegment((int) (position / SEGMENT_SIZE));
+	}
+
+	private static int offsetOf(int slot) {
+		return (int) ((HEADER_SIZE + (long) slot * RECORD_SIZE) % SEGMENT_SIZE);
+	}
+
+	private MappedByteBuffer recordSegment(int index) {
+		return recordSegments.get(index);
+	}
+
+	private MappedByteBuffer arenaSegment(int index) {
+		return arenaSegments.get(index);
+	}
+
+	private static String normalizeIsbn(String isbn) {
+		return isbn.toLowerCase(Locale.ROOT);
+	}
+
+	// 64bit FNV-1a
+	private static long hash(String s) {
+		long h = 0xcbf29ce484222325L;
+		for (int i = 0; i < s.length(); i++) {
+			h ^= s.charAt(i);
+			h *= 0x100000001b3L;
+		}
+		return h;
+	}
+
+	/**
+	 * 파일 하나의 매핑된 세그먼트 목록 - 늘릴 때마다 배열을 복사해 volatile로 공개하므로, 읽기 잠금만 잡은 조회가 동시에 세그먼트를 늘려도
+	 * 다른 조회는 잠금 없이 완성된 배열만 본다.
+	 */
+	private static final class Segments {
+		private final FileChannel channel;
+		private volatile MappedByteBuffer[] mapped = new MappedByteBuffer[0];
+
+		Segments(FileChannel channel) {
+			this.channel = channel;
+		}
+
+		// 필요한 세그먼트까지 매핑 (파일 크기는 매핑 시 늘어남)
+		MappedByteBuffer get(int index) {
+			MappedByteBuffer[] current = mapped;
+			if (index < current.length) {
+				return current[index];
+			}
+			synchronized (this) {
+				current = mapped;
+				if (index < current.length) {
+					return current[index];
+				}
+				MappedByteBuffer[] grown = Arrays.copyOf(current, index + 1);
+				try {
+					for (int i = current.length; i <= index; i++) {
+						grown[i] = channel.map(FileChannel.MapMode.READ_WRITE, (long) i * SEGMENT_SIZE, SEGMENT_SIZE);
+					}
+				} catch (IOException e) {
+					throw new IllegalStateException("파일 매핑 실패", e);
+				}
+				mapped = grown;
+				return grown[index];
+			}
+		}
+
+		void force() {
+			for (MappedByteBuffer segment : mapped) {
+				segment.force();
+			}
+		}
+	}
+
+	/** 매핑된 레코드의 재고 필드를 직접 CAS로 갱신하는 카운터 */
+	private static final class MappedStockCounter implements StockCounter {
+		private final MappedByteBuffer segment;
+		private final int offset;
+
+		MappedStockCounter(MappedByteBuffer segment, int offset) {
+			this.segment = segment;
+			this.offset = offset;
+		}
+
+		@Override
+		public int get() {
+			return (int) INT.getVolatile(segment, offset);
+		}
+
+		@Override
+		public boolean compareAndSet(int expected, int updated) {
+			return INT.compareAndSet(segment, offset, expected, updated);
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package io.github.bookrentalteam.bookrental.repository.mapped;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * 키셋 페이지를 차례로 가져오며 순회하는 Spliterator
+ * <p>
+ * 한 번에 pageSize 건만 메모리에 두고, 페이지 사이에는 잠금을 잡지 않는다.
+ */
+final class PagedSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+	@FunctionalInterface
+	interface PageQuery<T> {
+		List<T> fetch(long afterId, int limit);
+	}
+
+	private final PageQuery<T> query;
+	private final ToLongFunction<T> idOf;
+	private final int pageSize;
+	private long afterId;
+	private Iterator<T> page;
+	private boolean last;
+
+	PagedSpliterator(PageQuery<T> query, ToLongFunction<T> idOf, int pageSize) {
+		super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+		this.query = query;
+		this.idOf = idOf;
+		this.pageSize = pageSize;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		if (page == null || !page.hasNext()) {
+			if (last) {
+				return false;
+			}
+			List<T> next = query.fetch(afterId, pageSize);
+			last = next.size() < pageSize;
+			if (next.isEmpty()) {
+				return false;
+			}
+			afterId = idOf.applyAsLong(next.get(next.size() - 1));
+			page = next.iterator();
+		}
+		action.accept(page.next());
+		return true;
+	}
+}
@@ -0,0 +1,369 @@
+package io.github.bookrentalteam.bookrental.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import io.github.bookrentalteam.bookrental.domain.Book;
+import io.github.bookrentalteam.bookrental.search.Completion.Source;
+
+/**
+ * 제목/저자 접두어 자동완성 색인 - 인기도 순 상위 K건.
+ * <p>
+ * 정규화 후 자모 분해한 키를 정렬 배열에 두면 트라이의 각 노드가 배열의 연속 구간이 된다. 접두어 구간은 이진 탐색으로 찾고, 구간 안의 상위
+ * K건은 인기도 구간 최댓값 트리(segment tree)에서 O(K log n)으로 꺼낸다. 새 문자열은 작은 정렬 맵(delta)에 모았다가 일정 수를 넘으면
+ * 배열과 병합한다. 같은 제목/저자는 한 후보로 합치고 인기도는 도서 수 + 대여 횟수로 센다.
+ */
+public class AutocompleteIndex {
+
+	public static final int MAX_LIMIT = 50;
+
+	private static final int DELTA_LIMIT = 16_384; // delta가 이만큼 쌓이면 배열과 병합
+	private static final char SOURCE_SEPARATOR = '\0'; // 키 = 자모열 + 구분자 + 출처 (접두어 구간 안에 머묾)
+	private static final char JAMO_FIRST = 0x3131;
+	private static final char JAMO_LAST = 0x3163;
+	private static final char COMPACT_FIRST = 0x80; // 자모와 맞바꿀 Latin-1 구간
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private Segment base = new Segment(new String[0], new String[0], new byte[0], new long[0]); // 이하 lock으로 보호
+	private final TreeMap<String, Term> delta = new TreeMap<>();
+
+	/** 도서 색인 (같은 제목/저자가 이미 있으면 인기도 +1) */
+	public void add(Book book) {
+		lock.writeLock().lock();
+		try {
+			addWeight(book, 1);
+			mergeIfFull();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/** 여러 권 색인 - 많으면 키를 잠금 밖에서 만들어 정렬한 뒤 배열과 한 번에 병합 */
+	public void addAll(Collection<Book> books) {
+		if (books.size() < DELTA_LIMIT) {
+			lock.writeLock().lock();
+			try {
+				for (Book book : books) {
+					addWeight(book, 1);
+				}
+				mergeIfFull();
+			} finally {
+				lock.writeLock().unlock();
+			}
+			return;
+		}
+
+		List<Map.Entry<String, Term>> terms = new ArrayList<>(books.size() * 2);
+		for (Book book : books) {
+			addEntries(terms, book);
+		}
+		mergeSorted(terms);
+	}
+
+	/** 순회하며 여러 권 색인 - 도서 객체는 모아 두지 않고 키만 뽑아 정렬한 뒤 배열과 한 번에 병합 (시작 시 적재용) */
+	public void addAll(Stream<Book> books) {
+		List<Map.Entry<String, Term>> terms = new ArrayList<>();
+		books.forEach(book -> addEntries(terms, book));
+		mergeSorted(terms);
+	}
+
+	/** 대여 1회 반영 - 제목/저자 인기도 +1 */
+	public void recordRental(Book book) {
+		lock.writeLock().lock();
+		try {
+			addWeight(book, 1);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 접두어로 시작하는 제목/저자 - 인기도 순 최대 limit건
+	 *
+	 * @param prefix 입력 중인 글자 그대로 (조합 중인 음절, 자모만 입력한 경우 포함)
+	 */
+	public List<Completion> complete(String prefix, int limit) {
+		if (limit <= 0 || limit > MAX_LIMIT) {
+			throw new IllegalArgumentException("자동완성 건수는 1~" + MAX_LIMIT + " 사이여야 합니다.");
+		}
+		String from = keyOf(normalizeQuery(prefix));
+		if (from.isEmpty()) {
+			return new ArrayList<>();
+		}
+		String to = from + '\uffff';
+
+		lock.readLock().lock();
+		try {
+			List<Completion> result = base.top(from, to, limit);
+			Map<String, Term> pending = delta.subMap(from, to);
+			if (pending.isEmpty()) {
+				return result;
+			}
+			for (Term t : pending.values()) {
+				result.add(new Completion(t.text, t.source, t.weight));
+			}
+			result.sort(Comparator.comparingLong(Completion::weight).reversed().thenComparing(Completion::text));
+			return (result.size() > limit) ? new ArrayList<>(result.subList(0, limit)) : result;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/** 색인된 제목/저자 문자열 수 */
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return base.size + delta.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void addWeight(Book book, long weight) {
+		addTerm(book.getTitle(), Source.TITLE, weight);
+		addTerm(book.getAuthor(), Source.AUTHOR, weight);
+	}
+
+	private void addTerm(String text, Source source, long weight) {
+		String key = termKey(text, source);
+		if (key == null) {
+			return;
+		}
+		int index = base.indexOf(key);
+		if (index >= 0) {
+			base.addWeight(index, weight);
+			return;
+		}
+		Term term = delta.get(key);
+		if (term == null) {
+			delta.put(key, new Term(text.strip(), source, weight));
+		} else {
+			term.weight += weight;
+		}
+	}
+
+	private void mergeSorted(List<Map.Entry<String, Term>> terms) {
+		terms.sort(Map.Entry.comparingByKey());
+		lock.writeLock().lock();
+		try {
+			base = base.merge(new ArrayList<>(delta.entrySet())).merge(terms);
+			delta.clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private static void addEntries(List<Map.Entry<String, Term>> terms, Book book) {
+		addEntry(terms, book.getTitle(), Source.TITLE);
+		addEntry(terms, book.getAuthor(), Source.AUTHOR);
+	}
+
+	private static void addEntry(List<Map.Entry<String, Term>> terms, String text, Source source) {
+		String key = termKey(text, source);
+		if (key != null) {
+			terms.add(Map.entry(key, new Term(text.strip(), source, 1)));
+		}
+	}
+
+	// 색인 키 = 자모열 + 구분자 + 출처 (빈 문자열이면 null)
+	private static String termKey(String text, Source source) {
+		String normalized = normalizeQuery(text).strip();
+		return normalized.isEmpty() ? null : keyOf(normalized) + SOURCE_SEPARATOR + (char) ('0' + source.ordinal());
+	}
+
+	private void mergeIfFull() {
+		if (delta.size() >= DELTA_LIMIT) {
+			base = base.merge(new ArrayList<>(delta.entrySet()));
+			delta.clear();
+		}
+	}
+
+	// 소문자 + 공백 정리 (끝 공백은 "자바 " → "자바 병렬"처럼 단어 경계를 뜻하므로 유지)
+	private static String normalizeQuery(String s) {
+		if (s == null) {
+			return "";
+		}
+		StringBuilder sb = new StringBuilder(s.length());
+		boolean space = true; // 앞 공백 제거
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (Character.isWhitespace(c)) {
+				if (!space) {
+					sb.append(' ');
+				}
+				space = true;
+			} else {
+				sb.append(c);
+				space = false;
+			}
+		}
+		return sb.toString().toLowerCase(Locale.ROOT);
+	}
+
+	// 자모 분해 후 자모(U+3131~)와 Latin-1 구간(U+0080~)을 맞바꿔 한글+영문 키가 1byte/문자로 저장되게 함 (일대일 대응이라 순서/접두어 관계 유지)
+	private static String keyOf(String normalized) {
+		char[] chars = Hangul.decompose(normalized).toCharArray();
+		int span = JAMO_LAST - JAMO_FIRST;
+		for (int i = 0; i < chars.length; i++) {
+			char c = chars[i];
+			if (c >= JAMO_FIRST && c <= JAMO_LAST) {
+				chars[i] = (char) (COMPACT_FIRST + (c - JAMO_FIRST));
+			} else if (c >= COMPACT_FIRST && c <= COMPACT_FIRST + span) {
+				chars[i] = (char) (JAMO_FIRST + (c - COMPACT_FIRST));
+			}
+		}
+		return new String(chars);
+	}
+
+	/** 아직 병합되지 않은 문자열 */
+	private static final class Term {
+		final String text;
+		final Source source;
+		long weight;
+
+		Term(String text, Source source, long weight) {
+			this.text = text;
+			this.source = source;
+			this.weight = weight;
+		}
+	}
+
+	/** 정렬된 키 배열 + 인기도 최댓값 위치 트리 */
+	private static final class Segment {
+		private static final Source[] SOURCES = Source.values();
+
+		final int size;
+		private final String[] keys;
+		private final String[] texts;
+		private final byte[] sources;
+		private final long[] weights;
+		private final int[] tree; // tree[size + i] = i, tree[p] = 자식 구간의 최댓값 위치
+
+		Segment(String[] keys, String[] texts, byte[] sources, long[] weights) {
+			this.size = keys.length;
+			this.keys = keys;
+			this.texts = texts;
+			this.sources = sources;
+			this.weights = weights;
+			this.tree = new int[2 * Math.max(1, size)];
+			for (int i = 0; i < size; i++) {
+				tree[size + i] = i;
+			}
+			for (int p = size - 1; p >= 1; p--) {
+				tree[p] = better(tree[2 * p], tree[2 * p + 1]);
+			}
+		}
+
+		int indexOf(String key) {
+			int i = Arrays.binarySearch(keys, key);
+			return (i >= 0) ? i : -1;
+		}
+
+		void addWeight(int index, long weight) {
+			weights[index] += weight;
+			for (int p = (index + size) >> 1; p >= 1; p >>= 1) {
+				tree[p] = better(tree[2 * p], tree[2 * p + 1]);
+			}
+		}
+
+		// [from, to) 키 구간에서 인기도 상위 limit건: 구간 최댓값을 꺼내고 그 양옆 구간을 다시 후보로 넣음
+		List<Completion> top(String from, String to, int limit) {
+			int lo = lowerBound(from);
+			int hi = lowerBound(to);
+			List<Completion> result = new ArrayList<>(limit);
+			if (lo >= hi) {
+				return result;
+			}
+			PriorityQueue<int[]> ranges = new PriorityQueue<>((a, b) -> (better(a[2], b[2]) == a[2]) ? -1 : 1);
+			ranges.add(new int[] { lo, hi, argmax(lo, hi) });
+			while (result.size() < limit && !ranges.isEmpty()) {
+				int[] r = ranges.poll();
+				int i = r[2];
+				result.add(new Completion(texts[i], SOURCES[sources[i]], weights[i]));
+				if (r[0] < i) {
+					ranges.add(new int[] { r[0], i, argmax(r[0], i) });
+				}
+				if (i + 1 < r[1]) {
+					ranges.add(new int[] { i + 1, r[1], argmax(i + 1, r[1]) });
+				}
+			}
+			return result;
+		}
+
+		// 키 순으로 정렬된 항목과 병합 (같은 키는 인기도를 합침)
+		Segment merge(List<Map.Entry<String, Term>> sorted) {
+			int n = size + sorted.size();
+			String[] k = new String[n];
+			String[] t = new String[n];
+			byte[] s = new byte[n];
+			long[] w = new long[n];
+			int i = 0;
+			int j = 0;
+			int out = 0;
+			while (i < size || j < sorted.size()) {
+				boolean fromBase = j == sorted.size() || (i < size && keys[i].compareTo(sorted.get(j).getKey()) <= 0);
+				String key = fromBase ? keys[i] : sorted.get(j).getKey();
+				long weight = fromBase ? weights[i] : sorted.get(j).getValue().weight;
+				if (out > 0 && k[out - 1].equals(key)) {
+					w[out - 1] += weight;
+				} else {
+					k[out] = key;
+					t[out] = fromBase ? texts[i] : sorted.get(j).getValue().text;
+					s[out] = fromBase ? sources[i] : (byte) sorted.get(j).getValue().source.ordinal();
+					w[out++] = weight;
+				}
+				if (fromBase) {
+					i++;
+				} else {
+					j++;
+				}
+			}
+			if (out < n) {
+				k = Arrays.copyOf(k, out);
+				t = Arrays.copyOf(t, out);
+				s = Arrays.copyOf(s, out);
+				w = Arrays.copyOf(w, out);
+			}
+			return new Segment(k, t, s, w);
+		}
+
+		private int lowerBound(String key) {
+			int i = Arrays.binarySearch(keys, key);
+			return (i >= 0) ? i : -i - 1;
+		}
+
+		// [lo, hi) 구간 최댓값 위치 (bottom-up)
+		private int argmax(int lo, int hi) {
+			int best = -1;
+			for (int l = lo + size, r = hi + size; l < r; l >>= 1, r >>= 1) {
+				if ((l & 1) == 1) {
+					best = better(best, tree[l++]);
+				}
+				if ((r & 1) == 1) {
+					best = better(best, tree[--r]);
+				}
+			}
+			return best;
+		}
+
+		// 인기도가 높은 쪽, 같으면 키 순서가 앞선 쪽
+		private int better(int a, int b) {
+			if (a < 0) {
+				return b;
+			}
+			if (b < 0) {
+				return a;
+			}
+			return (weights[b] > weights[a] || (weights[b] == weights[a] && b < a)) ? b : a;
+		}
+	}
+}
@@ -0,0 +1,205 @@
+package io.github.bookrentalteam.bookrental.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.bookrentalteam.bookrental.domain.Book;
+
+/**
+ * 도서 검색 색인 - 제목/저자/ISBN의 문자 n-gram(1~2글자) 역색인 + 단어 토큰 역색인
+ * <p>
+ * 한글은 형태소 분리 없이도 부분 문자열 검색이 되도록 n-gram으로 후보를 뽑고, 실제 포함 여부를 한 번 더 확인한다. Book 객체는 잡아 두지
+ * 않고 ID와 정규화된 문자열만 두므로, 호출자가 결과 ID로 저장소에서 현재 도서를 읽는다.
+ */
+public class BookSearchIndex {
+
+	// 점수 가중치 (제목 > 저자 > ISBN)
+	private static final int TITLE_MATCH = 30;
+	private static final int AUTHOR_MATCH = 20;
+	private static final int ISBN_MATCH = 10;
+	private static final int TOKEN_BONUS = 5; // 단어 전체 일치
+	private static final int PREFIX_BONUS = 3; // 필드 시작 부분 일치
+
+	private final Map<Long, Doc> docs = new ConcurrentHashMap<>();
+	private final Map<String, Set<Long>> grams = new ConcurrentHashMap<>(); // n-gram → 도서 ID
+	private final Map<String, Set<Long>> tokens = new ConcurrentHashMap<>(); // 단어 → 도서 ID
+
+	/** 도서 색인 추가(같은 ID면 교체) */
+	public void add(Book book) {
+		remove(book.getId());
+		Doc doc = new Doc(book.getId(), normalize(book.getTitle()), normalize(book.getAuthor()),
+				normalize(book.getIsbn()));
+		docs.put(book.getId(), doc);
+		for (String field : doc.fields()) {
+			for (String gram : gramsOf(field)) {
+				grams.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(book.getId());
+			}
+		}
+		for (String field : doc.fields()) {
+			for (String token : tokenize(field)) {
+				tokens.computeIfAbsent(token, k -> ConcurrentHashMap.newKeySet()).add(book.getId());
+			}
+		}
+	}
+
+	/** 도서 색인 제거 */
+	public void remove(Long id) {
+		Doc doc = docs.remove(id);
+		if (doc == null) {
+			return;
+		}
+		for (String field : doc.fields()) {
+			for (String gram : gramsOf(field)) {
+				removePosting(grams, gram, id);
+			}
+			for (String token : tokenize(field)) {
+				removePosting(tokens, token, id);
+			}
+		}
+	}
+
+	/**
+	 * 키워드 검색 - 관련도 순으로 최대 limit건
+	 *
+	 * @return 도서 ID (점수 순, 같으면 ID 순)
+	 */
+	public List<Long> search(String keyword, int limit) {
+		String q = normalize(keyword);
+		if (q.isEmpty() || limit <= 0) {
+			return new ArrayList<>();
+		}
+
+		Set<Long> candidates = smallestPosting(q);
+		if (candidates == null || candidates.isEmpty()) {
+			return new ArrayList<>();
+		}
+		Set<Long> tokenHits = tokens.getOrDefault(q, Collections.emptySet());
+
+		// 상위 limit건만 유지하는 최소 힙
+		Comparator<Hit> order = Comparator.comparingInt(Hit::score).thenComparing(h -> -h.doc().id());
+		PriorityQueue<Hit> top = new PriorityQueue<>(order);
+		for (Long id : candidates) {
+			Doc doc = docs.get(id);
+			if (doc == null) {
+				continue;
+			}
+			int score = score(doc, q, tokenHits.contains(id));
+			if (score == 0) {
+				continue; // n-gram은 겹치지만 실제로는 포함하지 않음
+			}
+			top.offer(new Hit(doc, score));
+			if (top.size() > limit) {
+				top.poll();
+			}
+		}
+
+		List<Long> result = new ArrayList<>(top.size());
+		while (!top.isEmpty()) {
+			result.add(top.poll().doc().id());
+		}
+		Collections.reverse(result);
+		return result;
+	}
+
+	/** 색인된 도서 수 */
+	public int size() {
+		return docs.size();
+	}
+
+	// 검색어의 n-gram 중 가장 짧은 포스팅 목록 (없는 n-gram이 하나라도 있으면 결과 없음)
+	private Set<Long> smallestPosting(String q) {
+		Set<Long> smallest = null;
+		for (String gram : queryGrams(q)) {
+			Set<Long> posting = grams.get(gram);
+			if (posting == null) {
+				return null;
+			}
+			if (smallest == null || posting.size() < smallest.size()) {
+				smallest = posting;
+			}
+		}
+		return smallest;
+	}
+
+	private static int score(Doc doc, String q, boolean tokenHit) {
+		int score = 0;
+		if (doc.title().contains(q)) {
+			score += TITLE_MATCH + (doc.title().startsWith(q) ? PREFIX_BONUS : 0);
+		}
+		if (doc.author().contains(q)) {
+			score += AUTHOR_MATCH + (doc.author().startsWith(q) ? PREFIX_BONUS : 0);
+		}
+		if (doc.isbn().contains(q)) {
+			score += ISBN_MATCH;
+		}
+		if (score > 0 && tokenHit) {
+			score += TOKEN_BONUS;
+		}
+		return score;
+	}
+
+	private static void removePosting(Map<String, Set<Long>> index, String key, Long id) {
+		index.computeIfPresent(key, (k, ids) -> {
+			ids.remove(id);
+			return ids.isEmpty() ? null : ids;
+		});
+	}
+
+	/** 검색용 정규화: 소문자 + 앞뒤 공백 제거 */
+	static String normalize(String s) {
+		return (s == null) ? "" : s.strip().toLowerCase(Locale.ROOT);
+	}
+
+	// 색인용 n-gram: 모든 1글자, 2글자 조각
+	private static Set<String> gramsOf(String s) {
+		Set<String> result = new HashSet<>();
+		for (int i = 0; i < s.length(); i++) {
+			result.add(s.substring(i, i + 1));
+			if (i + 1 < s.length()) {
+				result.add(s.substring(i, i + 2));
+			}
+		}
+		return result;
+	}
+
+	// 검색어 n-gram: 1글자 검색어면 그 글자, 아니면 2글자 조각들
+	private static List<String> queryGrams(String q) {
+		List<String> result = new ArrayList<>();
+		if (q.length() == 1) {
+			result.add(q);
+			return result;
+		}
+		for (int i = 0; i + 1 < q.length(); i++) {
+			result.add(q.substring(i, i + 2));
+		}
+		return result;
+	}
+
+	/** 단어 단위 토큰 분리 (문자/숫자 외는 구분자) */
+	static List<String> tokenize(String s) {
+		List<String> result = new ArrayList<>();
+		for (String token : s.split("[^\\p{L}\\p{N}]+")) {
+			if (!token.isEmpty()) {
+				result.add(token);
+			}
+		}
+		return result;
+	}
+
+	private record Doc(long id, String title, String author, String isbn) {
+		List<String> fields() {
+			return List.of(title, author, isbn);
+		}
+	}
+
+	private record Hit(Doc doc, int score) {
+	}
+}
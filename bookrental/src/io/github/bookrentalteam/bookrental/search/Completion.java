@@ -0,0 +1,13 @@
+package io.github.bookrentalteam.bookrental.search;
+
+/**
+ * 자동완성 후보
+ *
+ * @param weight 인기도 (같은 제목/저자의 도서 수 + 대여 횟수)
+ */
+public record Completion(String text, Source source, long weight) {
+
+	public enum Source {
+		TITLE, AUTHOR
+	}
+}
@@ -0,0 +1,257 @@
+package io.github.bookrentalteam.bookrental.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import io.github.bookrentalteam.bookrental.domain.Book;
+
+/**
+ * 오타 허용 검색 색인 - 제목/저자 단어 사전의 BK-트리.
+ * <p>
+ * 단어는 자모로 분해해 저장하므로 편집 거리는 자모 단위로 센다(괴츠 → 괴쯔 1, 자바 → 차바 1). BK-트리는 삼각 부등식으로 거리 범위 밖의
+ * 가지를 통째로 건너뛰므로 도서 전체가 아니라 서로 다른 단어 일부와만 비교한다. 길이 차이만으로도 거리가 정해지므로 트리는 단어 길이별로 두고
+ * 검색어 길이 ± 허용 거리의 트리만 찾는다. 허용 거리는 단어 길이에 따라 0~2.
+ */
+public class FuzzyIndex {
+
+	public static final int MAX_DISTANCE = 2;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private Node[] roots = new Node[16]; // 단어 길이(자모 수) → BK-트리, 이하 lock으로 보호
+	private int termCount;
+
+	/** 도서의 제목/저자 단어 색인 */
+	public void add(Book book) {
+		lock.writeLock().lock();
+		try {
+			insertTerms(book);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void addAll(Collection<Book> books) {
+		lock.writeLock().lock();
+		try {
+			books.forEach(this::insertTerms);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 오타 허용 검색 - 검색어 단어마다 허용 거리 안의 단어를 찾아, 가까운 단어를 많이 가진 도서 순으로 최대 limit건
+	 *
+	 * @return 도서 ID (점수 순, 같으면 ID 순)
+	 */
+	public List<Long> search(String keyword, int limit) {
+		List<String> queryTerms = termsOf(keyword);
+		if (queryTerms.isEmpty() || limit <= 0) {
+			return new ArrayList<>();
+		}
+
+		Map<Long, Integer> scores = new HashMap<>();
+		lock.readLock().lock();
+		try {
+			for (String q : queryTerms) {
+				int max = maxDistance(q.length());
+				Map<Long, Integer> best = new HashMap<>(); // 검색어 단어 하나당 도서별 최고 점수 (정확 일치 max+1 ... 최대 거리 1)
+				for (Match m : find(q, max)) {
+					for (Long id : m.node().ids) {
+						best.merge(id, max + 1 - m.distance(), Math::max);
+					}
+				}
+				best.forEach((id, score) -> scores.merge(id, score, Integer::sum));
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		Comparator<Map.Entry<Long, Integer>> order = Map.Entry.<Long, Integer>comparingByValue()
+				.thenComparing(Map.Entry.<Long, Integer>comparingByKey().reversed());
+		PriorityQueue<Map.Entry<Long, Integer>> top = new PriorityQueue<>(order);
+		for (Map.Entry<Long, Integer> e : scores.entrySet()) {
+			top.offer(e);
+			if (top.size() > limit) {
+				top.poll();
+			}
+		}
+		Long[] ids = new Long[top.size()];
+		for (int i = ids.length - 1; i >= 0; i--) {
+			ids[i] = top.poll().getKey();
+		}
+		return Arrays.asList(ids);
+	}
+
+	/** 색인된 서로 다른 단어 수 */
+	public int termCount() {
+		lock.readLock().lock();
+		try {
+			return termCount;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/** 단어 길이(자모 수)별 허용 편집 거리 - 짧은 단어는 한 글자만 바꿔도 다른 단어가 되므로 좁게 */
+	static int maxDistance(int length) {
+		if (length <= 2) {
+			return 0;
+		}
+		return (length <= 4) ? 1 : MAX_DISTANCE;
+	}
+
+	private void insertTerms(Book book) {
+		Set<String> terms = new HashSet<>(termsOf(book.getTitle()));
+		terms.addAll(termsOf(book.getAuthor()));
+		for (String term : terms) {
+			insert(term, book.getId());
+		}
+	}
+
+	private void insert(String term, long id) {
+		int length = term.length();
+		if (length >= roots.length) {
+			roots = Arrays.copyOf(roots, Math.max(length + 1, roots.length * 2));
+		}
+		if (roots[length] == null) {
+			roots[length] = new Node(term, id);
+			termCount++;
+			return;
+		}
+		int[] rows = new int[2 * (length + 1)];
+		Node node = roots[length];
+		while (true) {
+			int d = distance(term, node.term, rows, Integer.MAX_VALUE);
+			if (d == 0) {
+				node.ids.add(id);
+				return;
+			}
+			Node child = node.child(d);
+			if (child == null) {
+				node.addChild(d, new Node(term, id));
+				termCount++;
+				return;
+			}
+			node = child;
+		}
+	}
+
+	// 거리 max 이내의 단어 - |d(q, 자식) - d(q, 노드)| <= max 인 자식만 방문
+	private List<Match> find(String q, int max) {
+		List<Match> matches = new ArrayList<>();
+		int[] rows = new int[2 * (q.length() + 1)];
+		Deque<Node> stack = new ArrayDeque<>();
+		for (int length = Math.max(0, q.length() - max); length <= q.length() + max && length < roots.length; length++) {
+			if (roots[length] != null) {
+				stack.push(roots[length]);
+			}
+		}
+		while (!stack.isEmpty()) {
+			Node node = stack.pop();
+			// 자식 거리 최댓값 + max를 넘으면 정확한 거리가 필요 없음 (매칭도, 방문할 자식도 없음)
+			int d = distance(q, node.term, rows, Math.max(max, node.maxChildDistance + max));
+			if (d <= max) {
+				matches.add(new Match(node, d));
+			}
+			for (int i = 0; i < node.childCount; i++) {
+				int cd = node.childDistances[i];
+				if (cd >= d - max && cd <= d + max) {
+					stack.push(node.children[i]);
+				}
+			}
+		}
+		return matches;
+	}
+
+	// 검색/색인 단어: 정규화 → 단어 분리 → 자모 분해
+	private static List<String> termsOf(String text) {
+		List<String> terms = new ArrayList<>();
+		for (String token : BookSearchIndex.tokenize(BookSearchIndex.normalize(text))) {
+			terms.add(Hangul.decompose(token));
+		}
+		return terms;
+	}
+
+	// 레벤슈타인 거리 - cutoff를 넘는 것이 확실해지면 cutoff + 1 반환 (두 행만 사용, rows 길이 >= 2 * (a.length() + 1))
+	static int distance(String a, String b, int[] rows, int cutoff) {
+		int n = a.length();
+		if (Math.abs(n - b.length()) > cutoff) {
+			return cutoff + 1;
+		}
+		if (rows.length < 2 * (n + 1)) {
+			rows = new int[2 * (n + 1)];
+		}
+		int prev = 0;
+		int cur = n + 1;
+		for (int i = 0; i <= n; i++) {
+			rows[prev + i] = i;
+		}
+		for (int j = 1; j <= b.length(); j++) {
+			rows[cur] = j;
+			int rowMin = j;
+			char bc = b.charAt(j - 1);
+			for (int i = 1; i <= n; i++) {
+				int cost = (a.charAt(i - 1) == bc) ? 0 : 1;
+				rows[cur + i] = Math.min(Math.min(rows[cur + i - 1] + 1, rows[prev + i] + 1), rows[prev + i - 1] + cost);
+				rowMin = Math.min(rowMin, rows[cur + i]);
+			}
+			if (rowMin > cutoff) {
+				return cutoff + 1; // 행 최솟값은 줄지 않음
+			}
+			int t = prev;
+			prev = cur;
+			cur = t;
+		}
+		return (rows[prev + n] > cutoff) ? cutoff + 1 : rows[prev + n];
+	}
+
+	private record Match(Node node, int distance) {
+	}
+
+	/** BK-트리 노드 - 자식은 부모와의 거리로 구분 */
+	private static final class Node {
+		final String term;
+		final Set<Long> ids = new HashSet<>(2);
+		int[] childDistances = new int[0];
+		Node[] children = new Node[0];
+		int childCount;
+		int maxChildDistance;
+
+		Node(String term, long id) {
+			this.term = term;
+			ids.add(id);
+		}
+
+		Node child(int distance) {
+			for (int i = 0; i < childCount; i++) {
+				if (childDistances[i] == distance) {
+					return children[i];
+				}
+			}
+			return null;
+		}
+
+		void addChild(int distance, Node child) {
+			if (childCount == children.length) {
+				int capacity = Math.max(2, childCount * 2);
+				childDistances = Arrays.copyOf(childDistances, capacity);
+				children = Arrays.copyOf(children, capacity);
+			}
+			childDistances[childCount] = distance;
+			children[childCount++] = child;
+			maxChildDistance = Math.max(maxChildDistance, distance);
+		}
+	}
+}
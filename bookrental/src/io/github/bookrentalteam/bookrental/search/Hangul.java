@@ -0,0 +1,63 @@
+package io.github.bookrentalteam.bookrental.search;
+
+/**
+ * 한글 자모 분해 - 입력 중인 글자("잡" → "자바")나 자모만 친 검색어("ㅈㅂ")도 앞부분이 맞도록 음절을 자판 입력 순서의 자모로 푼다.
+ * <p>
+ * 겹모음/겹받침은 자판에서 두 번 누르는 글자이므로 둘로 나누고(ㅘ → ㅗㅏ, ㄺ → ㄹㄱ), 된소리(ㄲ 등)는 한 글자로 둔다. 한글이 아닌 문자는
+ * 그대로 둔다.
+ */
+public final class Hangul {
+
+	private static final char SYLLABLE_BASE = 0xAC00;
+	private static final char SYLLABLE_LAST = 0xD7A3;
+	private static final char JAMO_FIRST = 0x3131; // ㄱ
+	private static final char JAMO_LAST = 0x3163; // ㅣ
+
+	private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+	private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+	private static final String JONGSEONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+	// 호환 자모(ㄱ~ㅣ) → 자판 입력 순서의 자모열
+	private static final String[] KEYSTROKES = new String[JAMO_LAST - JAMO_FIRST + 1];
+
+	static {
+		for (char c = JAMO_FIRST; c <= JAMO_LAST; c++) {
+			KEYSTROKES[c - JAMO_FIRST] = String.valueOf(c);
+		}
+		String[][] compounds = { { "ㄳ", "ㄱㅅ" }, { "ㄵ", "ㄴㅈ" }, { "ㄶ", "ㄴㅎ" }, { "ㄺ", "ㄹㄱ" }, { "ㄻ", "ㄹㅁ" },
+				{ "ㄼ", "ㄹㅂ" }, { "ㄽ", "ㄹㅅ" }, { "ㄾ", "ㄹㅌ" }, { "ㄿ", "ㄹㅍ" }, { "ㅀ", "ㄹㅎ" }, { "ㅄ", "ㅂㅅ" },
+				{ "ㅘ", "ㅗㅏ" }, { "ㅙ", "ㅗㅐ" }, { "ㅚ", "ㅗㅣ" }, { "ㅝ", "ㅜㅓ" }, { "ㅞ", "ㅜㅔ" }, { "ㅟ", "ㅜㅣ" },
+				{ "ㅢ", "ㅡㅣ" } };
+		for (String[] c : compounds) {
+			KEYSTROKES[c[0].charAt(0) - JAMO_FIRST] = c[1];
+		}
+	}
+
+	private Hangul() {
+	}
+
+	/** 한글 음절/자모를 자판 입력 순서의 자모열로 분해 */
+	public static String decompose(CharSequence s) {
+		StringBuilder sb = new StringBuilder(s.length() * 3);
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+				int index = c - SYLLABLE_BASE;
+				sb.append(CHOSEONG.charAt(index / 588));
+				appendJamo(sb, JUNGSEONG.charAt((index % 588) / 28));
+				if (index % 28 != 0) {
+					appendJamo(sb, JONGSEONG.charAt(index % 28));
+				}
+			} else if (c >= JAMO_FIRST && c <= JAMO_LAST) {
+				appendJamo(sb, c);
+			} else {
+				sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
+
+	private static void appendJamo(StringBuilder sb, char jamo) {
+		sb.append(KEYSTROKES[jamo - JAMO_FIRST]);
+	}
+}
@@ -1,19 +1,39 @@
 package io.github.bookrentalteam.bookrental.service;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import io.github.bookrentalteam.bookrental.domain.Book;
+import io.github.bookrentalteam.bookrental.search.Completion;
 
 public interface BookService {
 	/** 도서 등록 */
 	Book registerBook(String isbn, String title, String author, int totalCopies);
 
+	/** 도서 일괄 등록 - 이미 등록된 ISBN은 건너뛰고 등록된 도서만 반환 (총 권수가 1권 미만인 도서가 있으면 ValidationException) */
+	List<Book> registerBooks(List<Book> books);
+
 	/** 도서 목록 조회 */
 	List<Book> listBooks();
 
+	/** 도서 목록 페이지 조회 - ID 순, afterId 다음부터 최대 limit건 */
+	List<Book> listBooks(long afterId, int limit);
+
+	/** 도서 전체 순회 - ID 순, 목록을 한 번에 만들지 않음 */
+	Stream<Book> streamBooks();
+
 	/** 도서 검색 (제목, 저자, ISBN 키워드) */
 	List<Book> searchBooks(String keyword);
 
+	/** 도서 검색 - 관련도 순 상위 limit건 */
+	List<Book> searchBooks(String keyword, int limit);
+
+	/** 오타 허용 검색 (제목, 저자) - 단어마다 자모 기준 편집 거리 1~2까지 허용, 가까운 순 최대 limit건 */
+	List<Book> searchBooksFuzzy(String keyword, int limit);
+
+	/** 제목/저자 자동완성 - 접두어(입력 중인 한글 자모 포함)로 시작하는 후보를 인기도 순 최대 limit건 */
+	List<Completion> autocomplete(String prefix, int limit);
+
 	/** ID로 도서 단건 조회 */
 	Book getBook(long id);
 }
@@ -2,17 +2,21 @@ package io.github.bookrentalteam.bookrental.service;
 
 import io.github.bookrentalteam.bookrental.domain.Member;
 import io.github.bookrentalteam.bookrental.domain.Role;
+import io.github.bookrentalteam.bookrental.session.Session;
 
 public interface MemberService {
 	/** 회원가입 */
 	Member signUp(String name, String email, String password, Role role);
 
-	/** 로그인 */
-	Member login(String email, String password);
+	/** 이메일/비밀번호 확인 (로그인 상태는 바꾸지 않음) */
+	Member authenticate(String email, String password);
 
-	/** 현재 로그인된 사용자 반환 */
-	Member getCurrentUser();
+	/** 로그인 - 새 세션 발급 */
+	Session login(String email, String password);
 
-	/** 로그아웃 */
-	void logout();
+	/** 세션 토큰의 사용자 반환 (없거나 만료됐으면 null) */
+	Member getCurrentUser(String token);
+
+	/** 로그아웃 - 해당 세션만 종료 */
+	void logout(String token);
 }
@@ -0,0 +1,25 @@
+package io.github.bookrentalteam.bookrental.service;
+
+import io.github.bookrentalteam.bookrental.domain.Rental;
+
+/**
+ * 일괄 대여/반납/연장의 항목별 결과
+ *
+ * @param targetId 요청한 도서 ID(대여) 또는 대여 ID(반납/연장)
+ * @param rental   성공 시 처리된 대여, 실패 시 null
+ * @param error    실패 사유, 성공 시 null
+ */
+public record RentalResult(long targetId, Rental rental, String error) {
+
+	public static RentalResult success(long targetId, Rental rental) {
+		return new RentalResult(targetId, rental, null);
+	}
+
+	public static RentalResult failure(long targetId, String error) {
+		return new RentalResult(targetId, null, error);
+	}
+
+	public boolean isSuccess() {
+		return error == null;
+	}
+}
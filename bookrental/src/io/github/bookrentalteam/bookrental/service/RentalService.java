@@ -9,9 +9,24 @@ public interface RentalService {
 	/** 도서 대여 */
 	Rental rentBook(long bookId, Member member);
 
+	/**
+	 * 여러 권 일괄 대여 - 회원 검사는 한 번만 하고 대여 기록은 한 번에 저장
+	 *
+	 * @param allOrNothing true면 한 권이라도 실패 시 전부 취소하고 IllegalStateException, false면 가능한 도서만 대여
+	 *            (대여 기록 저장이 일부만 성공하면 true는 저장된 대여까지 취소한 뒤 저장 예외, false는 저장되지 않은 항목만 실패로 보고)
+	 * @return 요청 순서대로 항목별 결과
+	 */
+	List<RentalResult> rentBooks(List<Long> bookIds, Member member, boolean allOrNothing);
+
 	/** 도서 반납 */
 	Rental returnBook(long rentalId);
 
+	/** 여러 건 일괄 반납 - 항목별 결과 (요청 순서) */
+	List<RentalResult> returnBooks(List<Long> rentalIds);
+
+	/** 대여 기록 조회 */
+	Rental getRental(long rentalId);
+
 	/** 특정 회원의 대여 이력 조회 */
 	List<Rental> getRentalsByMember(Member member);
 
@@ -20,4 +35,13 @@ public interface RentalService {
 
 	/** 대여 연장 */
 	Rental extendRental(long rentalId);
+
+	/** 여러 건 일괄 연장 - 항목별 결과 (요청 순서) */
+	List<RentalResult> extendRentals(List<Long> rentalIds);
+
+	/** 전체 연체 대여 조회 */
+	List<Rental> getOverdueRentals();
+
+	/** 연체 도서가 있는 회원 조회 */
+	List<Member> getMembersWithOverdue();
 }
@@ -1,19 +1,53 @@
 package io.github.bookrentalteam.bookrental.service.impl;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import io.github.bookrentalteam.bookrental.common.exception.ValidationException;
 import io.github.bookrentalteam.bookrental.domain.Book;
+import io.github.bookrentalteam.bookrental.event.DomainEvent;
+import io.github.bookrentalteam.bookrental.event.DomainEvent.BookRegistered;
+import io.github.bookrentalteam.bookrental.event.DomainEvent.BookRented;
+import io.github.bookrentalteam.bookrental.event.EventBus;
+import io.github.bookrentalteam.bookrental.event.EventBus.Delivery;
 import io.github.bookrentalteam.bookrental.repository.BookRepository;
+import io.github.bookrentalteam.bookrental.search.AutocompleteIndex;
+import io.github.bookrentalteam.bookrental.search.BookSearchIndex;
+import io.github.bookrentalteam.bookrental.search.Completion;
+import io.github.bookrentalteam.bookrental.search.FuzzyIndex;
 import io.github.bookrentalteam.bookrental.service.BookService;
 
 public class BookServiceImpl implements BookService {
 
+	private static final int PARALLEL_INDEX_THRESHOLD = 256; // 일괄 등록 시 병렬 색인 기준
+
 	private final BookRepository bookRepository;
+	private final BookSearchIndex searchIndex = new BookSearchIndex(); // 검색 색인 (등록 시 갱신)
+	private final AutocompleteIndex autocompleteIndex = new AutocompleteIndex(); // 자동완성 (등록/대여 시 갱신)
+	private final FuzzyIndex fuzzyIndex = new FuzzyIndex(); // 오타 허용 검색 (등록 시 갱신)
+	private final EventBus events;
+	private boolean started;
 
-	public BookServiceImpl(BookRepository bookRepository) {
+	/** events: 등록 이벤트를 발행하고 start()로 대여 이벤트를 구독할 공유 버스 */
+	public BookServiceImpl(BookRepository bookRepository, EventBus events) {
 		this.bookRepository = bookRepository;
+		this.events = events;
+		// 기존 도서 색인 - 한 번의 순회로 세 색인을 채우고 도서 객체는 모아 두지 않음 (자동완성은 키만 모아 정렬 후 한 번에 병합)
+		autocompleteIndex.addAll(bookRepository.stream().peek(b -> {
+			searchIndex.add(b);
+			fuzzyIndex.add(b);
+		}));
+	}
+
+	/** 대여 이벤트 구독 시작 - 대여 횟수를 자동완성 인기도에 반영 (조립 시 한 번) */
+	public synchronized BookServiceImpl start() {
+		if (started) {
+			throw new IllegalStateException("이미 시작된 도서 서비스입니다.");
+		}
+		started = true;
+		events.subscribe("autocomplete-popularity", Delivery.RELIABLE, this::onEvent);
+		return this;
 	}
 
 	// 책 등록 //
@@ -38,24 +72,106 @@ public class BookServiceImpl implements BookService {
 
 		Book book = new Book(isbn, title, author, totalCopies);
 		bookRepository.save(book);
+		searchIndex.add(book);
+		autocompleteIndex.add(book);
+		fuzzyIndex.add(book);
+		events.publish(new BookRegistered(book.getId(), book.getIsbn(), book.getTitle(), book.getTotalCopies()));
 		return book;
 	}
 
+	@Override
+	public List<Book> registerBooks(List<Book> books) {
+		for (Book book : books) { // registerBook과 같은 규칙 - 하나라도 어기면 아무것도 등록하지 않음
+			if (book.getTotalCopies() <= 0) {
+				throw new ValidationException("총 권수는 1권 이상이어야 합니다: " + book.getIsbn());
+			}
+		}
+		List<Book> accepted = new ArrayList<>(books.size());
+		for (Book book : books) {
+			if (bookRepository.findByIsbn(book.getIsbn()).isEmpty()) {
+				accepted.add(book);
+			}
+		}
+		try {
+			bookRepository.saveAll(accepted);
+		} catch (IllegalStateException e) {
+			// 동시에 등록된 ISBN과 충돌 → 남은 도서는 한 권씩 저장
+			List<Book> saved = new ArrayList<>(accepted.size());
+			for (Book book : accepted) {
+				if (bookRepository.findById(book.getId()).isPresent()) {
+					saved.add(book);
+					continue;
+				}
+				try {
+					bookRepository.save(book);
+					saved.add(book);
+				} catch (IllegalStateException conflict) {
+					// 이미 등록된 ISBN - 건너뜀
+				}
+			}
+			accepted = saved;
+		}
+		// 색인은 동시 추가를 지원하므로 큰 배치는 나눠서 색인
+		(accepted.size() >= PARALLEL_INDEX_THRESHOLD ? accepted.parallelStream() : accepted.stream())
+				.forEach(searchIndex::add);
+		autocompleteIndex.addAll(accepted);
+		fuzzyIndex.addAll(accepted);
+		accepted.forEach(b -> events
+				.publish(new BookRegistered(b.getId(), b.getIsbn(), b.getTitle(), b.getTotalCopies())));
+		return accepted;
+	}
+
 	@Override
 	public List<Book> listBooks() {
 		return bookRepository.findAll();
 	}
 
+	@Override
+	public List<Book> listBooks(long afterId, int limit) {
+		if (limit <= 0) {
+			throw new ValidationException("페이지 크기는 1 이상이어야 합니다.");
+		}
+		return bookRepository.findPage(afterId, limit);
+	}
+
+	@Override
+	public Stream<Book> streamBooks() {
+		return bookRepository.stream();
+	}
+
 	@Override
 	public List<Book> searchBooks(String keyword) {
 		if (keyword == null || keyword.isBlank()) {
 			return listBooks(); // 검색어 없으면 전체 목록 반환
 		}
-		return bookRepository.findAll().stream()
-				.filter(book -> book.getTitle().toLowerCase().contains(keyword.toLowerCase())
-						|| book.getAuthor().toLowerCase().contains(keyword.toLowerCase())
-						|| book.getIsbn().toLowerCase().contains(keyword.toLowerCase()))
-				.collect(Collectors.toList());
+		return load(searchIndex.search(keyword, Integer.MAX_VALUE));
+	}
+
+	@Override
+	public List<Book> searchBooks(String keyword, int limit) {
+		if (limit <= 0) {
+			throw new ValidationException("검색 건수는 1 이상이어야 합니다.");
+		}
+		if (keyword == null || keyword.isBlank()) {
+			return listBooks(0, limit);
+		}
+		return load(searchIndex.search(keyword, limit));
+	}
+
+	@Override
+	public List<Book> searchBooksFuzzy(String keyword, int limit) {
+		if (limit <= 0) {
+			throw new ValidationException("검색 건수는 1 이상이어야 합니다.");
+		}
+		return load(fuzzyIndex.search(keyword, limit));
+	}
+
+	@Override
+	public List<Completion> autocomplete(String prefix, int limit) {
+		if (limit <= 0 || limit > AutocompleteIndex.MAX_LIMIT) {
+			throw new ValidationException("자동완성 건수는 1~" + AutocompleteIndex.MAX_LIMIT + " 사이여야 합니다.");
+		}
+		return autocompleteIndex.complete(prefix, limit);
 	}
 
 	@Override
@@ -64,4 +180,19 @@ public class BookServiceImpl implements BookService {
 				.orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 책을 찾을 수 없습니다: " + id));
 	}
 
+	// 색인은 ID만 돌려주므로 저장소에서 현재 도서(재고 포함)를 읽음 - 그사이 삭제된 도서는 제외
+	private List<Book> load(List<Long> ids) {
+		List<Book> books = new ArrayList<>(ids.size());
+		for (Long id : ids) {
+			bookRepository.findById(id).ifPresent(books::add);
+		}
+		return books;
+	}
+
+	private void onEvent(DomainEvent event, boolean endOfBatch) {
+		if (event instanceof BookRented e) {
+			bookRepository.findById(e.bookId()).ifPresent(autocompleteIndex::recordRental);
+		}
+	}
+
 }
@@ -5,15 +5,22 @@ import io.github.bookrentalteam.bookrental.domain.Member;
 import io.github.bookrentalteam.bookrental.domain.Role;
 import io.github.bookrentalteam.bookrental.repository.MemberRepository;
 import io.github.bookrentalteam.bookrental.service.MemberService;
+import io.github.bookrentalteam.bookrental.session.Session;
+import io.github.bookrentalteam.bookrental.session.SessionStore;
 
 public class MemberServiceImpl implements MemberService {
 
 	private final MemberRepository memberRepository; // 주입받는 저장소
-	private Member currentUser = null; // 로그인 상태 저장
+	private final SessionStore sessionStore; // 로그인 상태 저장 (토큰 → 회원)
 
 	// 생성자에서 Repository 주입
 	public MemberServiceImpl(MemberRepository memberRepository) {
+		this(memberRepository, new SessionStore());
+	}
+
+	public MemberServiceImpl(MemberRepository memberRepository, SessionStore sessionStore) {
 		this.memberRepository = memberRepository;
+		this.sessionStore = sessionStore;
 	}
 
 	@Override
@@ -27,27 +34,40 @@ public class MemberServiceImpl implements MemberService {
 		String hashed = Passwords.hash(pw);
 		Member m = new Member(name, email, hashed, role);
 
-		// 저장
+		// 저장 (동시 가입 시 이메일 중복은 저장소에서 한 번 더 차단)
 		memberRepository.save(m);
 		return m;
 	}
 
 	@Override
-	public Member login(String email, String pw) {
+	public Session login(String email, String pw) {
+		Member m = authenticate(email, pw);
+		return sessionStore.create(m.getId());
+	}
+
+	@Override
+	public Member authenticate(String email, String pw) {
 		Member m = memberRepository.findByEmail(email).filter(mem -> mem.authenticate(pw))
 				.orElseThrow(() -> new IllegalArgumentException("이메일 또는 비밀번호가 올바르지 않습니다."));
 
-		currentUser = m;
+		// 예전 방식/낮은 비용의 해시는 로그인 성공 시 현재 설정으로 교체
+		if (m.upgradePasswordHash(pw)) {
+			memberRepository.save(m);
+		}
 		return m;
 	}
 
 	@Override
-	public Member getCurrentUser() {
-		return currentUser;
+	public Member getCurrentUser(String token) {
+		Session session = sessionStore.validate(token);
+		if (session == null) {
+			return null;
+		}
+		return memberRepository.findById(session.getMemberId()).orElse(null);
 	}
 
 	@Override
-	public void logout() {
-		currentUser = null;
+	public void logout(String token) {
+		sessionStore.invalidate(token);
 	}
 }
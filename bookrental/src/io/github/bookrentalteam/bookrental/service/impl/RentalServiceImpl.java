@@ -1,64 +1,167 @@
 package io.github.bookrentalteam.bookrental.service.impl;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 
+import io.github.bookrentalteam.bookrental.common.concurrent.StripedLocks;
+import io.github.bookrentalteam.bookrental.common.exception.BusinessException;
+import io.github.bookrentalteam.bookrental.common.time.BusinessClock;
 import io.github.bookrentalteam.bookrental.domain.Book;
 import io.github.bookrentalteam.bookrental.domain.Member;
 import io.github.bookrentalteam.bookrental.domain.Rental;
 import io.github.bookrentalteam.bookrental.domain.RentalStatus;
 import io.github.bookrentalteam.bookrental.domain.Role;
+import io.github.bookrentalteam.bookrental.event.DomainEvent;
+import io.github.bookrentalteam.bookrental.event.DomainEvent.BookRented;
+import io.github.bookrentalteam.bookrental.event.DomainEvent.BookReturned;
+import io.github.bookrentalteam.bookrental.event.DomainEvent.MemberSuspended;
+import io.github.bookrentalteam.bookrental.event.DomainEvent.RentalExtended;
+import io.github.bookrentalteam.bookrental.event.EventBus;
 import io.github.bookrentalteam.bookrental.repository.MemberRepository;
 import io.github.bookrentalteam.bookrental.repository.RentalRepository;
 import io.github.bookrentalteam.bookrental.service.BookService;
+import io.github.bookrentalteam.bookrental.service.RentalResult;
 import io.github.bookrentalteam.bookrental.service.RentalService;
 
 public class RentalServiceImpl implements RentalService {
 
+	private static final int MAX_RENTALS_PER_USER = 7;
+	private static final String LIMIT_MESSAGE = "일반 회원은 동시에 최대 " + MAX_RENTALS_PER_USER + "권까지 대여할 수 있습니다.";
+
 	private final RentalRepository rentalRepository;
 	private final MemberRepository memberRepository;
 	private final BookService bookService;
+	// 회원 단위 직렬화: 한도/연체 검사와 대여 기록 저장 사이에 다른 요청이 끼어들지 못하게 함
+	// (도서 재고는 Book 내부 CAS로 보호)
+	private final StripedLocks memberLocks = new StripedLocks(64);
+	private final EventBus events; // 로그/알림 등 부수 효과는 구독자가 요청 스레드 밖에서 처리
 
 	public RentalServiceImpl(RentalRepository rentalRepository, MemberRepository memberRepository,
-			BookService bookService) {
+			BookService bookService, EventBus events) {
 		this.rentalRepository = rentalRepository;
 		this.memberRepository = memberRepository;
 		this.bookService = bookService;
+		this.events = events;
 	}
 
 	@Override
 	public Rental rentBook(long bookId, Member member) {
-		// 제재 여부 확인
-		if (member.isSuspended()) {
-			throw new IllegalStateException("현재 대여 정지 상태입니다. 해제일: " + member.getSuspendUntil());
-		}
+		ReentrantLock lock = memberLocks.get(member.getId());
+		List<DomainEvent> outbox = new ArrayList<>();
+		lock.lock();
+		try {
+			checkCanRent(member);
 
-		// 연체 도서 여부 확인
-		boolean hasOverdue = rentalRepository.findByMemberId(member.getId()).stream().anyMatch(Rental::isOverdue);
-		if (hasOverdue) {
-			throw new IllegalStateException("연체된 도서가 있어 대여할 수 없습니다.");
-		}
+			// 일반 회원은 대여 권수 제한 (최대 7권)
+			if (remainingQuota(member) <= 0) {
+				throw new IllegalStateException(LIMIT_MESSAGE);
+			}
 
-		// 일반 회원은 대여 권수 제한 (최대 7권)
-		if (member.getRole() == Role.USER) {
-			long rentedCount = rentalRepository.findByMemberId(member.getId()).stream()
-					.filter(r -> r.getStatus() == RentalStatus.RENTED) // 아직 반납 안 한 도서만 카운트
-					.count();
-			if (rentedCount >= 7) {
-				throw new IllegalStateException("일반 회원은 동시에 최대 7권까지 대여할 수 있습니다.");
+			// 도서 조회 및 재고 확인
+			Book book = bookService.getBook(bookId);
+			if (!book.rent()) {
+				throw new IllegalStateException("대여 가능한 재고가 없습니다.");
 			}
-		}
 
-		// 도서 조회 및 재고 확인
-		Book book = bookService.getBook(bookId);
-		if (!book.rent()) {
-			throw new IllegalStateException("대여 가능한 재고가 없습니다.");
+			// 대여 생성 (저장 실패 시 차감한 재고 복원)
+			try {
+				Rental rental = new Rental(bookId, member.getId());
+				rentalRepository.save(rental);
+				outbox.add(rented(rental));
+				return rental;
+			} catch (RuntimeException e) {
+				book.returnBook();
+				throw e;
+			}
+		} finally {
+			long seq = claim(outbox);
+			lock.unlock();
+			publish(seq, outbox);
 		}
+	}
+
+	@Override
+	public List<RentalResult> rentBooks(List<Long> bookIds, Member member, boolean allOrNothing) {
+		ReentrantLock lock = memberLocks.get(member.getId());
+		List<DomainEvent> outbox = new ArrayList<>();
+		lock.lock();
+		try {
+			checkCanRent(member); // 제재/연체/한도는 배치당 한 번만 검사
+			int remaining = remainingQuota(member);
 
-		// 대여 생성
-		Rental rental = new Rental(bookId, member.getId());
-		rentalRepository.save(rental);
-		return rental;
+			RentalResult[] results = new RentalResult[bookIds.size()];
+			List<Book> reserved = new ArrayList<>(bookIds.size());
+			List<Rental> rentals = new ArrayList<>(bookIds.size());
+			List<Integer> positions = new ArrayList<>(bookIds.size()); // rentals[j]의 요청 위치
+			for (int i = 0; i < bookIds.size(); i++) {
+				long bookId = bookIds.get(i);
+				String error = null;
+				Book book = null;
+				if (rentals.size() >= remaining) {
+					error = LIMIT_MESSAGE;
+				} else {
+					try {
+						book = bookService.getBook(bookId);
+						if (!book.rent()) {
+							error = "대여 가능한 재고가 없습니다.";
+						}
+					} catch (RuntimeException e) {
+						error = e.getMessage();
+					}
+				}
+
+				if (error != null) {
+					if (allOrNothing) {
+						reserved.forEach(Book::returnBook); // 앞서 차감한 재고 복원
+						throw new IllegalStateException("도서 ID=" + bookId + ": " + error);
+					}
+					results[i] = RentalResult.failure(bookId, error);
+					continue;
+				}
+				Rental rental = new Rental(bookId, member.getId());
+				reserved.add(book);
+				rentals.add(rental);
+				positions.add(i);
+				results[i] = RentalResult.success(bookId, rental);
+			}
+
+			// 대여 기록 일괄 저장 - 일부만 저장되면 전부/아니면 전무는 저장된 대여까지 취소, 부분 허용은 항목별 실패로 보고
+			try {
+				rentalRepository.saveAll(rentals);
+			} catch (RuntimeException e) {
+				boolean[] kept = new boolean[rentals.size()];
+				for (int j = 0; j < rentals.size(); j++) {
+					Rental r = rentals.get(j);
+					kept[j] = rentalRepository.findById(r.getId()).isPresent();
+					if (kept[j] && allOrNothing) {
+						kept[j] = !cancel(r);
+					}
+					if (kept[j]) {
+						outbox.add(rented(r)); // 남은 대여는 재고를 차감한 채 그대로 발행
+					} else {
+						reserved.get(j).returnBook();
+						results[positions.get(j)] = RentalResult.failure(r.getBookId(), e.getMessage());
+					}
+				}
+				if (allOrNothing) {
+					throw e;
+				}
+				return Arrays.asList(results);
+			}
+			rentals.forEach(r -> outbox.add(rented(r)));
+			return Arrays.asList(results);
+		} finally {
+			long seq = claim(outbox);
+			lock.unlock();
+			publish(seq, outbox);
+		}
 	}
 
 	@Override
@@ -66,25 +169,124 @@ public class RentalServiceImpl implements RentalService {
 		Rental rental = rentalRepository.findById(rentalId)
 				.orElseThrow(() -> new IllegalArgumentException("해당 대여 기록을 찾을 수 없습니다."));
 
-		// 반납 전에 연체 여부 확인 → 연체 일수만큼 정지
-		if (rental.isOverdue()) {
-			long overdueDays = rental.overdueDays();
-			memberRepository.findById(rental.getMemberId()).ifPresent(m -> {
-				m.suspend((int) overdueDays);
-				System.out.printf("[제재] 회원 %s 연체 %d일 → %d일 대여 정지 (해제일: %s)%n", m.getName(), overdueDays, overdueDays,
-						m.getSuspendUntil());
-			});
+		ReentrantLock lock = memberLocks.get(rental.getMemberId());
+		List<DomainEvent> outbox = new ArrayList<>();
+		lock.lock();
+		try {
+			Rental current = getRental(rentalId); // 잠금 전에 다른 요청이 반납했을 수 있으므로 다시 조회
+			long overdueDays = current.overdueDays(); // 반납 전에 연체 일수 계산
+			Book book = bookService.getBook(current.getBookId());
+
+			// 반납 기록을 먼저 저장 - 실패하면 재고/정지는 그대로
+			Rental returned = current.returnedCopy(BusinessClock.current().today());
+			rentalRepository.save(returned);
+			book.returnBook(); // 도서 재고 복원
+
+			// 연체 일수만큼 정지
+			if (overdueDays > 0) {
+				memberRepository.findById(returned.getMemberId()).ifPresent(m -> {
+					m.suspend((int) overdueDays);
+					memberRepository.save(m); // 정지 상태 갱신
+					outbox.add(suspended(m, overdueDays));
+				});
+			}
+			outbox.add(new BookReturned(returned.getId(), returned.getBookId(), returned.getMemberId(),
+					returned.getReturnedAt(), overdueDays));
+			return returned;
+		} finally {
+			long seq = claim(outbox);
+			lock.unlock();
+			publish(seq, outbox);
 		}
+	}
+
+	@Override
+	public Rental getRental(long rentalId) {
+		return rentalRepository.findById(rentalId)
+				.orElseThrow(() -> new IllegalArgumentException("해당 대여 기록을 찾을 수 없습니다."));
+	}
+
+	@Override
+	public List<RentalResult> returnBooks(List<Long> rentalIds) {
+		RentalResult[] results = new RentalResult[rentalIds.size()];
+		Map<Long, List<Integer>> byMember = groupByMember(rentalIds, results);
 
-		// 반납 처리
-		rental.markReturned(LocalDate.now());
+		LocalDate today = BusinessClock.current().today();
+		for (Map.Entry<Long, List<Integer>> group : byMember.entrySet()) {
+			ReentrantLock lock = memberLocks.get(group.getKey());
+			List<DomainEvent> outbox = new ArrayList<>();
+			lock.lock();
+			try {
+				List<Integer> positions = new ArrayList<>(group.getValue().size());
+				List<Rental> returned = new ArrayList<>(group.getValue().size());
+				List<Book> books = new ArrayList<>(group.getValue().size());
+				List<Long> overdue = new ArrayList<>(group.getValue().size());
+				Set<Long> seen = new HashSet<>();
+				for (int i : group.getValue()) {
+					long rentalId = results[i].targetId();
+					try {
+						if (!seen.add(rentalId)) {
+							throw new BusinessException("이미 반납된 대여입니다.");
+						}
+						Rental rental = getRental(rentalId); // 잠금 전에 다른 요청이 반납했을 수 있으므로 다시 조회
+						Book book = bookService.getBook(rental.getBookId());
+						long overdueDays = rental.overdueDays(); // 반납 전에 연체 일수 계산
+						returned.add(rental.returnedCopy(today));
+						positions.add(i);
+						books.add(book);
+						overdue.add(overdueDays);
+					} catch (RuntimeException e) {
+						results[i] = RentalResult.failure(rentalId, e.getMessage());
+					}
+				}
 
-		// 도서 재고 복원
-		Book book = bookService.getBook(rental.getBookId());
-		book.returnBook();
+				// 반납 기록을 먼저 저장 - 저장되지 않은 대여는 재고/정지/이벤트 없이 실패로 보고
+				boolean[] saved = new boolean[returned.size()];
+				try {
+					rentalRepository.saveAll(returned);
+					Arrays.fill(saved, true);
+				} catch (RuntimeException e) {
+					for (int j = 0; j < returned.size(); j++) {
+						Rental r = returned.get(j);
+						saved[j] = rentalRepository.findById(r.getId()).map(Rental::getStatus)
+								.orElse(null) == RentalStatus.RETURNED;
+						if (!saved[j]) {
+							results[positions.get(j)] = RentalResult.failure(r.getId(), e.getMessage());
+						}
+					}
+				}
 
-		rentalRepository.save(rental); // 상태 갱신
-		return rental;
+				Member member = memberRepository.findById(group.getKey()).orElse(null);
+				long suspendedDays = 0;
+				for (int j = 0; j < returned.size(); j++) {
+					if (!saved[j]) {
+						continue;
+					}
+					results[positions.get(j)] = RentalResult.success(returned.get(j).getId(), returned.get(j));
+					books.get(j).returnBook();
+					if (overdue.get(j) > 0 && member != null) {
+						member.suspend(overdue.get(j).intValue());
+						suspendedDays += overdue.get(j);
+					}
+				}
+				if (suspendedDays > 0) {
+					memberRepository.save(member); // 정지 상태는 회원당 한 번 저장
+					outbox.add(suspended(member, suspendedDays));
+				}
+				for (int j = 0; j < returned.size(); j++) {
+					if (saved[j]) {
+						Rental r = returned.get(j);
+						outbox.add(new BookReturned(r.getId(), r.getBookId(), r.getMemberId(), r.getReturnedAt(),
+								overdue.get(j)));
+					}
+				}
+			} finally {
+				long seq = claim(outbox);
+				lock.unlock();
+				publish(seq, outbox);
+			}
+		}
+		return Arrays.asList(results);
 	}
 
 	@Override
@@ -94,37 +296,204 @@ public class RentalServiceImpl implements RentalService {
 
 	@Override
 	public void checkOverdueAndApplySuspension(Member member) {
-		List<Rental> rentals = getRentalsByMember(member);
-		for (Rental r : rentals) {
-			if (r.isOverdue()) {
+		ReentrantLock lock = memberLocks.get(member.getId());
+		List<DomainEvent> outbox = new ArrayList<>();
+		lock.lock();
+		try {
+			List<Rental> rentals = rentalRepository.findOverdueByMemberId(member.getId());
+			for (Rental r : rentals) {
 				long days = r.overdueDays();
 				member.suspend((int) days); // ✅ 연체 일수만큼 정지
-				System.out.printf("[경고] 회원 %s 연체 %d일 → %d일 대여 정지%n", member.getName(), days, days);
-
+				outbox.add(suspended(member, days));
 			}
+			if (!rentals.isEmpty()) {
+				memberRepository.save(member); // 정지 상태 갱신
+			}
+		} finally {
+			long seq = claim(outbox);
+			lock.unlock();
+			publish(seq, outbox);
 		}
 	}
 
 	@Override
 	public Rental extendRental(long rentalId) {
+		// 잠글 회원을 고르기 위한 조회 - 상태는 잠금 안에서 다시 읽음
 		Rental rental = rentalRepository.findById(rentalId)
 				.orElseThrow(() -> new IllegalArgumentException("해당 대여 기록을 찾을 수 없습니다"));
 
-		// 연체된 도서가 하나라도 있으면 연장 불가
-		List<Rental> rentals = rentalRepository.findByMemberId(rental.getMemberId());
-		boolean hasOverdue = rentals.stream().anyMatch(Rental::isOverdue);
-		if (hasOverdue) {
-			throw new IllegalStateException("연체된 도서가 있어 연장할 수 없습니다.");
+		ReentrantLock lock = memberLocks.get(rental.getMemberId());
+		List<DomainEvent> outbox = new ArrayList<>();
+		lock.lock();
+		try {
+			Rental current = getRental(rentalId); // 잠금 전에 다른 요청이 반납/연장했을 수 있으므로 다시 조회
+
+			// 연체된 도서가 하나라도 있으면 연장 불가
+			if (rentalRepository.hasOverdueByMemberId(current.getMemberId())) {
+				throw new IllegalStateException("연체된 도서가 있어 연장할 수 없습니다.");
+			}
+
+			// 제재 여부 확인
+			if (memberRepository.findById(current.getMemberId()).get().isSuspended()) {
+				throw new IllegalStateException("대여 정지 상태에서는 연장할 수 없습니다.");
+			}
+
+			Rental extended = current.extendedCopy(); // 반납된 대여는 여기서 거부
+			rentalRepository.save(extended); // 상태 갱신
+			outbox.add(new RentalExtended(extended.getId(), extended.getMemberId(), extended.getDueAt()));
+			return extended;
+		} finally {
+			long seq = claim(outbox);
+			lock.unlock();
+			publish(seq, outbox);
 		}
+	}
+
+	@Override
+	public List<RentalResult> extendRentals(List<Long> rentalIds) {
+		RentalResult[] results = new RentalResult[rentalIds.size()];
+		Map<Long, List<Integer>> byMember = groupByMember(rentalIds, results);
+
+		for (Map.Entry<Long, List<Integer>> group : byMember.entrySet()) {
+			ReentrantLock lock = memberLocks.get(group.getKey());
+			List<DomainEvent> outbox = new ArrayList<>();
+			lock.lock();
+			try {
+				// 회원 단위 검사는 한 번만
+				String memberError = null;
+				if (rentalRepository.hasOverdueByMemberId(group.getKey())) {
+					memberError = "연체된 도서가 있어 연장할 수 없습니다.";
+				} else if (memberRepository.findById(group.getKey()).map(Member::isSuspended).orElse(false)) {
+					memberError = "대여 정지 상태에서는 연장할 수 없습니다.";
+				}
+
+				List<Integer> positions = new ArrayList<>(group.getValue().size());
+				List<Rental> extended = new ArrayList<>(group.getValue().size());
+				Set<Long> seen = new HashSet<>();
+				for (int i : group.getValue()) {
+					long rentalId = results[i].targetId();
+					if (memberError != null) {
+						results[i] = RentalResult.failure(rentalId, memberError);
+						continue;
+					}
+					try {
+						if (!seen.add(rentalId)) {
+							throw new BusinessException("연장은 1회만 가능합니다.");
+						}
+						Rental current = getRental(rentalId); // 잠금 전에 다른 요청이 반납/연장했을 수 있으므로 다시 조회
+						extended.add(current.extendedCopy());
+						positions.add(i);
+					} catch (RuntimeException e) {
+						results[i] = RentalResult.failure(rentalId, e.getMessage());
+					}
+				}
+				// 저장되지 않은 연장은 이벤트 없이 실패로 보고하고 다음 회원으로 진행
+				boolean[] saved = new boolean[extended.size()];
+				try {
+					rentalRepository.saveAll(extended);
+					Arrays.fill(saved, true);
+				} catch (RuntimeException e) {
+					for (int j = 0; j < extended.size(); j++) {
+						Rental r = extended.get(j);
+						saved[j] = rentalRepository.findById(r.getId()).map(Rental::getExtensionCount)
+								.orElse(-1) == r.getExtensionCount();
+						if (!saved[j]) {
+							results[positions.get(j)] = RentalResult.failure(r.getId(), e.getMessage());
+						}
+					}
+				}
+				for (int j = 0; j < extended.size(); j++) {
+					if (saved[j]) {
+						Rental r = extended.get(j);
+						results[positions.get(j)] = RentalResult.success(r.getId(), r);
+						outbox.add(new RentalExtended(r.getId(), r.getMemberId(), r.getDueAt()));
+					}
+				}
+			} finally {
+				long seq = claim(outbox);
+				lock.unlock();
+				publish(seq, outbox);
+			}
+		}
+		return Arrays.asList(results);
+	}
+
+	@Override
+	public List<Rental> getOverdueRentals() {
+		return rentalRepository.findOverdue();
+	}
+
+	@Override
+	public List<Member> getMembersWithOverdue() {
+		List<Member> members = new ArrayList<>();
+		for (Long memberId : rentalRepository.findMemberIdsWithOverdue()) {
+			memberRepository.findById(memberId).ifPresent(members::add);
+		}
+		return members;
+	}
+
+	// 잠금을 풀기 전에 순번만 받음 - 같은 회원(같은 대여)의 이벤트가 커밋 순서대로 구독자에게 전달됨
+	private long claim(List<DomainEvent> outbox) {
+		return events.claim(outbox.size());
+	}
+
+	// 받은 순번에 잠금을 푼 뒤 기록 - 버스가 밀려도 같은 회원 줄의 다른 요청을 막지 않음
+	private void publish(long seq, List<DomainEvent> outbox) {
+		for (DomainEvent event : outbox) {
+			events.publish(seq++, event);
+		}
+	}
+
+	// 저장된 대여 취소 (전부/아니면 전무 배치의 일부 저장 실패) - 삭제하지 못하면 false
+	private boolean cancel(Rental rental) {
+		try {
+			rentalRepository.delete(rental.getId());
+			return true;
+		} catch (RuntimeException e) {
+			return false;
+		}
+	}
+
+	private static BookRented rented(Rental rental) {
+		return new BookRented(rental.getId(), rental.getBookId(), rental.getMemberId(), rental.getDueAt());
+	}
+
+	// 정지 종료일은 정지한 시점(잠금 안)의 값으로 기록
+	private static MemberSuspended suspended(Member member, long days) {
+		return new MemberSuspended(member.getId(), member.getName(), days, member.getSuspendUntil());
+	}
 
-		// 제재 여부 확인
-		if (memberRepository.findById(rental.getMemberId()).get().isSuspended()) {
-			throw new IllegalStateException("대여 정지 상태에서는 연장할 수 없습니다.");
+	// 제재/연체 여부 확인
+	private void checkCanRent(Member member) {
+		if (member.isSuspended()) {
+			throw new IllegalStateException("현재 대여 정지 상태입니다. 해제일: " + member.getSuspendUntil());
 		}
+		if (rentalRepository.hasOverdueByMemberId(member.getId())) { // 연체 색인 조회
+			throw new IllegalStateException("연체된 도서가 있어 대여할 수 없습니다.");
+		}
+	}
 
-		rental.extend(); // Rental의 연장 로직 실행
-		rentalRepository.save(rental); // 상태 갱신
-		return rental;
+	// 추가로 대여할 수 있는 권수 (관리자는 제한 없음)
+	private int remainingQuota(Member member) {
+		if (member.getRole() != Role.USER) {
+			return Integer.MAX_VALUE;
+		}
+		return MAX_RENTALS_PER_USER - rentalRepository.countOpenByMemberId(member.getId()); // 아직 반납 안 한 도서만 카운트
 	}
 
+	// 대여 ID를 조회해 회원별 요청 위치로 묶음 (없는 ID는 바로 실패 처리, 찾은 대여는 results에 임시 보관 - 잠금 안에서 다시 조회할 것)
+	private Map<Long, List<Integer>> groupByMember(List<Long> rentalIds, RentalResult[] results) {
+		Map<Long, List<Integer>> byMember = new LinkedHashMap<>();
+		for (int i = 0; i < rentalIds.size(); i++) {
+			long rentalId = rentalIds.get(i);
+			Rental rental = rentalRepository.findById(rentalId).orElse(null);
+			if (rental == null) {
+				results[i] = RentalResult.failure(rentalId, "해당 대여 기록을 찾을 수 없습니다.");
+				continue;
+			}
+			results[i] = RentalResult.success(rentalId, rental);
+			byMember.computeIfAbsent(rental.getMemberId(), k -> new ArrayList<>()).add(i);
+		}
+		return byMember;
+	}
 }
@@ -0,0 +1,95 @@
+package io.github.bookrentalteam.bookrental.session;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 세션 만료용 해시 타이머 휠
+ * <p>
+ * 세션은 만료 시각이 속한 칸에 한 번만 등록된다. 요청마다 만료 시각이 연장돼도 휠은 건드리지 않고, 칸이 돌아왔을 때 아직 살아 있는 세션만
+ * 새 만료 시각의 칸으로 다시 옮긴다. 따라서 요청 처리와 만료 처리 모두 세션당 O(1)이다.
+ */
+final class ExpiryWheel {
+
+	private final AtomicReferenceArray<Queue<Session>> slots;
+	private final int mask;
+	private final long tickNanos;
+	private final ReentrantLock advanceLock = new ReentrantLock();
+	private volatile long currentTick;
+
+	ExpiryWheel(int slotCount, long tickNanos, long now) {
+		int size = Integer.highestOneBit(Math.max(2, slotCount - 1)) << 1;
+		this.slots = new AtomicReferenceArray<>(size);
+		for (int i = 0; i < size; i++) {
+			slots.set(i, new ConcurrentLinkedQueue<>());
+		}
+		this.mask = size - 1;
+		this.tickNanos = tickNanos;
+		this.currentTick = now / tickNanos;
+	}
+
+	long tickNanos() {
+		return tickNanos;
+	}
+
+	/** 만료 시각이 속한 칸에 등록 (이미 지난 칸이면 다음 칸) */
+	void schedule(Session session) {
+		while (true) {
+			long tick = Math.max(session.getExpiresAt() / tickNanos, currentTick + 1);
+			int index = (int) (tick & mask);
+			Queue<Session> slot = slots.get(index);
+			slot.add(session);
+			// 넣는 사이 advance가 칸을 떼어 갔으면 다 비운 뒤에 들어갔을 수 있음 - 아직 꺼내지 않았으면 되찾아 다시 등록 (꺼냈으면 advance가 처리)
+			if (slots.get(index) == slot || !slot.remove(session)) {
+				return;
+			}
+		}
+	}
+
+	/** 다음 칸으로 넘어갈 때가 됐는지 */
+	boolean isDue(long now) {
+		return now / tickNanos > currentTick;
+	}
+
+	/**
+	 * now까지 지난 칸을 처리한다. 다른 스레드가 처리 중이면 바로 반환한다.
+	 *
+	 * @return 만료 처리한 세션 수
+	 */
+	int advance(long now, Consumer<Session> onExpire) {
+		if (!advanceLock.tryLock()) {
+			return 0;
+		}
+		try {
+			long target = now / tickNanos;
+			long from = currentTick + 1;
+			// 한 바퀴 넘게 밀렸으면 모든 칸을 한 번씩만 처리
+			if (target - from >= slots.length()) {
+				from = target - slots.length() + 1;
+			}
+			int expired = 0;
+			for (long tick = from; tick <= target; tick++) {
+				Queue<Session> due = slots.getAndSet((int) (tick & mask), new ConcurrentLinkedQueue<>());
+				currentTick = tick;
+				for (Session s; (s = due.poll()) != null;) {
+					if (s.isInvalidated()) {
+						continue; // 이미 로그아웃/축출됨
+					}
+					if (s.isExpired(now)) {
+						onExpire.accept(s);
+						expired++;
+					} else {
+						schedule(s); // 그 사이 연장됨 → 새 칸으로
+					}
+				}
+			}
+			currentTick = Math.max(currentTick, target);
+			return expired;
+		} finally {
+			advanceLock.unlock();
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package io.github.bookrentalteam.bookrental.session;
+
+/**
+ * 로그인 세션 - 불투명 토큰과 회원 ID
+ * <p>
+ * 만료 시각은 요청마다 연장(sliding)되며 SessionStore의 시계(나노초) 기준이다.
+ */
+public final class Session {
+	private final String token;
+	private final long memberId;
+	private final long createdAt;
+	private volatile long expiresAt;
+	private volatile boolean invalidated;
+
+	Session(String token, long memberId, long createdAt, long expiresAt) {
+		this.token = token;
+		this.memberId = memberId;
+		this.createdAt = createdAt;
+		this.expiresAt = expiresAt;
+	}
+
+	public String getToken() {
+		return token;
+	}
+
+	public long getMemberId() {
+		return memberId;
+	}
+
+	long getCreatedAt() {
+		return createdAt;
+	}
+
+	long getExpiresAt() {
+		return expiresAt;
+	}
+
+	boolean isExpired(long now) {
+		return invalidated || expiresAt - now <= 0;
+	}
+
+	boolean isInvalidated() {
+		return invalidated;
+	}
+
+	void extendTo(long expiresAt) {
+		this.expiresAt = expiresAt;
+	}
+
+	void invalidate() {
+		this.invalidated = true;
+	}
+}
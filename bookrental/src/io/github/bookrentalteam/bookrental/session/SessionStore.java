@@ -0,0 +1,171 @@
+package io.github.bookrentalteam.bookrental.session;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 동시 로그인 세션 저장소
+ * <p>
+ * 토큰 → 세션은 ConcurrentHashMap 한 번 조회로 검증한다. 만료는 요청마다 연장되며(sliding), 만료된 세션 정리는 ExpiryWheel이
+ * 시간 칸 단위로 처리한다. 회원당 세션 수가 상한을 넘으면 가장 오래된 세션부터 끊는다.
+ */
+public class SessionStore {
+
+	public static final Duration DEFAULT_TTL = Duration.ofMinutes(30);
+	public static final int DEFAULT_MAX_SESSIONS_PER_MEMBER = 5;
+
+	private static final int TOKEN_BYTES = 24; // Base64 32자
+	private static final int WHEEL_SLOTS = 2048;
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+	private final Map<Long, ArrayDeque<Session>> byMember = new ConcurrentHashMap<>(); // 오래된 순
+	private final ExpiryWheel wheel;
+	private final long ttlNanos;
+	private final int maxPerMember;
+	private final LongSupplier nanoClock;
+
+	public SessionStore() {
+		this(DEFAULT_TTL, DEFAULT_MAX_SESSIONS_PER_MEMBER);
+	}
+
+	public SessionStore(Duration ttl, int maxPerMember) {
+		this(ttl, maxPerMember, System::nanoTime);
+	}
+
+	SessionStore(Duration ttl, int maxPerMember, LongSupplier nanoClock) {
+		if (ttl.isNegative() || ttl.isZero()) {
+			throw new IllegalArgumentException("세션 유효 시간은 0보다 커야 합니다.");
+		}
+		if (maxPerMember <= 0) {
+			throw new IllegalArgumentException("회원당 세션 수는 1 이상이어야 합니다.");
+		}
+		this.ttlNanos = ttl.toNanos();
+		this.maxPerMember = maxPerMember;
+		this.nanoClock = nanoClock;
+		// 유효 시간이 휠 절반에 들어가도록 칸 크기 결정 (최소 1ms)
+		long tick = Math.max(ttlNanos / (WHEEL_SLOTS / 2), 1_000_000L);
+		this.wheel = new ExpiryWheel(WHEEL_SLOTS, tick, nanoClock.getAsLong());
+	}
+
+	/** 새 세션 발급 (상한 초과 시 그 회원의 가장 오래된 세션 종료) */
+	public Session create(long memberId) {
+		long now = nanoClock.getAsLong();
+		expireIfDue(now);
+
+		Session session = new Session(newToken(), memberId, now, now + ttlNanos);
+		sessions.put(session.getToken(), session);
+
+		List<Session> evicted = new ArrayList<>(1);
+		byMember.compute(memberId, (id, list) -> {
+			if (list == null) {
+				list = new ArrayDeque<>();
+			}
+			list.addLast(session);
+			while (list.size() > maxPerMember) {
+				evicted.add(list.pollFirst());
+			}
+			return list;
+		});
+		for (Session old : evicted) {
+			old.invalidate();
+			sessions.remove(old.getToken(), old);
+		}
+
+		wheel.schedule(session);
+		return session;
+	}
+
+	/**
+	 * 토큰 검증 후 만료 시각 연장
+	 *
+	 * @return 유효한 세션, 없거나 만료됐으면 null
+	 */
+	public Session validate(String token) {
+		if (token == null) {
+			return null;
+		}
+		long now = nanoClock.getAsLong();
+		expireIfDue(now);
+
+		Session session = sessions.get(token);
+		if (session == null) {
+			return null;
+		}
+		if (session.isExpired(now)) {
+			remove(session); // 휠이 아직 처리하지 않은 만료 세션
+			return null;
+		}
+		// 같은 칸 안에서 반복되는 요청은 쓰기를 생략 (캐시 라인 경합 감소)
+		long expiresAt = now + ttlNanos;
+		if (expiresAt - session.getExpiresAt() >= wheel.tickNanos()) {
+			session.extendTo(expiresAt);
+		}
+		return session;
+	}
+
+	/** 세션 종료 */
+	public void invalidate(String token) {
+		if (token == null) {
+			return;
+		}
+		Session session = sessions.get(token);
+		if (session != null) {
+			remove(session);
+		}
+	}
+
+	/** 회원의 모든 세션 종료 */
+	public void invalidateAll(long memberId) {
+		ArrayDeque<Session> list = byMember.remove(memberId);
+		if (list == null) {
+			return;
+		}
+		// remove()가 반환된 뒤에는 이 목록을 바꾸는 compute가 없음
+		for (Session s : list) {
+			s.invalidate();
+			sessions.remove(s.getToken(), s);
+		}
+	}
+
+	/** 살아 있는 세션 수 (만료됐지만 아직 정리 전인 세션 포함) */
+	public int size() {
+		return sessions.size();
+	}
+
+	/** 만료 시각이 지난 세션 정리 */
+	public int expire() {
+		return wheel.advance(nanoClock.getAsLong(), this::remove);
+	}
+
+	// 칸이 넘어갔을 때만 정리 (한 스레드만 수행, 나머지는 그대로 진행)
+	private void expireIfDue(long now) {
+		if (wheel.isDue(now)) {
+			wheel.advance(now, this::remove);
+		}
+	}
+
+	private void remove(Session session) {
+		session.invalidate();
+		if (!sessions.remove(session.getToken(), session)) {
+			return; // 이미 정리됨
+		}
+		byMember.computeIfPresent(session.getMemberId(), (id, list) -> {
+			list.remove(session);
+			return list.isEmpty() ? null : list;
+		});
+	}
+
+	private static String newToken() {
+		byte[] bytes = new byte[TOKEN_BYTES];
+		RANDOM.nextBytes(bytes);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+}
@@ -0,0 +1,26 @@
+package io.github.bookrentalteam.bookrental.snapshot;
+
+import io.github.bookrentalteam.bookrental.domain.Book;
+
+/**
+ * 읽기 뷰 시점의 도서 - 불변
+ *
+ * @param availableCopies 총 권수 - 뷰 시점의 반납 전 대여 수
+ */
+public record BookVersion(long id, String isbn, String title, String author, int totalCopies, int availableCopies) {
+
+	/** 도서 정보만 복사 (재고는 대여 기록으로부터 뷰에서 계산) */
+	static BookVersion of(Book book) {
+		return new BookVersion(book.getId(), book.getIsbn(), book.getTitle(), book.getAuthor(),
+				book.getTotalCopies(), book.getTotalCopies());
+	}
+
+	BookVersion withRented(int rented) {
+		return (rented == 0) ? this
+				: new BookVersion(id, isbn, title, author, totalCopies, Math.max(0, totalCopies - rented));
+	}
+
+	public int rentedCopies() {
+		return totalCopies - availableCopies;
+	}
+}
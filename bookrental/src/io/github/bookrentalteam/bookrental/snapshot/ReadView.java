@@ -0,0 +1,61 @@
+package io.github.bookrentalteam.bookrental.snapshot;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 한 시점에 고정된 도서/대여 읽기 뷰 - 열린 뒤의 대여/반납/등록은 보이지 않는다.
+ * <p>
+ * 스레드 안전하며 잠금 없이 읽는다. 닫은 뒤에는 사용할 수 없다.
+ */
+public final class ReadView implements AutoCloseable {
+	private final SnapshotStore store;
+	private final long version;
+	private volatile boolean closed;
+
+	ReadView(SnapshotStore store, long version) {
+		this.store = store;
+		this.version = version;
+	}
+
+	/** 뷰가 보는 커밋 버전 */
+	public long version() {
+		return version;
+	}
+
+	public Optional<BookVersion> book(long id) {
+		ensureOpen();
+		return Optional.ofNullable(store.book(id, version));
+	}
+
+	/** 도서 전체 - ID 순 */
+	public Stream<BookVersion> books() {
+		ensureOpen();
+		return store.books(version);
+	}
+
+	public Optional<RentalVersion> rental(long id) {
+		ensureOpen();
+		return Optional.ofNullable(store.rental(id, version));
+	}
+
+	/** 대여 기록 전체 - ID 순 */
+	public Stream<RentalVersion> rentals() {
+		ensureOpen();
+		return store.rentals(version);
+	}
+
+	@Override
+	public synchronized void close() {
+		if (!closed) {
+			closed = true;
+			store.release(version);
+		}
+	}
+
+	private void ensureOpen() {
+		if (closed) {
+			throw new IllegalStateException("이미 닫힌 읽기 뷰입니다.");
+		}
+	}
+}
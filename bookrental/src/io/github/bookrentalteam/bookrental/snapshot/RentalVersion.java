@@ -0,0 +1,26 @@
+package io.github.bookrentalteam.bookrental.snapshot;
+
+import java.time.LocalDate;
+
+import io.github.bookrentalteam.bookrental.domain.Rental;
+import io.github.bookrentalteam.bookrental.domain.RentalStatus;
+
+/** 읽기 뷰 시점의 대여 기록 - 불변 */
+public record RentalVersion(long id, long bookId, long memberId, LocalDate rentedAt, LocalDate dueAt,
+		LocalDate returnedAt, RentalStatus status, int extensionCount) {
+
+	static RentalVersion of(Rental rental) {
+		return new RentalVersion(rental.getId(), rental.getBookId(), rental.getMemberId(), rental.getRentedAt(),
+				rental.getDueAt(), rental.getReturnedAt(), rental.getStatus(), rental.getExtensionCount());
+	}
+
+	/** 반납 전 대여 */
+	public boolean isOpen() {
+		return status == RentalStatus.RENTED;
+	}
+
+	/** today 기준 연체 여부 (Rental.isOverdue와 같은 규칙) */
+	public boolean isOverdue(LocalDate today) {
+		return isOpen() && dueAt.isBefore(today);
+	}
+}
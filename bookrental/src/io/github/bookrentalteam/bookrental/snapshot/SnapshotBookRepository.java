@@ -0,0 +1,81 @@
+package io.github.bookrentalteam.bookrental.snapshot;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import io.github.bookrentalteam.bookrental.domain.Book;
+import io.github.bookrentalteam.bookrental.repository.BookRepository;
+import io.github.bookrentalteam.bookrental.snapshot.VersionedMap.Before;
+
+/** 도서 저장소 - 변경은 반영 전 값을 고정하고 감싼 저장소에 반영한 뒤 버전 기록, 조회는 감싼 저장소 */
+class SnapshotBookRepository implements BookRepository {
+	private final SnapshotStore store;
+	private final BookRepository delegate;
+
+	SnapshotBookRepository(SnapshotStore store, BookRepository delegate) {
+		this.store = store;
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void save(Book book) {
+		Map<Long, Before<BookVersion>> prepared = store.prepareBooks(List.of(book));
+		List<Book> saved = List.of();
+		try {
+			delegate.save(book);
+			saved = List.of(book);
+		} finally {
+			store.commitBooks(prepared, saved);
+		}
+	}
+
+	@Override
+	public void saveAll(List<Book> books) {
+		Map<Long, Before<BookVersion>> prepared = store.prepareBooks(books);
+		try {
+			delegate.saveAll(books);
+		} catch (RuntimeException e) {
+			// 충돌 전까지 저장된 도서만 기록
+			store.commitBooks(prepared, books.stream().filter(b -> delegate.findById(b.getId()).isPresent()).toList());
+			throw e;
+		}
+		store.commitBooks(prepared, books);
+	}
+
+	@Override
+	public Optional<Book> findById(Long id) {
+		return delegate.findById(id);
+	}
+
+	@Override
+	public List<Book> findAll() {
+		return delegate.findAll();
+	}
+
+	@Override
+	public List<Book> findPage(long afterId, int limit) {
+		return delegate.findPage(afterId, limit);
+	}
+
+	@Override
+	public Stream<Book> stream() {
+		return delegate.stream();
+	}
+
+	@Override
+	public void delete(Long id) {
+		Before<BookVersion> before = store.prepareBookDelete(id);
+		try {
+			delegate.delete(id);
+		} finally {
+			store.commitBookDelete(id, before);
+		}
+	}
+
+	@Override
+	public Optional<Book> findByIsbn(String isbn) {
+		return delegate.findByIsbn(isbn);
+	}
+}
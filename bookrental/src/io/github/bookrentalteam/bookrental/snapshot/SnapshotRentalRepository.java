@@ -0,0 +1,118 @@
+package io.github.bookrentalteam.bookrental.snapshot;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import io.github.bookrentalteam.bookrental.domain.Rental;
+import io.github.bookrentalteam.bookrental.repository.RentalRepository;
+import io.github.bookrentalteam.bookrental.snapshot.VersionedMap.Before;
+
+/** 대여 저장소 - 변경은 반영 전 값을 고정하고 감싼 저장소에 반영한 뒤 버전 기록, 조회는 감싼 저장소 */
+class SnapshotRentalRepository implements RentalRepository {
+	private final SnapshotStore store;
+	private final RentalRepository delegate;
+
+	SnapshotRentalRepository(SnapshotStore store, RentalRepository delegate) {
+		this.store = store;
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void save(Rental rental) {
+		Map<Long, Before<RentalVersion>> prepared = store.prepareRentals(List.of(rental));
+		List<Rental> saved = List.of();
+		try {
+			delegate.save(rental);
+			saved = List.of(rental);
+		} finally {
+			store.commitRentals(prepared, saved);
+		}
+	}
+
+	@Override
+	public void saveAll(List<Rental> rentals) {
+		Map<Long, Before<RentalVersion>> prepared = store.prepareRentals(rentals);
+		try {
+			delegate.saveAll(rentals);
+		} catch (RuntimeException e) {
+			store.commitRentals(prepared,
+					rentals.stream().filter(r -> delegate.findById(r.getId()).isPresent()).toList());
+			throw e;
+		}
+		store.commitRentals(prepared, rentals); // 배치 전체가 한 버전
+	}
+
+	@Override
+	public Optional<Rental> findById(Long id) {
+		return delegate.findById(id);
+	}
+
+	@Override
+	public List<Rental> findAll() {
+		return delegate.findAll();
+	}
+
+	@Override
+	public List<Rental> findPage(long afterId, int limit) {
+		return delegate.findPage(afterId, limit);
+	}
+
+	@Override
+	public Stream<Rental> stream() {
+		return delegate.stream();
+	}
+
+	@Override
+	public List<Rental> findByMemberId(Long memberId) {
+		return delegate.findByMemberId(memberId);
+	}
+
+	@Override
+	public List<Rental> findOpenByMemberId(Long memberId) {
+		return delegate.findOpenByMemberId(memberId);
+	}
+
+	@Override
+	public int countOpenByMemberId(Long memberId) {
+		return delegate.countOpenByMemberId(memberId);
+	}
+
+	@Override
+	public boolean hasOverdueByMemberId(Long memberId) {
+		return delegate.hasOverdueByMemberId(memberId);
+	}
+
+	@Override
+	public List<Rental> findOverdueByMemberId(Long memberId) {
+		return delegate.findOverdueByMemberId(memberId);
+	}
+
+	@Override
+	public List<Rental> findOverdue() {
+		return delegate.findOverdue();
+	}
+
+	@Override
+	public Set<Long> findMemberIdsWithOverdue() {
+		return delegate.findMemberIdsWithOverdue();
+	}
+
+	@Override
+	public void refreshOverdue(LocalDate today) {
+		delegate.refreshOverdue(today);
+	}
+
+	@Override
+	public void delete(Long id) {
+		Before<RentalVersion> before = store.prepareRentalDelete(id);
+		try {
+			delegate.delete(id);
+		} finally {
+			store.commitRentalDelete(id, before);
+		}
+	}
+}
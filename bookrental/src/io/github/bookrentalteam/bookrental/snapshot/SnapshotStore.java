@@ -0,0 +1,254 @@
+package io.github.bookrentalteam.bookrental.snapshot;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import io.github.bookrentalteam.bookrental.domain.Book;
+import io.github.bookrentalteam.bookrental.domain.Rental;
+import io.github.bookrentalteam.bookrental.domain.RentalStatus;
+import io.github.bookrentalteam.bookrental.repository.BookRepository;
+import io.github.bookrentalteam.bookrental.repository.RentalRepository;
+import io.github.bookrentalteam.bookrental.snapshot.VersionedMap.Before;
+
+/**
+ * 시점 일관 읽기 - 열린 읽기 뷰는 연 시점의 도서/대여 상태만 보게 한다 (MVCC).
+ * <p>
+ * 버전은 뷰가 열려 있는 동안 바뀐 ID에만 남기고, 그 뷰들이 모두 최신 버전을 보게 되면(닫히면) 버린다. 체인이 없는 ID는 감싼 저장소의 현재
+ * 값을 읽는다. 도서 정보와 반납 완료 대여는 바뀌지 않으므로 저장소 값을 그대로 쓰고, 제자리에서 바뀌는 반납 전 대여만 마지막 커밋 값을
+ * 복사해 둔다. 변경은 감싼 저장소에 반영한 뒤 짧은 커밋 잠금 안에서 버전을 붙이므로 대여/반납은 보고서 때문에 막히지 않고, 뷰는 잠금 없이
+ * 읽는다. 뷰의 재고는 총 권수에서 같은 시점의 반납 전 대여 수를 빼서 계산하므로 도서와 대여 기록이 항상 서로 맞는다.
+ */
+public class SnapshotStore {
+
+	@FunctionalInterface
+	private interface Install {
+		void apply(long commit, long oldestReader);
+	}
+
+	private final VersionedMap<BookVersion> books = new VersionedMap<>();
+	private final VersionedMap<RentalVersion> rentals = new VersionedMap<>();
+	private final VersionedMap<Integer> rentedCounts = new VersionedMap<>(); // 도서 ID → 반납 전 대여 수
+	private final Map<Long, RentalVersion> openRentals = new ConcurrentHashMap<>(); // 커밋된 반납 전 대여
+	private final Map<Long, Integer> rentedNow = new ConcurrentHashMap<>(); // 커밋된 도서별 반납 전 대여 수 (0이면 없음)
+	private final ReentrantLock commitLock = new ReentrantLock();
+	private final ConcurrentSkipListMap<Long, Integer> readers = new ConcurrentSkipListMap<>(); // 열린 뷰의 버전 → 개수
+	private volatile long committed; // 마지막 커밋 버전 (commitLock 안에서만 증가)
+
+	private final BookRepository bookSource;
+	private final RentalRepository rentalSource;
+	private final BookRepository bookRepository;
+	private final RentalRepository rentalRepository;
+
+	/** 기존 데이터를 버전 0으로 보고 변경을 기록하는 저장소로 감쌈 */
+	public SnapshotStore(BookRepository bookRepository, RentalRepository rentalRepository) {
+		rentalRepository.stream().filter(r -> r.getStatus() == RentalStatus.RENTED).forEach(r -> {
+			openRentals.put(r.getId(), RentalVersion.of(r));
+			rentedNow.merge(r.getBookId(), 1, Integer::sum);
+		});
+		this.bookSource = bookRepository;
+		this.rentalSource = rentalRepository;
+		this.bookRepository = new SnapshotBookRepository(this, bookRepository);
+		this.rentalRepository = new SnapshotRentalRepository(this, rentalRepository);
+	}
+
+	public BookRepository bookRepository() {
+		return bookRepository;
+	}
+
+	public RentalRepository rentalRepository() {
+		return rentalRepository;
+	}
+
+	/** 현재 시점의 읽기 뷰 - 사용 후 반드시 close (열린 동안 그 시점의 버전이 유지됨) */
+	public ReadView openView() {
+		commitLock.lock(); // 버전 정리와 엇갈리지 않도록 고정은 커밋 사이에서
+		try {
+			long version = committed;
+			readers.merge(version, 1, Integer::sum);
+			return new ReadView(this, version);
+		} finally {
+			commitLock.unlock();
+		}
+	}
+
+	/** 마지막 커밋 버전 */
+	public long version() {
+		return committed;
+	}
+
+	// 가장 오래된 뷰가 닫히면 남은 뷰가 모두 최신 값을 보는 체인을 버림
+	void release(long version) {
+		commitLock.lock();
+		try {
+			readers.computeIfPresent(version, (k, n) -> (n == 1) ? null : n - 1);
+			long oldest = readers.isEmpty() ? committed : readers.firstKey();
+			if (readers.isEmpty() || oldest > version) {
+				books.prune(oldest);
+				rentals.prune(oldest);
+				rentedCounts.prune(oldest);
+			}
+		} finally {
+			commitLock.unlock();
+		}
+	}
+
+	/** 도서 반영 직전 - 정보가 바뀌는 도서만 반영 전 값을 고정 (재고만 바뀐 저장은 버전 대상 아님) */
+	Map<Long, Before<BookVersion>> prepareBooks(List<Book> saving) {
+		Map<Long, Before<BookVersion>> prepared = new HashMap<>();
+		for (Book book : saving) {
+			BookVersion current = currentBook(book.getId());
+			if (!BookVersion.of(book).equals(current)) {
+				prepared.put(book.getId(), books.prepare(book.getId(), current));
+			}
+		}
+		return prepared;
+	}
+
+	Before<BookVersion> prepareBookDelete(long id) {
+		return books.prepare(id, currentBook(id));
+	}
+
+	/** 반영된 도서(saved)를 한 버전으로 커밋하고 고정 해제 */
+	void commitBooks(Map<Long, Before<BookVersion>> prepared, List<Book> saved) {
+		if (prepared.isEmpty()) {
+			return;
+		}
+		commit((v, oldest) -> {
+			for (Book book : saved) {
+				Before<BookVersion> before = prepared.get(book.getId());
+				if (before != null) {
+					books.put(book.getId(), BookVersion.of(book), before.value(), v, oldest);
+				}
+			}
+			prepared.forEach(books::release);
+		});
+	}
+
+	void commitBookDelete(long id, Before<BookVersion> before) {
+		commit((v, oldest) -> {
+			books.put(id, null, before.value(), v, oldest);
+			books.release(id, before);
+		});
+	}
+
+	/** 대여 반영 직전 - 반영 전 값을 고정 (저장소 안에서 옮겨지는 동안에도 뷰의 순회가 놓치지 않도록 모든 대여) */
+	Map<Long, Before<RentalVersion>> prepareRentals(List<Rental> saving) {
+		Map<Long, Before<RentalVersion>> prepared = new HashMap<>();
+		for (Rental rental : saving) {
+			prepared.put(rental.getId(), rentals.prepare(rental.getId(), currentRental(rental.getId())));
+		}
+		return prepared;
+	}
+
+	Before<RentalVersion> prepareRentalDelete(long id) {
+		return rentals.prepare(id, currentRental(id));
+	}
+
+	void commitRentals(Map<Long, Before<RentalVersion>> prepared, List<Rental> saved) {
+		commit((v, oldest) -> {
+			for (Rental r : saved) {
+				installRental(r.getId(), RentalVersion.of(r), prepared.get(r.getId()).value(), v, oldest);
+			}
+			prepared.forEach(rentals::release);
+		});
+	}
+
+	void commitRentalDelete(long id, Before<RentalVersion> before) {
+		commit((v, oldest) -> {
+			installRental(id, null, before.value(), v, oldest);
+			rentals.release(id, before);
+		});
+	}
+
+	BookVersion book(long id, long version) {
+		BookVersion book = books.get(id, version, currentBook(id));
+		return (book != null) ? book.withRented(rented(id, version)) : null;
+	}
+
+	Stream<BookVersion> books(long version) {
+		return books.values(version, bookSource.stream().iterator(), Book::getId, BookVersion::of, this::currentBook)
+				.map(b -> b.withRented(rented(b.id(), version)));
+	}
+
+	RentalVersion rental(long id, long version) {
+		return rentals.get(id, version, currentRental(id));
+	}
+
+	Stream<RentalVersion> rentals(long version) {
+		return rentals.values(version, rentalSource.stream().iterator(), Rental::getId, this::committedRental,
+				this::currentRental);
+	}
+
+	private int rented(long bookId, long version) {
+		Integer n = rentedCounts.get(bookId, version, rentedNow.get(bookId));
+		return (n != null) ? n : 0;
+	}
+
+	// 도서 정보는 바뀌지 않으므로 저장소 값이 곧 커밋된 값 (반영 중인 도서는 VersionedMap이 가림)
+	private BookVersion currentBook(long id) {
+		return bookSource.findById(id).map(BookVersion::of).orElse(null);
+	}
+
+	private RentalVersion currentRental(long id) {
+		RentalVersion open = openRentals.get(id);
+		if (open != null) {
+			return open;
+		}
+		Optional<Rental> rental = rentalSource.findById(id);
+		return rental.map(this::committedRental).orElse(null);
+	}
+
+	// 반납 전 대여는 제자리에서 바뀌므로 커밋된 복사본, 반납 완료 대여는 불변이므로 저장소 값 (커밋 전 새 대여는 null)
+	private RentalVersion committedRental(Rental rental) {
+		RentalVersion open = openRentals.get(rental.getId());
+		if (open != null) {
+			return open;
+		}
+		return (rental.getStatus() == RentalStatus.RENTED) ? null : RentalVersion.of(rental);
+	}
+
+	// 한 번의 변경(배치 포함)은 한 버전으로 커밋 - 뷰는 전부 보거나 전혀 보지 않음 (반영 전 값 고정도 잠금 안에서 해제해야 새 뷰가 새 값을 봄)
+	private void commit(Install install) {
+		commitLock.lock();
+		try {
+			long version = committed + 1;
+			long oldestReader = readers.isEmpty() ? version : readers.firstKey();
+			install.apply(version, oldestReader);
+			committed = version;
+		} finally {
+			commitLock.unlock();
+		}
+	}
+
+	// 대여 버전 추가 + 반납 전/후가 바뀌었으면 같은 버전으로 도서별 대여 수 갱신 (체인을 먼저, 현재 값은 나중에)
+	private void installRental(long id, RentalVersion rental, RentalVersion previous, long version,
+			long oldestReader) {
+		rentals.put(id, rental, previous, version, oldestReader);
+		if (rental != null && rental.isOpen()) {
+			openRentals.put(id, rental);
+		} else {
+			openRentals.remove(id);
+		}
+
+		boolean wasOpen = previous != null && previous.isOpen();
+		boolean isOpen = rental != null && rental.isOpen();
+		if (wasOpen != isOpen) {
+			long bookId = (rental != null) ? rental.bookId() : previous.bookId();
+			Integer count = rentedNow.get(bookId);
+			int n = ((count != null) ? count : 0) + (isOpen ? 1 : -1);
+			Integer next = (n > 0) ? n : null;
+			rentedCounts.put(bookId, next, count, version, oldestReader);
+			if (next != null) {
+				rentedNow.put(bookId, next);
+			} else {
+				rentedNow.remove(bookId);
+			}
+		}
+	}
+}
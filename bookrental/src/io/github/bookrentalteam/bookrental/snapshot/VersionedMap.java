@@ -0,0 +1,178 @@
+package io.github.bookrentalteam.bookrental.snapshot;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 읽기 뷰가 열린 동안 바뀐 ID만의 버전 체인 (최신 버전이 앞). 값이 null인 버전은 삭제 표시.
+ * <p>
+ * 체인이 없는 ID는 호출자가 넘기는 현재 값을 그대로 쓴다. 감싼 저장소에 반영 중인(커밋 전) ID는 반영 전 값을 고정(prepare)해 두어,
+ * 저장소가 먼저 바뀌어도 뷰에는 커밋 전까지 보이지 않는다. 쓰기는 SnapshotStore의 커밋 잠금 안에서만 하고, 읽기는 잠금 없이 한다.
+ */
+final class VersionedMap<T> {
+
+	private static final class Version<T> {
+		final long commit;
+		final T value;
+		volatile Version<T> older; // 정리 시 꼬리를 끊음
+
+		Version(long commit, T value, Version<T> older) {
+			this.commit = commit;
+			this.value = value;
+			this.older = older;
+		}
+	}
+
+	/** 반영 중인 ID의 반영 전 값 (커밋이나 취소 시 같은 객체로 해제) */
+	record Before<T>(T value) {
+	}
+
+	private final ConcurrentSkipListMap<Long, Version<T>> chains = new ConcurrentSkipListMap<>(); // ID 순
+	private final ConcurrentSkipListMap<Long, Before<T>> pending = new ConcurrentSkipListMap<>(); // ID 순
+
+	/** 감싼 저장소에 반영하기 직전 - 커밋 전까지 뷰는 current(지금 커밋된 값)를 봄 */
+	Before<T> prepare(long id, T current) {
+		Before<T> before = new Before<>(current);
+		pending.put(id, before);
+		return before;
+	}
+
+	/** 반영 전 값 고정 해제 - 커밋 잠금 안에서 put 뒤에 호출 */
+	void release(long id, Before<T> before) {
+		pending.remove(id, before);
+	}
+
+	/**
+	 * 새 버전 기록 - 열린 뷰(oldestReader < commit)가 있을 때만 체인에 남기고, 가장 오래된 뷰가 볼 버전보다 오래된 버전은 버림
+	 *
+	 * @param value    null이면 삭제
+	 * @param previous 이 변경 직전에 커밋된 값 (체인이 없을 때 첫 버전)
+	 */
+	void put(long id, T value, T previous, long commit, long oldestReader) {
+		if (oldestReader >= commit) {
+			chains.remove(id); // 볼 뷰가 없으면 현재 값으로 충분
+			return;
+		}
+		chains.compute(id, (k, head) -> {
+			Version<T> older = (head != null) ? head : new Version<>(0, previous, null);
+			Version<T> version = new Version<>(commit, value, older);
+			for (Version<T> v = version; v != null; v = v.older) {
+				if (v.commit <= oldestReader) {
+					v.older = null;
+					break;
+				}
+			}
+			return version;
+		});
+	}
+
+	/** 가장 오래된 뷰(oldestReader)도 최신 버전을 보는 체인 제거 - 뷰를 닫을 때 커밋 잠금 안에서 */
+	void prune(long oldestReader) {
+		chains.entrySet().removeIf(e -> e.getValue().commit <= oldestReader);
+	}
+
+	/**
+	 * readVersion 시점의 값 (없거나 삭제됐으면 null)
+	 *
+	 * @param current 호출자가 이 호출 전에 읽은 현재 값 - 반영 전 값/체인보다 먼저 읽어야 커밋과 엇갈려도 맞는 값을 고름
+	 */
+	T get(long id, long readVersion, T current) {
+		Before<T> before = pending.get(id);
+		Version<T> chain = chains.get(id);
+		if (chain != null) {
+			return resolve(chain, readVersion);
+		}
+		return (before != null) ? before.value() : current;
+	}
+
+	/**
+	 * readVersion 시점의 값 전체 - ID 순.
+	 * <p>
+	 * 현재 값 순회(live, ID 순)와 체인/반영 중 ID를 합친다. 순회 중 저장소에서 빠지거나 옮겨진 ID는 그 전에 반영 전 값이나 체인이 생기므로
+	 * 매번 다음 체인 ID를 새로 찾아 놓치지 않는다.
+	 *
+	 * @param toValue 순회한 항목의 현재 값 (커밋 전이면 null)
+	 * @param lookup  ID로 현재 값 조회 (체인/반영 중에만 있는 ID용)
+	 */
+	<E> Stream<T> values(long readVersion, Iterator<E> live, ToLongFunction<E> idOf, Function<E, T> toValue,
+			LongFunction<T> lookup) {
+		return StreamSupport.stream(new MergeSpliterator<>(this, readVersion, live, idOf, toValue, lookup), false);
+	}
+
+	private Long nextChanged(long afterId) {
+		Long chained = chains.higherKey(afterId);
+		Long prepared = pending.higherKey(afterId);
+		if (chained == null) {
+			return prepared;
+		}
+		return (prepared == null || chained < prepared) ? chained : prepared;
+	}
+
+	private static <T> T resolve(Version<T> version, long readVersion) {
+		while (version != null && version.commit > readVersion) {
+			version = version.older;
+		}
+		return (version != null) ? version.value : null;
+	}
+
+	private static final class MergeSpliterator<T, E> extends Spliterators.AbstractSpliterator<T> {
+		private final VersionedMap<T> map;
+		private final long readVersion;
+		private final Iterator<E> live;
+		private final ToLongFunction<E> idOf;
+		private final Function<E, T> toValue;
+		private final LongFunction<T> lookup;
+		private E next; // 다음 현재 값 항목
+		private long position = Long.MIN_VALUE; // 마지막으로 본 ID
+
+		MergeSpliterator(VersionedMap<T> map, long readVersion, Iterator<E> live, ToLongFunction<E> idOf,
+				Function<E, T> toValue, LongFunction<T> lookup) {
+			super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+			this.map = map;
+			this.readVersion = readVersion;
+			this.live = live;
+			this.idOf = idOf;
+			this.toValue = toValue;
+			this.lookup = lookup;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			while (true) {
+				while (next == null && live.hasNext()) {
+					E e = live.next();
+					if (idOf.applyAsLong(e) > position) {
+						next = e;
+					}
+				}
+				Long changed = map.nextChanged(position);
+				long id;
+				T current;
+				if (next != null && (changed == null || idOf.applyAsLong(next) <= changed)) {
+					id = idOf.applyAsLong(next);
+					current = toValue.apply(next);
+					next = null;
+				} else if (changed != null) {
+					id = changed;
+					current = lookup.apply(id);
+				} else {
+					return false;
+				}
+				position = id;
+				T value = map.get(id, readVersion, current);
+				if (value != null) {
+					action.accept(value);
+					return true;
+				}
+			}
+		}
+	}
+}
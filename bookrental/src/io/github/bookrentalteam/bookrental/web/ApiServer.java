@@ -0,0 +1,527 @@
+package io.github.bookrentalteam.bookrental.web;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.github.bookrentalteam.bookrental.analytics.CirculationStats;
+import io.github.bookrentalteam.bookrental.analytics.CirculationSummary;
+import io.github.bookrentalteam.bookrental.analytics.RankedCount;
+import io.github.bookrentalteam.bookrental.analytics.Utilization;
+import io.github.bookrentalteam.bookrental.common.exception.BusinessException;
+import io.github.bookrentalteam.bookrental.common.exception.OverloadedException;
+import io.github.bookrentalteam.bookrental.common.exception.ValidationException;
+import io.github.bookrentalteam.bookrental.common.json.Json;
+import io.github.bookrentalteam.bookrental.domain.Book;
+import io.github.bookrentalteam.bookrental.domain.Member;
+import io.github.bookrentalteam.bookrental.domain.Rental;
+import io.github.bookrentalteam.bookrental.domain.Role;
+import io.github.bookrentalteam.bookrental.metrics.MetricsRegistry;
+import io.github.bookrentalteam.bookrental.search.Completion;
+import io.github.bookrentalteam.bookrental.service.BookService;
+import io.github.bookrentalteam.bookrental.service.MemberService;
+import io.github.bookrentalteam.bookrental.service.RentalService;
+
+/**
+ * HTTP/JSON API 서버 (JDK 내장 com.sun.net.httpserver)
+ * <p>
+ * 요청마다 가상 스레드에서 처리한다(Java 21 이상). 그보다 낮은 버전에서는 고정 크기 스레드 풀을 사용한다. 목록 응답은 chunked 로 한 건씩
+ * 바로 내보내므로 전체 JSON을 메모리에 만들지 않는다. 인증이 필요한 API는 로그인으로 받은 세션 토큰(Bearer)을 사용한다 (비밀번호 검증은
+ * 로그인할 때 한 번만).
+ *
+ * <pre>
+ * GET  /api/books?keyword=&amp;limit=      도서 검색 (fuzzy=true 이면 오타 허용 검색, limit 기본 20)
+ * GET  /api/books?after=&amp;limit=        도서 목록 (ID 순, after 다음부터)
+ * GET  /api/books/{id}                  도서 조회
+ * GET  /api/books/autocomplete?q=&amp;limit=  제목/저자 자동완성 (limit 기본 10)
+ * POST /api/books                       도서 등록 (관리자) {isbn, title, author, totalCopies}
+ * POST /api/members                     회원가입 {name, email, password}
+ * POST /api/members/login               로그인 {email, password} → {token, member}
+ * POST /api/members/logout              로그아웃 (Bearer)
+ * GET  /api/rentals                     내 대여 목록
+ * POST /api/rentals                     대여 {bookId}
+ * POST /api/rentals/{id}/return         반납
+ * POST /api/rentals/{id}/extend         연장
+ * GET  /api/rentals/overdue             전체 연체 목록 (관리자)
+ * GET  /api/stats/circulation?limit=    대여 통계 - 요약, 인기 도서/회원, 이용률 순위 (관리자, limit 기본 10)
+ * GET  /metrics                         Prometheus 지표 (MetricsRegistry 사용 시)
+ * </pre>
+ */
+public class ApiServer implements AutoCloseable {
+
+	private static final int MAX_BODY_SIZE = 64 * 1024;
+	private static final int FALLBACK_THREADS = 256;
+
+	private final BookService bookService;
+	private final MemberService memberService;
+	private final RentalService rentalService;
+	private final CirculationStats circulationStats; // null이면 통계 API 없음
+	private final HttpServer server;
+	private final ExecutorService executor;
+
+	public ApiServer(int port, BookService bookService, MemberService memberService, RentalService rentalService)
+			throws IOException {
+		this(port, bookService, memberService, rentalService, null);
+	}
+
+	/** metrics가 있으면 GET /metrics 로 Prometheus 텍스트 형식 지표 제공 */
+	public ApiServer(int port, BookService bookService, MemberService memberService, RentalService rentalService,
+			MetricsRegistry metrics) throws IOException {
+		this(port, bookService, memberService, rentalService, metrics, null);
+	}
+
+	/** circulationStats가 있으면 GET /api/stats/circulation 제공 */
+	public ApiServer(int port, BookService bookService, MemberService memberService, RentalService rentalService,
+			MetricsRegistry metrics, CirculationStats circulationStats) throws IOException {
+		this.bookService = bookService;
+		this.memberService = memberService;
+		this.rentalService = rentalService;
+		this.circulationStats = circulationStats;
+		this.server = HttpServer.create(new InetSocketAddress(port), 1024);
+		this.executor = newRequestExecutor();
+		server.setExecutor(executor);
+		server.createContext("/api/", this::handle);
+		if (metrics != null) {
+			server.createContext("/metrics", ex -> handleMetrics(ex, metrics));
+		}
+	}
+
+	public ApiServer start() {
+		server.start();
+		return this;
+	}
+
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	@Override
+	public void close() {
+		server.stop(1);
+		executor.shutdown();
+		try {
+			executor.awaitTermination(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// 가상 스레드 실행기(Java 21+)가 있으면 사용, 없으면 스레드 풀
+	private static ExecutorService newRequestExecutor() {
+		try {
+			Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) factory.invoke(null);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return Executors.newFixedThreadPool(FALLBACK_THREADS, r -> {
+				Thread t = new Thread(r, "api-worker");
+				t.setDaemon(true);
+				return t;
+			});
+		}
+	}
+
+	private void handle(HttpExchange ex) {
+		try {
+			route(ex);
+		} catch (ApiException e) {
+			sendError(ex, e.status, e.getMessage());
+		} catch (ValidationException | IllegalArgumentException e) {
+			sendError(ex, 400, e.getMessage());
+		} catch (OverloadedException e) {
+			ex.getResponseHeaders().set("Retry-After", Integer.toString(e.getRetryAfterSeconds()));
+			sendError(ex, 429, e.getMessage());
+		} catch (BusinessException | IllegalStateException e) {
+			sendError(ex, 409, e.getMessage());
+		} catch (IOException e) {
+			// 클라이언트 연결 끊김 등 - 응답 불가
+		} catch (RuntimeException e) {
+			sendError(ex, 500, "서버 오류가 발생했습니다.");
+		} finally {
+			ex.close();
+		}
+	}
+
+	private static void handleMetrics(HttpExchange ex, MetricsRegistry metrics) throws IOException {
+		try {
+			StringWriter buf = new StringWriter(4096);
+			metrics.writePrometheus(buf);
+			byte[] bytes = buf.toString().getBytes(StandardCharsets.UTF_8);
+			ex.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+			ex.sendResponseHeaders(200, bytes.length);
+			try (OutputStream out = ex.getResponseBody()) {
+				out.write(bytes);
+			}
+		} finally {
+			ex.close();
+		}
+	}
+
+	private void route(HttpExchange ex) throws IOException {
+		String method = ex.getRequestMethod();
+		String[] path = ex.getRequestURI().getPath().substring("/api/".length()).split("/");
+		String resource = path[0];
+		int depth = path.length;
+
+		if (resource.equals("books")) {
+			if (depth == 1 && method.equals("GET")) {
+				listBooks(ex);
+				return;
+			}
+			if (depth == 1 && method.equals("POST")) {
+				registerBook(ex);
+				return;
+			}
+			if (depth == 2 && path[1].equals("autocomplete") && method.equals("GET")) {
+				autocomplete(ex);
+				return;
+			}
+			if (depth == 2 && method.equals("GET")) {
+				sendJson(ex, 200, out -> writeBook(out, bookService.getBook(parseId(path[1]))));
+				return;
+			}
+		} else if (resource.equals("members")) {
+			if (depth == 1 && method.equals("POST")) {
+				signUp(ex);
+				return;
+			}
+			if (depth == 2 && path[1].equals("login") && method.equals("POST")) {
+				Map<String, String> body = readBody(ex);
+				String token = memberService.login(body.get("email"), body.get("password")).getToken();
+				Member m = memberService.getCurrentUser(token);
+				sendJson(ex, 200, out -> {
+					out.write("{\"token\":");
+					Json.writeString(out, token);
+					out.write(",\"member\":");
+					writeMember(out, m);
+					out.write('}');
+				});
+				return;
+			}
+			if (depth == 2 && path[1].equals("logout") && method.equals("POST")) {
+				String token = bearerToken(ex);
+				if (token == null) {
+					throw new ApiException(401, "인증이 필요합니다.");
+				}
+				memberService.logout(token);
+				sendJson(ex, 200, out -> out.write("{}"));
+				return;
+			}
+		} else if (resource.equals("rentals")) {
+			if (depth == 1 && method.equals("GET")) {
+				Member m = requireMember(ex);
+				streamJson(ex, rentalService.getRentalsByMember(m).iterator(), ApiServer::writeRental);
+				return;
+			}
+			if (depth == 1 && method.equals("POST")) {
+				Member m = requireMember(ex);
+				long bookId = parseId(readBody(ex).get("bookId"));
+				Rental rental = rentalService.rentBook(bookId, m);
+				sendJson(ex, 201, out -> writeRental(out, rental));
+				return;
+			}
+			if (depth == 2 && path[1].equals("overdue") && method.equals("GET")) {
+				requireAdmin(ex);
+				streamJson(ex, rentalService.getOverdueRentals().iterator(), ApiServer::writeRental);
+				return;
+			}
+			if (depth == 3 && method.equals("POST") && (path[2].equals("return") || path[2].equals("extend"))) {
+				Member m = requireMember(ex);
+				long rentalId = parseId(path[1]);
+				Rental rental = rentalService.getRental(rentalId);
+				if (!rental.getMemberId().equals(m.getId()) && m.getRole() != Role.ADMIN) {
+					throw new ApiException(403, "본인의 대여만 처리할 수 있습니다.");
+				}
+				Rental result = path[2].equals("return") ? rentalService.returnBook(rentalId)
+						: rentalService.extendRental(rentalId);
+				sendJson(ex, 200, out -> writeRental(out, result));
+				return;
+			}
+		} else if (resource.equals("stats") && circulationStats != null) {
+			if (depth == 2 && path[1].equals("circulation") && method.equals("GET")) {
+				requireAdmin(ex);
+				circulation(ex);
+				return;
+			}
+		}
+		throw new ApiException(404, "지원하지 않는 요청입니다: " + method + " " + ex.getRequestURI().getPath());
+	}
+
+	private void listBooks(HttpExchange ex) throws IOException {
+		Map<String, String> query = parseQuery(ex.getRequestURI().getRawQuery());
+		String keyword = query.get("keyword");
+		String limit = query.get("limit");
+		if (keyword != null && !keyword.isBlank() && Boolean.parseBoolean(query.get("fuzzy"))) {
+			int max = (limit != null) ? parseInt(limit, "limit") : 20;
+			streamJson(ex, bookService.searchBooksFuzzy(keyword, max).iterator(), ApiServer::writeBook);
+			return;
+		}
+		if (keyword != null && !keyword.isBlank()) {
+			List<Book> books = (limit != null) ? bookService.searchBooks(keyword, parseInt(limit, "limit"))
+					: bookService.searchBooks(keyword);
+			streamJson(ex, books.iterator(), ApiServer::writeBook);
+			return;
+		}
+		// 검색어 없음: ID 순 키셋 페이지 (limit 없으면 전체를 순회하며 출력)
+		if (limit != null) {
+			long after = query.containsKey("after") ? parseId(query.get("after")) : 0;
+			streamJson(ex, bookService.listBooks(after, parseInt(limit, "limit")).iterator(), ApiServer::writeBook);
+		} else {
+			try (Stream<Book> books = bookService.streamBooks()) {
+				streamJson(ex, books.iterator(), ApiServer::writeBook);
+			}
+		}
+	}
+
+	private void autocomplete(HttpExchange ex) throws IOException {
+		Map<String, String> query = parseQuery(ex.getRequestURI().getRawQuery());
+		int limit = query.containsKey("limit") ? parseInt(query.get("limit"), "limit") : 10;
+		List<Completion> completions = bookService.autocomplete(query.get("q"), limit);
+		sendJson(ex, 200, out -> {
+			out.write('[');
+			for (int i = 0; i < completions.size(); i++) {
+				Completion c = completions.get(i);
+				out.write((i == 0) ? "{\"text\":" : ",{\"text\":");
+				Json.writeString(out, c.text());
+				out.write(",\"source\":\"" + c.source() + "\",\"weight\":" + c.weight() + "}");
+			}
+			out.write(']');
+		});
+	}
+
+	private void circulation(HttpExchange ex) throws IOException {
+		Map<String, String> query = parseQuery(ex.getRequestURI().getRawQuery());
+		int limit = query.containsKey("limit") ? parseInt(query.get("limit"), "limit") : 10;
+		CirculationSummary s = circulationStats.summary();
+		List<RankedCount> topBooks = circulationStats.topBooks(limit);
+		List<RankedCount> topMembers = circulationStats.topMembers(limit);
+		List<Utilization> mostUtilized = circulationStats.mostUtilized(limit);
+		sendJson(ex, 200, out -> {
+			out.write("{\"date\":\"" + s.date() + "\",\"openRentals\":" + s.openRentals() + ",\"overdueRentals\":"
+					+ s.overdueRentals() + ",\"overdueDays\":" + s.overdueDays() + ",\"totalCopies\":" + s.totalCopies()
+					+ ",\"rentedCopies\":" + s.rentedCopies());
+			out.write(",\"topBooks\":");
+			writeRanked(out, topBooks);
+			out.write(",\"topMembers\":");
+			writeRanked(out, topMembers);
+			out.write(",\"mostUtilized\":[");
+			for (int i = 0; i < mostUtilized.size(); i++) {
+				Utilization u = mostUtilized.get(i);
+				out.write(((i == 0) ? "{" : ",{") + "\"bookId\":" + u.bookId() + ",\"totalCopies\":" + u.totalCopies()
+						+ ",\"rentedCopies\":" + u.rentedCopies() + "}");
+			}
+			out.write("]}");
+		});
+	}
+
+	private static void writeRanked(Writer out, List<RankedCount> ranked) throws IOException {
+		out.write('[');
+		for (int i = 0; i < ranked.size(); i++) {
+			RankedCount r = ranked.get(i);
+			out.write(((i == 0) ? "{" : ",{") + "\"id\":" + r.id() + ",\"count\":" + r.count() + "}");
+		}
+		out.write(']');
+	}
+
+	private void registerBook(HttpExchange ex) throws IOException {
+		requireAdmin(ex);
+		Map<String, String> body = readBody(ex);
+		Book book = bookService.registerBook(body.get("isbn"), body.get("title"), body.get("author"),
+				parseInt(body.get("totalCopies"), "totalCopies"));
+		sendJson(ex, 201, out -> writeBook(out, book));
+	}
+
+	private void signUp(HttpExchange ex) throws IOException {
+		Map<String, String> body = readBody(ex);
+		String password = body.get("password");
+		if (password == null || password.isBlank()) {
+			throw new ValidationException("비밀번호는 필수입니다.");
+		}
+		Member m = memberService.signUp(body.get("name"), body.get("email"), password, Role.USER);
+		sendJson(ex, 201, out -> writeMember(out, m));
+	}
+
+	// ===== 인증 =====
+
+	private Member requireMember(HttpExchange ex) {
+		String token = bearerToken(ex);
+		if (token != null) {
+			Member m = memberService.getCurrentUser(token);
+			if (m == null) {
+				throw new ApiException(401, "세션이 만료되었습니다. 다시 로그인해주세요.");
+			}
+			return m;
+		}
+		throw new ApiException(401, "인증이 필요합니다.");
+	}
+
+	private static String bearerToken(HttpExchange ex) {
+		String header = ex.getRequestHeaders().getFirst("Authorization");
+		if (header == null || !header.regionMatches(true, 0, "Bearer ", 0, 7)) {
+			return null;
+		}
+		return header.substring(7).trim();
+	}
+
+	private Member requireAdmin(HttpExchange ex) {
+		Member m = requireMember(ex);
+		if (m.getRole() != Role.ADMIN) {
+			throw new ApiException(403, "관리자만 사용할 수 있습니다.");
+		}
+		return m;
+	}
+
+	// ===== 요청 파싱 =====
+
+	private static Map<String, String> readBody(HttpExchange ex) throws IOException {
+		try (InputStream in = ex.getRequestBody()) {
+			byte[] bytes = in.readNBytes(MAX_BODY_SIZE + 1);
+			if (bytes.length > MAX_BODY_SIZE) {
+				throw new ApiException(413, "요청 본문이 너무 큽니다.");
+			}
+			return Json.parseObject(new String(bytes, StandardCharsets.UTF_8));
+		}
+	}
+
+	private static Map<String, String> parseQuery(String rawQuery) {
+		Map<String, String> result = new HashMap<>();
+		if (rawQuery == null || rawQuery.isEmpty()) {
+			return result;
+		}
+		for (String pair : rawQuery.split("&")) {
+			int eq = pair.indexOf('=');
+			String key = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+			String value = (eq < 0) ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+			result.put(key, value);
+		}
+		return result;
+	}
+
+	private static long parseId(String value) {
+		try {
+			return Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			throw new ValidationException("ID는 숫자여야 합니다: " + value);
+		}
+	}
+
+	private static int parseInt(String value, String name) {
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			throw new ValidationException(name + "은(는) 숫자여야 합니다: " + value);
+		}
+	}
+
+	// ===== 응답 =====
+
+	private static void sendJson(HttpExchange ex, int status, JsonBody body) throws IOException {
+		StringWriter buf = new StringWriter(256);
+		body.write(buf);
+		byte[] bytes = buf.toString().getBytes(StandardCharsets.UTF_8);
+		ex.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+		ex.sendResponseHeaders(status, bytes.length); // 길이를 알려 keep-alive 유지
+		try (OutputStream out = ex.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	// 목록은 chunked 로 한 건씩 출력
+	private static <T> void streamJson(HttpExchange ex, Iterator<T> items, ItemWriter<T> itemWriter)
+			throws IOException {
+		ex.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+		ex.sendResponseHeaders(200, 0);
+		try (Writer out = new BufferedWriter(new OutputStreamWriter(ex.getResponseBody(), StandardCharsets.UTF_8),
+				8192)) {
+			out.write('[');
+			boolean first = true;
+			while (items.hasNext()) {
+				if (!first) {
+					out.write(',');
+				}
+				itemWriter.write(out, items.next());
+				first = false;
+			}
+			out.write(']');
+		}
+	}
+
+	private static void sendError(HttpExchange ex, int status, String message) {
+		try {
+			sendJson(ex, status, out -> {
+				out.write("{\"status\":" + status + ",\"message\":");
+				Json.writeString(out, message);
+				out.write('}');
+			});
+		} catch (IOException | RuntimeException e) {
+			// 이미 응답을 보내기 시작했거나 연결이 끊김
+		}
+	}
+
+	static void writeBook(Writer out, Book b) throws IOException {
+		out.write("{\"id\":" + b.getId() + ",\"isbn\":");
+		Json.writeString(out, b.getIsbn());
+		out.write(",\"title\":");
+		Json.writeString(out, b.getTitle());
+		out.write(",\"author\":");
+		Json.writeString(out, b.getAuthor());
+		out.write(",\"totalCopies\":" + b.getTotalCopies() + ",\"availableCopies\":" + b.getAvailableCopies() + "}");
+	}
+
+	static void writeMember(Writer out, Member m) throws IOException {
+		out.write("{\"id\":" + m.getId() + ",\"name\":");
+		Json.writeString(out, m.getName());
+		out.write(",\"email\":");
+		Json.writeString(out, m.getEmail());
+		out.write(",\"role\":\"" + m.getRole() + "\",\"suspendUntil\":");
+		Json.writeString(out, (m.getSuspendUntil() != null) ? m.getSuspendUntil().toString() : null);
+		out.write('}');
+	}
+
+	static void writeRental(Writer out, Rental r) throws IOException {
+		out.write("{\"id\":" + r.getId() + ",\"bookId\":" + r.getBookId() + ",\"memberId\":" + r.getMemberId()
+				+ ",\"status\":\"" + r.getStatus() + "\",\"rentedAt\":\"" + r.getRentedAt() + "\",\"dueAt\":\""
+				+ r.getDueAt() + "\",\"returnedAt\":");
+		Json.writeString(out, (r.getReturnedAt() != null) ? r.getReturnedAt().toString() : null);
+		out.write(",\"extensionCount\":" + r.getExtensionCount() + "}");
+	}
+
+	@FunctionalInterface
+	private interface JsonBody {
+		void write(Writer out) throws IOException;
+	}
+
+	@FunctionalInterface
+	interface ItemWriter<T> {
+		void write(Writer out, T item) throws IOException;
+	}
+
+	/** HTTP 상태 코드를 지정하는 API 오류 */
+	private static final class ApiException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+		private final int status;
+
+		ApiException(int status, String message) {
+			super(message);
+			this.status = status;
+		}
+	}
+}
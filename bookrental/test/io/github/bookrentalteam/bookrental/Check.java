@@ -0,0 +1,52 @@
+package io.github.bookrentalteam.bookrental;
+
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * 검사용 단언 - 외부 테스트 라이브러리 없이 main으로 실행하는 검사에서 사용 (실패하면 AssertionError)
+ */
+public final class Check {
+
+	private Check() {
+	}
+
+	/** 조건이 거짓이면 실패 */
+	public static void that(boolean condition, Supplier<String> message) {
+		if (!condition) {
+			throw new AssertionError(message.get());
+		}
+	}
+
+	/** 두 값이 다르면 실패 */
+	public static void equal(Object expected, Object actual, Supplier<String> what) {
+		if (!Objects.equals(expected, actual)) {
+			throw new AssertionError(what.get() + "\n  기대: " + expected + "\n  실제: " + actual);
+		}
+	}
+
+	/**
+	 * 무작위 검사 실행 - 인자로 받은 시드(없으면 현재 시각)의 Random 하나로 body를 rounds번 실행하고 결과를 출력한다. 실패하면 시드를 출력한
+	 * 뒤 예외를 그대로 던지므로, 출력된 시드를 인자로 주면 같은 입력을 다시 만들 수 있다.
+	 */
+	public static void run(String name, String[] args, int rounds, Round body) throws Exception {
+		long seed = (args.length > 0) ? Long.parseLong(args[0]) : System.nanoTime();
+		try {
+			Random random = new Random(seed);
+			for (int round = 0; round < rounds; round++) {
+				body.run(random);
+			}
+		} catch (Exception | AssertionError e) {
+			System.err.println(name + " 실패 (seed=" + seed + ")");
+			throw e;
+		}
+		System.out.println(name + " 통과 (seed=" + seed + ")");
+	}
+
+	/** 검사 한 라운드 */
+	@FunctionalInterface
+	public interface Round {
+		void run(Random random) throws Exception;
+	}
+}
@@ -0,0 +1,149 @@
+package io.github.bookrentalteam.bookrental.analytics;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import io.github.bookrentalteam.bookrental.Check;
+import io.github.bookrentalteam.bookrental.common.time.BusinessClock;
+import io.github.bookrentalteam.bookrental.event.DomainEvent.BookRegistered;
+import io.github.bookrentalteam.bookrental.event.DomainEvent.BookRented;
+import io.github.bookrentalteam.bookrental.event.DomainEvent.BookReturned;
+import io.github.bookrentalteam.bookrental.event.DomainEvent.RentalExtended;
+
+/**
+ * CirculationStats 무작위 대조 검사 - 대여/반납/연장 이벤트 사이에 업무 날짜를 앞뒤로 옮기며, 반납예정일 버킷으로 계산한 연체 건수와
+ * 연체 일수가 대여 중 목록을 직접 훑은 값과 같은지 확인한다. 일부 대여 이벤트는 늦게 보내 그 대여의 반납/연장 이벤트가 먼저 도착하는
+ * 경우도 섞는다 (늦은 이벤트가 모두 도착한 시점에만 비교).
+ * <p>
+ * 실행: java -cp bin-test io.github.bookrentalteam.bookrental.analytics.CirculationStatsTest [seed]
+ */
+public class CirculationStatsTest {
+
+	private static final LocalDate START = LocalDate.of(2026, 1, 1);
+	private static final int ROUNDS = 200;
+	private static final int STEPS = 500;
+	private static final int BOOKS = 20;
+	private static final int MEMBERS = 10;
+
+	public static void main(String[] args) throws Exception {
+		BusinessClock original = BusinessClock.current();
+		try {
+			Check.run("CirculationStatsTest", args, ROUNDS, CirculationStatsTest::run);
+		} finally {
+			BusinessClock.setCurrent(original);
+		}
+	}
+
+	private static void run(Random random) {
+		CirculationStats stats = new CirculationStats();
+		LocalDate today = START;
+		BusinessClock.setCurrent(BusinessClock.fixed(today));
+
+		int[] copies = new int[BOOKS + 1];
+		for (int bookId = 1; bookId <= BOOKS; bookId++) {
+			copies[bookId] = 1 + random.nextInt(5);
+			stats.onEvent(new BookRegistered(bookId, "CS-" + bookId, "도서" + bookId, copies[bookId]), true);
+		}
+		Map<Long, Open> open = new HashMap<>(); // 대여 ID → 대여 중인 대여
+		List<BookRented> delayed = new ArrayList<>(); // 아직 보내지 않은 대여 이벤트
+		long nextRentalId = 1;
+
+		for (int step = 0; step < STEPS; step++) {
+			int op = random.nextInt(10);
+			if (op < 3) { // 날짜 이동 - 뒤로 가는 경우 포함, 여러 버킷을 한 번에 지나도록 최대 ±40일
+				today = today.plusDays(random.nextInt(81) - 40);
+				BusinessClock.setCurrent(BusinessClock.fixed(today));
+			} else if (op < 6) {
+				long bookId = 1 + random.nextInt(BOOKS);
+				long memberId = 1 + random.nextInt(MEMBERS);
+				LocalDate dueAt = today.plusDays(random.nextInt(29) - 14); // 과거 반납예정일도 허용 (이벤트 지연 흉내)
+				long rentalId = nextRentalId++;
+				open.put(rentalId, new Open(rentalId, bookId, memberId, dueAt));
+				BookRented rented = new BookRented(rentalId, bookId, memberId, dueAt);
+				if (random.nextInt(4) == 0) {
+					delayed.add(rented); // 반납/연장보다 늦게 도착할 수 있음
+				} else {
+					stats.onEvent(rented, true);
+				}
+			} else if (op < 8) {
+				Open r = pick(random, open);
+				if (r != null) {
+					open.remove(r.rentalId);
+					stats.onEvent(new BookReturned(r.rentalId, r.bookId, r.memberId, today, 0), true);
+				}
+			} else {
+				Open r = pick(random, open);
+				if (r != null) {
+					r.dueAt = r.dueAt.plusDays(7);
+					stats.onEvent(new RentalExtended(r.rentalId, r.memberId, r.dueAt), true);
+				}
+			}
+			if (!delayed.isEmpty() && random.nextInt(3) == 0) {
+				Collections.shuffle(delayed, random);
+				delayed.forEach(e -> stats.onEvent(e, true));
+				delayed.clear();
+			}
+			if (delayed.isEmpty()) {
+				compare(stats, today, copies, open);
+			}
+		}
+	}
+
+	private static void compare(CirculationStats stats, LocalDate today, int[] copies, Map<Long, Open> open) {
+		long overdue = 0;
+		long overdueDays = 0;
+		long[] rentedByBook = new long[copies.length];
+		Map<Long, Integer> openByMember = new HashMap<>();
+		for (Open r : open.values()) {
+			if (r.dueAt.isBefore(today)) {
+				overdue++;
+				overdueDays += today.toEpochDay() - r.dueAt.toEpochDay();
+			}
+			rentedByBook[(int) r.bookId]++;
+			openByMember.merge(r.memberId, 1, Integer::sum);
+		}
+		long totalCopies = 0;
+		long rentedCopies = 0;
+		for (int bookId = 1; bookId < copies.length; bookId++) {
+			totalCopies += copies[bookId];
+			rentedCopies += rentedByBook[bookId];
+		}
+
+		CirculationSummary expected = new CirculationSummary(today, open.size(), overdue, overdueDays, totalCopies,
+				rentedCopies);
+		Check.equal(expected, stats.summary(), () -> "summary() 날짜 " + today);
+		for (long memberId = 1; memberId <= MEMBERS; memberId++) {
+			long id = memberId;
+			Check.equal(openByMember.getOrDefault(memberId, 0), stats.openRentalCount(memberId),
+					() -> "openRentalCount(" + id + ")");
+		}
+	}
+
+	private static Open pick(Random random, Map<Long, Open> open) {
+		if (open.isEmpty()) {
+			return null;
+		}
+		List<Open> all = new ArrayList<>(open.values());
+		all.sort((a, b) -> Long.compare(a.rentalId, b.rentalId)); // 시드가 같으면 같은 대여를 고르도록
+		return all.get(random.nextInt(all.size()));
+	}
+
+	private static final class Open {
+		final long rentalId;
+		final long bookId;
+		final long memberId;
+		LocalDate dueAt;
+
+		Open(long rentalId, long bookId, long memberId, LocalDate dueAt) {
+			this.rentalId = rentalId;
+			this.bookId = bookId;
+			this.memberId = memberId;
+			this.dueAt = dueAt;
+		}
+	}
+}
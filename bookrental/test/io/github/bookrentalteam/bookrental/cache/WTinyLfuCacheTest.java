@@ -0,0 +1,212 @@
+package io.github.bookrentalteam.bookrental.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.github.bookrentalteam.bookrental.Check;
+import io.github.bookrentalteam.bookrental.domain.Book;
+import io.github.bookrentalteam.bookrental.event.EventBus;
+import io.github.bookrentalteam.bookrental.repository.impl.InMemoryBookRepository;
+import io.github.bookrentalteam.bookrental.service.impl.BookServiceImpl;
+
+/**
+ * 캐시 동시성 검사 - 적재와 무효화가 엇갈려도 무효화가 끝난 뒤의 조회가 그 전 값을 받지 않는지 확인한다.
+ * <ul>
+ * <li>WTinyLfuCache: 쓰기 스레드가 원본 값을 올리고 invalidate/invalidateIf/put을 하는 동안, 읽기 스레드가 작은 캐시에서 get으로
+ * 적재(느린 적재, null, 예외 섞음)한다. 조회 결과는 조회 전에 무효화가 끝난 값 이상이어야 하고, 끝난 뒤 남은 항목은 모두 현재 값이며
+ * 크기와 요청 수 통계가 맞아야 한다.</li>
+ * <li>CachingBookService: 도서 등록(한 권, 묶음, 검색 캐시 전체를 비우는 큰 묶음)과 검색이 엇갈려도, 등록이 끝난 뒤의 검색 결과에는 그
+ * 도서가 들어 있어야 한다.</li>
+ * </ul>
+ * 스레드 교차는 시드로 재현되지 않으므로 키 수/캐시 크기와 스레드별 작업 순서만 시드로 정한다.
+ * <p>
+ * 실행: java -cp bin-test io.github.bookrentalteam.bookrental.cache.WTinyLfuCacheTest [seed]
+ */
+public class WTinyLfuCacheTest {
+
+	private static final int ROUNDS = 20;
+	private static final int WRITERS = 2;
+	private static final int READERS = 3;
+	private static final int WRITES = 3_000;
+	private static final int KEYWORDS = 6;
+	private static final int REGISTRATIONS = 150;
+
+	public static void main(String[] args) throws Exception {
+		Check.run("WTinyLfuCacheTest", args, ROUNDS, random -> {
+			cacheRound(random);
+			serviceRound(random);
+		});
+	}
+
+	private static void cacheRound(Random random) throws InterruptedException {
+		int keys = 8 + random.nextInt(57);
+		int capacity = 4 + random.nextInt(keys * 2); // 키보다 작으면 퇴출/입장 거절도 섞임
+		WTinyLfuCache<Integer, Long> cache = new WTinyLfuCache<>(capacity);
+		AtomicLongArray source = new AtomicLongArray(keys); // 키 → 현재 값 (올리기만 함)
+		AtomicLongArray invalidated = new AtomicLongArray(keys); // 키 → 무효화(또는 put)까지 끝난 값
+		LongAdder requests = new LongAdder();
+
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		AtomicBoolean done = new AtomicBoolean();
+		List<Thread> writers = new ArrayList<>();
+		for (int w = 0; w < WRITERS; w++) {
+			int owner = w;
+			Random own = new Random(random.nextLong());
+			// 키마다 한 스레드만 쓰므로 같은 키의 put 순서가 뒤바뀌지 않음
+			writers.add(start(failure, done, () -> {
+				for (int i = 0; i < WRITES && !done.get(); i++) {
+					int key = owner + WRITERS * own.nextInt((keys - owner + WRITERS - 1) / WRITERS);
+					long value = source.incrementAndGet(key);
+					int kind = own.nextInt(10);
+					if (kind < 6) {
+						cache.invalidate(key);
+					} else if (kind < 8) {
+						int mod = 1 + own.nextInt(4);
+						cache.invalidateIf(k -> k == key || k % mod == 0);
+					} else {
+						cache.put(key, value);
+					}
+					invalidated.accumulateAndGet(key, value, Math::max);
+				}
+			}));
+		}
+		List<Thread> readers = new ArrayList<>();
+		for (int r = 0; r < READERS; r++) {
+			Random own = new Random(random.nextLong());
+			readers.add(start(failure, done, () -> {
+				while (!done.get()) {
+					int key = own.nextInt(keys);
+					long floor = invalidated.get(key);
+					Long value;
+					if (own.nextInt(4) == 0) {
+						value = cache.getIfPresent(key);
+					} else {
+						int kind = own.nextInt(20);
+						try {
+							value = cache.get(key, k -> {
+								long loaded = source.get(k);
+								if (kind < 5) {
+									Thread.yield(); // 읽은 뒤 넣기 전에 무효화가 끼어들 틈
+								} else if (kind == 5) {
+									return null; // 캐시하지 않음
+								} else if (kind == 6) {
+									throw new IllegalStateException("적재 실패");
+								}
+								return loaded;
+							});
+						} catch (IllegalStateException e) {
+							value = null;
+						}
+					}
+					requests.increment();
+					Long seen = value;
+					Check.that(seen == null || seen >= floor,
+							() -> "키 " + key + ": 값 " + floor + "의 무효화가 끝난 뒤 " + seen + "을 받음");
+				}
+			}));
+		}
+		for (Thread t : writers) {
+			t.join();
+		}
+		done.set(true);
+		for (Thread t : readers) {
+			t.join();
+		}
+		if (failure.get() != null) {
+			throw new AssertionError("검사 스레드 실패", failure.get());
+		}
+
+		CacheStats stats = cache.stats();
+		Check.equal(requests.sum(), stats.requestCount(), () -> "요청 수 (적중 + 부재)");
+		Check.that(cache.size() <= capacity, () -> "캐시 크기 " + cache.size() + " > " + capacity);
+		for (int key = 0; key < keys; key++) {
+			int k = key;
+			Long cached = cache.getIfPresent(key);
+			Check.that(cached == null || cached == source.get(key), () -> "키 " + k + ": 끝난 뒤 남은 값 " + cached
+					+ " (현재 " + source.get(k) + ")");
+			Check.equal(source.get(key), cache.get(key, source::get), () -> "키 " + k + " 다시 적재");
+		}
+	}
+
+	private static void serviceRound(Random random) throws InterruptedException {
+		EventBus events = new EventBus();
+		CachingBookService service = new CachingBookService(new BookServiceImpl(new InMemoryBookRepository(), events),
+				64, 2 + random.nextInt(KEYWORDS * 2));
+		AtomicIntegerArray registered = new AtomicIntegerArray(KEYWORDS); // 검색어 → 등록이 끝난 도서 수
+		Random own = new Random(random.nextLong());
+
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		AtomicBoolean done = new AtomicBoolean();
+		Thread registrar = start(failure, done, () -> {
+			int n = 0;
+			while (n < REGISTRATIONS && !done.get()) {
+				int kind = own.nextInt(10);
+				int count = (kind < 6) ? 1 : (kind < 9) ? 2 + own.nextInt(4) : 65 + own.nextInt(10); // 큰 묶음은 전체 무효화
+				List<Book> books = new ArrayList<>(count);
+				for (int i = 0; i < count; i++, n++) {
+					books.add(new Book("C-" + n, "도서 kw" + (n % KEYWORDS) + " " + n, "저자", 1));
+				}
+				if (count == 1) {
+					Book b = books.get(0);
+					service.registerBook(b.getIsbn(), b.getTitle(), b.getAuthor(), b.getTotalCopies());
+				} else {
+					service.registerBooks(books);
+				}
+				for (Book b : books) {
+					registered.incrementAndGet(keyword(b));
+				}
+			}
+		});
+		List<Thread> searchers = new ArrayList<>();
+		for (int s = 0; s < READERS; s++) {
+			Random mine = new Random(random.nextLong());
+			searchers.add(start(failure, done, () -> {
+				while (!done.get()) {
+					int keyword = mine.nextInt(KEYWORDS);
+					int floor = registered.get(keyword);
+					List<Book> found = mine.nextBoolean() ? service.searchBooks("kw" + keyword)
+							: service.searchBooks("KW" + keyword + " ", 1_000); // 정규화하면 같은 검색어, 다른 캐시 키
+					Check.that(found.size() >= floor, () -> "kw" + keyword + ": 등록이 끝난 " + floor + "권 중 "
+							+ found.size() + "권만 검색됨");
+				}
+			}));
+		}
+		registrar.join();
+		done.set(true);
+		for (Thread t : searchers) {
+			t.join();
+		}
+		events.close();
+		if (failure.get() != null) {
+			throw new AssertionError("검사 스레드 실패", failure.get());
+		}
+		for (int keyword = 0; keyword < KEYWORDS; keyword++) {
+			int k = keyword;
+			Check.equal(registered.get(keyword), service.searchBooks("kw" + keyword).size(), () -> "끝난 뒤 kw" + k + " 검색");
+		}
+	}
+
+	private static int keyword(Book book) {
+		int at = book.getTitle().indexOf("kw") + 2;
+		return book.getTitle().charAt(at) - '0';
+	}
+
+	private static Thread start(AtomicReference<Throwable> failure, AtomicBoolean done, Runnable body) {
+		Thread thread = new Thread(() -> {
+			try {
+				body.run();
+			} catch (Throwable e) {
+				failure.compareAndSet(null, e);
+				done.set(true);
+			}
+		});
+		thread.start();
+		return thread;
+	}
+}
@@ -0,0 +1,113 @@
+package io.github.bookrentalteam.bookrental.event;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.github.bookrentalteam.bookrental.Check;
+import io.github.bookrentalteam.bookrental.event.DomainEvent.RentalExtended;
+import io.github.bookrentalteam.bookrental.event.EventBus.Delivery;
+
+/**
+ * EventBus 동시성 검사 - 작은 버퍼에 여러 스레드가 동시에 발행하며 다음을 확인한다.
+ * <ul>
+ * <li>RELIABLE 구독자는 모든 이벤트를 한 번씩, 발행자별 순서대로 받는다.</li>
+ * <li>잠금 안에서 claim으로 순번을 받은 이벤트는 잠금을 얻은 순서(커밋 순서)대로 전달된다.</li>
+ * <li>느린 LOSSY 구독자는 발행자를 막지 않으며, 받은 수 + droppedCount가 발행 수와 같고 순서가 뒤바뀌거나 중복되지 않는다.</li>
+ * </ul>
+ * 스레드 교차는 시드로 재현되지 않으므로 버퍼 크기/발행자 수/발행 수만 시드로 정한다.
+ * <p>
+ * 실행: java -cp bin-test io.github.bookrentalteam.bookrental.event.EventBusTest [seed]
+ */
+public class EventBusTest {
+
+	private static final int ROUNDS = 30;
+	private static final long CLAIMED = 1_000; // claim 발행자의 rentalId (나머지는 발행자 번호)
+	private static final LocalDate DUE = LocalDate.of(2026, 1, 1);
+
+	public static void main(String[] args) throws Exception {
+		Check.run("EventBusTest", args, ROUNDS, EventBusTest::run);
+	}
+
+	private static void run(Random random) throws InterruptedException {
+		EventBus bus = new EventBus(1 << (2 + random.nextInt(5))); // 4 ~ 64칸 - 자주 한 바퀴 밀림
+		int producers = 2 + random.nextInt(3);
+		int perProducer = 2_000 + random.nextInt(3_000);
+		int lossyPause = 1 + random.nextInt(50); // LOSSY 구독자가 이만큼마다 잠깐 멈춤
+
+		List<RentalExtended> reliable = new ArrayList<>();
+		List<RentalExtended> lossy = new ArrayList<>();
+		bus.subscribe("reliable", Delivery.RELIABLE, (e, end) -> reliable.add((RentalExtended) e));
+		bus.subscribe("lossy", Delivery.LOSSY, (e, end) -> {
+			lossy.add((RentalExtended) e);
+			if (lossy.size() % lossyPause == 0) {
+				Thread.sleep(0, 200_000);
+			}
+		});
+
+		// 절반은 publish(event), 절반은 공유 잠금 안에서 claim 후 잠금 밖에서 publish(seq, event)
+		ReentrantLock commitLock = new ReentrantLock();
+		AtomicLong commits = new AtomicLong();
+		List<Thread> threads = new ArrayList<>();
+		for (int p = 0; p < producers; p++) {
+			long producer = p;
+			boolean claimed = p % 2 == 1;
+			threads.add(new Thread(() -> {
+				for (int i = 0; i < perProducer; i++) {
+					if (!claimed) {
+						bus.publish(new RentalExtended(producer, i, DUE));
+						continue;
+					}
+					long seq;
+					RentalExtended event;
+					commitLock.lock();
+					try {
+						event = new RentalExtended(CLAIMED, commits.incrementAndGet(), DUE);
+						seq = bus.claim(1);
+					} finally {
+						commitLock.unlock();
+					}
+					bus.publish(seq, event);
+				}
+			}));
+		}
+		threads.forEach(Thread::start);
+		for (Thread t : threads) {
+			t.join();
+		}
+		bus.close(); // 구독자가 남은 이벤트를 모두 처리할 때까지 대기
+
+		long total = (long) producers * perProducer;
+		Check.equal(total, (long) reliable.size(), () -> "RELIABLE 구독자가 받은 수");
+		checkOrder(reliable, producers, "RELIABLE");
+		Check.equal(total, lossy.size() + bus.droppedCount(), () -> "LOSSY 받은 수 + 버린 수");
+		checkOrder(lossy, producers, "LOSSY");
+	}
+
+	// 발행자별 번호가 증가 순인지 (RELIABLE이면 빠짐 없이 연속)
+	private static void checkOrder(List<RentalExtended> received, int producers, String who) {
+		long[] last = new long[producers];
+		Arrays.fill(last, -1);
+		long lastCommit = 0;
+		boolean gapless = who.equals("RELIABLE");
+		for (RentalExtended e : received) {
+			if (e.rentalId() == CLAIMED) {
+				long commit = e.memberId();
+				long before = lastCommit;
+				Check.that(gapless ? commit == before + 1 : commit > before,
+						() -> who + ": 커밋 순서 " + before + " 다음에 " + commit);
+				lastCommit = commit;
+			} else {
+				int p = (int) e.rentalId();
+				long before = last[p];
+				Check.that(gapless ? e.memberId() == before + 1 : e.memberId() > before,
+						() -> who + ": 발행자 " + p + "의 " + before + " 다음에 " + e.memberId());
+				last[p] = e.memberId();
+			}
+		}
+	}
+}
@@ -0,0 +1,152 @@
+package io.github.bookrentalteam.bookrental.repository.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import io.github.bookrentalteam.bookrental.Check;
+import io.github.bookrentalteam.bookrental.domain.Book;
+import io.github.bookrentalteam.bookrental.domain.Member;
+import io.github.bookrentalteam.bookrental.domain.Rental;
+import io.github.bookrentalteam.bookrental.domain.Role;
+
+/**
+ * JournalStore 복구 검사 - 무작위 변경(중복 ISBN/이메일 거절, 일괄 저장, 반납, 삭제, 중간 스냅샷) 뒤 닫지 않고(비정상 종료) 다시 열어
+ * 복구한 상태가 실행 중 메모리 상태와 같은지 확인한다. 절반은 저널 끝에 잘린 레코드를 덧붙여 쓰던 중 중단된 경우를 흉내 낸다.
+ * <p>
+ * 실행: java -cp bin-test io.github.bookrentalteam.bookrental.repository.journal.JournalStoreTest [seed]
+ */
+public class JournalStoreTest {
+
+	private static final int ROUNDS = 20;
+	private static final int STEPS = 300;
+
+	public static void main(String[] args) throws Exception {
+		Check.run("JournalStoreTest", args, ROUNDS, JournalStoreTest::run);
+	}
+
+	private static void run(Random random) throws IOException {
+		Path dir = Files.createTempDirectory("journal-test");
+		try {
+			JournalStore store = JournalStore.open(dir);
+			List<Book> books = new ArrayList<>();
+			List<Member> members = new ArrayList<>();
+			List<Rental> open = new ArrayList<>();
+			for (int step = 0; step < STEPS; step++) {
+				mutate(random, store, books, members, open);
+			}
+			State live = State.of(store);
+
+			if (random.nextBoolean()) {
+				// 쓰던 중 중단된 레코드: 길이만 있고 본문이 모자람
+				Files.write(dir.resolve("journal.bin"), new byte[] { 0, 0, 0, 40, 1, 2, 3 }, StandardOpenOption.APPEND);
+			}
+			JournalStore recovered = JournalStore.open(dir); // close 없이 다시 열기
+			Check.equal(live, State.of(recovered), () -> "비정상 종료 후 복구");
+			store.close();
+
+			recovered.snapshot();
+			recovered.close();
+			JournalStore reopened = JournalStore.open(dir);
+			Check.equal(live, State.of(reopened), () -> "스냅샷 후 다시 열기");
+			reopened.close();
+		} finally {
+			delete(dir);
+		}
+	}
+
+	private static void mutate(Random random, JournalStore store, List<Book> books, List<Member> members,
+			List<Rental> open) throws IOException {
+		int op = random.nextInt(20);
+		try {
+			if (op < 4 || books.isEmpty()) { // 도서 등록 - 가끔 기존 ISBN (대소문자만 다름)
+				String isbn = (!books.isEmpty() && random.nextInt(4) == 0)
+						? books.get(random.nextInt(books.size())).getIsbn().toLowerCase()
+						: "JR-" + random.nextInt(1_000_000);
+				Book book = new Book(isbn, "제목" + random.nextInt(100), "저자", 1 + random.nextInt(3));
+				store.bookRepository().save(book);
+				books.add(book);
+			} else if (op < 6) { // 일괄 등록 - 중간에 중복 ISBN이 끼면 그 건만 거절
+				List<Book> batch = new ArrayList<>();
+				for (int i = 0, n = 1 + random.nextInt(5); i < n; i++) {
+					String isbn = (random.nextInt(5) == 0) ? books.get(random.nextInt(books.size())).getIsbn()
+							: "JB-" + random.nextInt(1_000_000);
+					batch.add(new Book(isbn, "묶음" + i, "저자", 2));
+				}
+				try {
+					store.bookRepository().saveAll(batch);
+				} finally {
+					batch.stream().filter(b -> store.bookRepository().findById(b.getId()).isPresent())
+							.forEach(books::add);
+				}
+			} else if (op < 8 || members.isEmpty()) { // 회원 가입 - 가끔 기존 이메일
+				String email = (!members.isEmpty() && random.nextInt(4) == 0)
+						? members.get(random.nextInt(members.size())).getEmail()
+						: "m" + random.nextInt(1_000_000) + "@test.com";
+				Member member = new Member("회원", email, "0".repeat(64), Role.USER);
+				store.memberRepository().save(member);
+				members.add(member);
+			} else if (op < 13) { // 대여 - 재고 차감 후 기록
+				Book book = books.get(random.nextInt(books.size()));
+				if (store.bookRepository().findById(book.getId()).isPresent() && book.rent()) {
+					Rental rental = new Rental(book.getId(), members.get(random.nextInt(members.size())).getId());
+					store.rentalRepository().save(rental);
+					open.add(rental);
+				}
+			} else if (op < 16 && !open.isEmpty()) { // 반납 - 기록 후 재고 복원
+				Rental rental = open.remove(random.nextInt(open.size()));
+				store.rentalRepository().save(rental.returnedCopy(null));
+				store.bookRepository().findById(rental.getBookId()).ifPresent(Book::returnBook);
+			} else if (op < 17) { // 회원 정지
+				Member member = members.get(random.nextInt(members.size()));
+				member.suspend(1 + random.nextInt(10));
+				store.memberRepository().save(member);
+			} else if (op < 18) { // 대여 중이 아닌 도서 삭제
+				Book book = books.get(random.nextInt(books.size()));
+				if (open.stream().noneMatch(r -> r.getBookId().equals(book.getId()))) {
+					store.bookRepository().delete(book.getId());
+				}
+			} else if (op < 19) {
+				store.snapshot();
+			}
+		} catch (IllegalStateException e) {
+			// 중복 ISBN/이메일 - 저널에는 남지만 메모리에는 반영되지 않음 (복구 시에도 건너뛰어야 함)
+		}
+	}
+
+	private static void delete(Path dir) throws IOException {
+		try (Stream<Path> files = Files.walk(dir)) {
+			files.sorted(Comparator.reverseOrder()).forEach(p -> {
+				try {
+					Files.delete(p);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		}
+	}
+
+	// 저장소 전체를 저널 형식으로 직렬화해 비교 (ID 순)
+	private record State(List<String> books, List<String> members, List<String> rentals) {
+
+		static State of(JournalStore store) {
+			return new State(encode(store.bookRepository().findAll(), Book::getId, EntityCodec::encodeBook),
+					encode(store.memberRepository().findAll(), Member::getId, EntityCodec::encodeMember),
+					encode(store.rentalRepository().findAll(), Rental::getId, EntityCodec::encodeRental));
+		}
+
+		private static <T> List<String> encode(List<T> items, Function<T, Long> id, Function<T, byte[]> codec) {
+			return items.stream().sorted(Comparator.comparing(id)).map(codec).map(HexFormat.of()::formatHex)
+					.toList();
+		}
+	}
+}
@@ -0,0 +1,143 @@
+package io.github.bookrentalteam.bookrental.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import io.github.bookrentalteam.bookrental.Check;
+import io.github.bookrentalteam.bookrental.domain.Book;
+
+/**
+ * FuzzyIndex 무작위 대조 검사 - BK-트리 검색(가지치기, 거리 cutoff)이 모든 단어와 거리를 직접 계산한 결과와 같은지 확인한다.
+ * <p>
+ * 실행: java -cp bin-test io.github.bookrentalteam.bookrental.search.FuzzyIndexTest [seed]
+ */
+public class FuzzyIndexTest {
+
+	private static final String LETTERS = "abcd"; // 좁은 알파벳 - 거리 1~2인 단어가 많이 생겨 가지치기 경계를 자주 지남
+	private static final String[] SYLLABLES = { "가", "각", "강", "나", "자", "차", "괴", "츠" }; // 자모 분해 경로
+	private static final int ROUNDS = 20;
+	private static final int DISTANCE_PAIRS = 1_000; // 라운드마다
+	private static final int BOOKS = 300;
+	private static final int QUERIES = 200;
+
+	public static void main(String[] args) throws Exception {
+		Check.run("FuzzyIndexTest", args, ROUNDS, random -> {
+			checkDistance(random);
+			checkSearch(random);
+		});
+	}
+
+	// cutoff 거리: 실제 거리가 cutoff 이하면 그대로, 넘으면 cutoff + 1
+	private static void checkDistance(Random random) {
+		int[] rows = new int[2];
+		for (int i = 0; i < DISTANCE_PAIRS; i++) {
+			String a = word(random);
+			String b = word(random);
+			int cutoff = random.nextInt(6);
+			int full = levenshtein(a, b);
+			int expected = Math.min(full, cutoff + 1);
+			int actual = FuzzyIndex.distance(a, b, rows, cutoff);
+			Check.equal(expected, actual, () -> "distance(" + a + ", " + b + ", cutoff=" + cutoff + ")");
+		}
+	}
+
+	private static void checkSearch(Random random) {
+		FuzzyIndex index = new FuzzyIndex();
+		Map<Long, Set<String>> termsByBook = new HashMap<>();
+		for (int i = 0; i < BOOKS; i++) {
+			Book book = new Book("FZ-" + i, phrase(random, 1 + random.nextInt(3)), word(random), 1);
+			Set<String> terms = new HashSet<>(terms(book.getTitle()));
+			terms.addAll(terms(book.getAuthor()));
+			termsByBook.put(book.getId(), terms);
+			index.add(book);
+		}
+
+		for (int i = 0; i < QUERIES; i++) {
+			String keyword = phrase(random, 1 + random.nextInt(2));
+			List<Long> expected = bruteForce(termsByBook, terms(keyword));
+			for (int limit : new int[] { 1, 5, Integer.MAX_VALUE }) {
+				List<Long> top = expected.subList(0, Math.min(limit, expected.size()));
+				Check.equal(top, index.search(keyword, limit), () -> "search(\"" + keyword + "\", " + limit + ")");
+			}
+		}
+	}
+
+	// 모든 도서의 모든 단어와 거리를 계산해 FuzzyIndex와 같은 점수/순서로 정렬
+	private static List<Long> bruteForce(Map<Long, Set<String>> termsByBook, List<String> queryTerms) {
+		Map<Long, Integer> scores = new HashMap<>();
+		for (Map.Entry<Long, Set<String>> book : termsByBook.entrySet()) {
+			int score = 0;
+			for (String q : queryTerms) {
+				int max = FuzzyIndex.maxDistance(q.length());
+				int best = 0;
+				for (String term : book.getValue()) {
+					int d = levenshtein(q, term);
+					if (d <= max) {
+						best = Math.max(best, max + 1 - d);
+					}
+				}
+				score += best;
+			}
+			if (score > 0) {
+				scores.put(book.getKey(), score);
+			}
+		}
+		List<Long> ids = new ArrayList<>(scores.keySet());
+		ids.sort(Comparator.<Long>comparingInt(scores::get).reversed().thenComparing(Comparator.naturalOrder()));
+		return ids;
+	}
+
+	private static List<String> terms(String text) {
+		List<String> terms = new ArrayList<>();
+		for (String token : BookSearchIndex.tokenize(BookSearchIndex.normalize(text))) {
+			terms.add(Hangul.decompose(token));
+		}
+		return terms;
+	}
+
+	private static String phrase(Random random, int words) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < words; i++) {
+			sb.append((i > 0) ? " " : "").append(word(random));
+		}
+		return sb.toString();
+	}
+
+	private static String word(Random random) {
+		StringBuilder sb = new StringBuilder();
+		int length = 1 + random.nextInt(6);
+		boolean hangul = random.nextInt(4) == 0;
+		for (int i = 0; i < length; i++) {
+			if (hangul) {
+				sb.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+			} else {
+				sb.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+			}
+		}
+		return sb.toString();
+	}
+
+	// 전체 표를 채우는 레벤슈타인 거리 (대조용)
+	private static int levenshtein(String a, String b) {
+		int[][] d = new int[a.length() + 1][b.length() + 1];
+		for (int i = 0; i <= a.length(); i++) {
+			d[i][0] = i;
+		}
+		for (int j = 0; j <= b.length(); j++) {
+			d[0][j] = j;
+		}
+		for (int i = 1; i <= a.length(); i++) {
+			for (int j = 1; j <= b.length(); j++) {
+				int cost = (a.charAt(i - 1) == b.charAt(j - 1)) ? 0 : 1;
+				d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+			}
+		}
+		return d[a.length()][b.length()];
+	}
+}
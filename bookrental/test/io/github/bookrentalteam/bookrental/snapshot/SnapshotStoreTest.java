@@ -0,0 +1,334 @@
+package io.github.bookrentalteam.bookrental.snapshot;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.github.bookrentalteam.bookrental.Check;
+import io.github.bookrentalteam.bookrental.domain.Book;
+import io.github.bookrentalteam.bookrental.domain.Rental;
+import io.github.bookrentalteam.bookrental.repository.BookRepository;
+import io.github.bookrentalteam.bookrental.repository.RentalRepository;
+import io.github.bookrentalteam.bookrental.repository.impl.InMemoryBookRepository;
+import io.github.bookrentalteam.bookrental.repository.impl.InMemoryRentalRepository;
+
+/**
+ * SnapshotStore 동시성 검사 - 쓰기 스레드들이 대여/연장/반납/삭제(일부는 saveAll로 여러 건을 한 번에)와 도서 정보 수정을 하는 동안 읽기
+ * 스레드들이 뷰를 열어 다음을 확인한다.
+ * <ul>
+ * <li>뷰의 값은 모두 실제로 저장한 적 있는 값이고, 같은 스레드가 나중에 연 뷰는 그 기록의 더 이전 값으로 돌아가지 않는다.</li>
+ * <li>한 번에 저장한 여러 건은 전부 보이거나 전혀 보이지 않는다.</li>
+ * <li>뷰의 도서별 대여 중 권수는 같은 뷰의 반납 전 대여 수와 같다.</li>
+ * <li>뷰를 연 채로 변경이 이어져도 다시 읽으면 처음과 같고, 전체 순회는 ID 순이며 단건 조회와 맞는다.</li>
+ * <li>변경이 끝난 뒤 연 뷰는 감싼 저장소의 현재 상태와 같다.</li>
+ * </ul>
+ * 스레드 교차는 시드로 재현되지 않으므로 도서 수/권수와 스레드별 작업 순서만 시드로 정한다.
+ * <p>
+ * 실행: java -cp bin-test io.github.bookrentalteam.bookrental.snapshot.SnapshotStoreTest [seed]
+ */
+public class SnapshotStoreTest {
+
+	private static final int ROUNDS = 10;
+	private static final int WRITERS = 3;
+	private static final int READERS = 2;
+	private static final int OPS = 1_500;
+
+	public static void main(String[] args) throws Exception {
+		Check.run("SnapshotStoreTest", args, ROUNDS, SnapshotStoreTest::run);
+	}
+
+	/** 한 번에 저장한 대여들과 각 대여의 기록에서 이 저장이 차지하는 위치 */
+	private record Batch(long[] ids, int[] positions) {
+	}
+
+	/** 뷰와 연 직후에 읽은 내용 (닫기 전에 다시 읽어 비교) */
+	private record Held(ReadView view, List<BookVersion> books, List<RentalVersion> rentals) {
+	}
+
+	/** 라운드 공유 기록 - ID별로 저장한 값을 저장 전에 순서대로 덧붙임 (null은 없음: 첫 저장 전이나 삭제 후) */
+	private static final class History {
+		final Map<Long, List<RentalVersion>> rentals = new ConcurrentHashMap<>();
+		final Map<Long, List<String>> titles = new ConcurrentHashMap<>();
+		final Queue<Batch> batches = new ConcurrentLinkedQueue<>();
+		final Map<Long, AtomicInteger> available = new ConcurrentHashMap<>(); // 도서 ID → 남은 권수 (검사가 관리)
+		final List<Long> bookIds = new ArrayList<>();
+
+		int record(long id, RentalVersion value) {
+			List<RentalVersion> values = rentals.computeIfAbsent(id,
+					k -> new CopyOnWriteArrayList<>(Collections.singletonList(null)));
+			values.add(value);
+			return values.size() - 1;
+		}
+	}
+
+	private static void run(Random random) throws InterruptedException {
+		BookRepository bookSource = new InMemoryBookRepository();
+		RentalRepository rentalSource = new InMemoryRentalRepository();
+		History history = new History();
+		int books = 3 + random.nextInt(6);
+		for (int i = 0; i < books; i++) {
+			Book book = new Book("SS-" + i, "도서" + i, "저자", 1 + random.nextInt(4));
+			bookSource.save(book);
+			history.bookIds.add(book.getId());
+			history.titles.put(book.getId(), new CopyOnWriteArrayList<>(List.of(book.getTitle())));
+			history.available.put(book.getId(), new AtomicInteger(book.getTotalCopies()));
+		}
+		// 감싸기 전부터 있던 대여 (버전 0) - 첫 쓰기 스레드의 몫
+		List<Rental> seeded = new ArrayList<>();
+		for (long bookId : history.bookIds) {
+			if (random.nextBoolean()) {
+				Rental rental = new Rental(bookId, 1L);
+				rentalSource.save(rental);
+				history.rentals.put(rental.getId(), new CopyOnWriteArrayList<>(List.of(RentalVersion.of(rental))));
+				history.available.get(bookId).decrementAndGet();
+				seeded.add(rental);
+			}
+		}
+		SnapshotStore store = new SnapshotStore(bookSource, rentalSource);
+
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		AtomicBoolean done = new AtomicBoolean();
+		List<Thread> writers = new ArrayList<>();
+		for (int w = 0; w < WRITERS; w++) {
+			long memberId = w + 1;
+			Random own = new Random(random.nextLong());
+			List<Rental> open = (w == 0) ? seeded : new ArrayList<>();
+			writers.add(start(failure, done, () -> write(store, history, own, memberId, open, memberId == 1)));
+		}
+		List<Thread> readers = new ArrayList<>();
+		for (int r = 0; r < READERS; r++) {
+			Random own = new Random(random.nextLong());
+			readers.add(start(failure, done, () -> read(store, history, own, done)));
+		}
+		for (Thread t : writers) {
+			t.join();
+		}
+		done.set(true);
+		for (Thread t : readers) {
+			t.join();
+		}
+		if (failure.get() != null) {
+			throw new AssertionError("검사 스레드 실패", failure.get());
+		}
+
+		try (ReadView view = store.openView()) {
+			List<RentalVersion> rentals = rentalSource.stream().map(RentalVersion::of)
+					.sorted(Comparator.comparingLong(RentalVersion::id)).toList();
+			Check.equal(rentals, view.rentals().toList(), () -> "변경이 끝난 뒤의 대여 기록");
+			Map<Long, Integer> rented = rentedCounts(rentals);
+			List<BookVersion> expected = bookSource.stream()
+					.map(b -> BookVersion.of(b).withRented(rented.getOrDefault(b.getId(), 0)))
+					.sorted(Comparator.comparingLong(BookVersion::id)).toList();
+			Check.equal(expected, view.books().toList(), () -> "변경이 끝난 뒤의 도서");
+		}
+	}
+
+	private static Thread start(AtomicReference<Throwable> failure, AtomicBoolean done, Runnable body) {
+		Thread thread = new Thread(() -> {
+			try {
+				body.run();
+			} catch (Throwable e) {
+				failure.compareAndSet(null, e);
+				done.set(true);
+			}
+		});
+		thread.start();
+		return thread;
+	}
+
+	// 한 회원(쓰기 스레드)의 대여만 바꾸므로 같은 대여를 두 스레드가 동시에 바꾸지 않음 (서비스의 회원별 잠금과 같은 조건)
+	private static void write(SnapshotStore store, History history, Random random, long memberId, List<Rental> open,
+			boolean librarian) {
+		RentalRepository rentals = store.rentalRepository();
+		List<Rental> returned = new ArrayList<>();
+		for (int op = 0; op < OPS; op++) {
+			int kind = random.nextInt(10);
+			if (kind < 4) { // 대여 1~3건
+				List<Rental> batch = new ArrayList<>();
+				for (int i = 1 + random.nextInt(3); i > 0; i--) {
+					long bookId = history.bookIds.get(random.nextInt(history.bookIds.size()));
+					if (history.available.get(bookId).getAndUpdate(n -> (n > 0) ? n - 1 : n) > 0) {
+						batch.add(new Rental(bookId, memberId));
+					}
+				}
+				save(rentals, history, batch);
+				open.addAll(batch);
+			} else if (kind < 6 && !open.isEmpty()) { // 연장
+				int index = random.nextInt(open.size());
+				if (open.get(index).getExtensionCount() == 0) {
+					Rental extended = open.get(index).extendedCopy();
+					save(rentals, history, List.of(extended));
+					open.set(index, extended);
+				}
+			} else if (kind < 8 && !open.isEmpty()) { // 반납 1~2건
+				List<Rental> batch = new ArrayList<>();
+				for (int i = 1 + random.nextInt(2); i > 0 && !open.isEmpty(); i--) {
+					batch.add(open.remove(random.nextInt(open.size())).returnedCopy(null));
+				}
+				save(rentals, history, batch);
+				batch.forEach(r -> history.available.get(r.getBookId()).incrementAndGet()); // 반납이 커밋된 뒤에 재고 반환
+				returned.addAll(batch);
+			} else if (kind < 9 && !returned.isEmpty()) { // 반납 완료 대여 삭제
+				Rental rental = returned.remove(random.nextInt(returned.size()));
+				history.record(rental.getId(), null);
+				rentals.delete(rental.getId());
+			} else if (librarian) { // 도서 정보 수정
+				long bookId = history.bookIds.get(random.nextInt(history.bookIds.size()));
+				Book book = store.bookRepository().findById(bookId).get();
+				String title = "도서-" + op;
+				history.titles.get(bookId).add(title);
+				store.bookRepository().save(Book.restore(bookId, book.getIsbn(), title, book.getAuthor(),
+						book.getTotalCopies(), book.getAvailableCopies()));
+			}
+			if (op % 8 == 0) {
+				Thread.yield(); // 읽기 스레드가 쓰기 사이사이에 뷰를 열도록
+			}
+		}
+	}
+
+	private static void save(RentalRepository rentals, History history, List<Rental> batch) {
+		if (batch.isEmpty()) {
+			return;
+		}
+		long[] ids = new long[batch.size()];
+		int[] positions = new int[batch.size()];
+		for (int i = 0; i < batch.size(); i++) {
+			ids[i] = batch.get(i).getId();
+			positions[i] = history.record(ids[i], RentalVersion.of(batch.get(i)));
+		}
+		if (batch.size() == 1) {
+			rentals.save(batch.get(0));
+		} else {
+			history.batches.add(new Batch(ids, positions));
+			rentals.saveAll(batch);
+		}
+	}
+
+	private static void read(SnapshotStore store, History history, Random random, AtomicBoolean done) {
+		Map<Long, Integer> seenRentals = new HashMap<>(); // 이 스레드가 직전 뷰에서 본 기록 위치
+		Map<Long, Integer> seenTitles = new HashMap<>();
+		Deque<Held> held = new ArrayDeque<>(); // 다음 뷰를 여는 동안에도 열어 두는 뷰 (최대 3개)
+		long lastVersion = 0;
+		try {
+			do {
+				ReadView view = store.openView();
+				long previous = lastVersion;
+				Check.that(view.version() >= previous, () -> "뷰 버전이 " + previous + "에서 " + view.version() + "로 후퇴");
+				lastVersion = view.version();
+				held.add(inspect(view, history, seenRentals, seenTitles));
+				int keep = random.nextInt(4);
+				while (held.size() > keep) {
+					recheck(held.poll());
+				}
+			} while (!done.get());
+		} finally {
+			held.forEach(h -> h.view().close());
+		}
+	}
+
+	private static Held inspect(ReadView view, History history, Map<Long, Integer> seenRentals,
+			Map<Long, Integer> seenTitles) {
+		List<Batch> batches = new ArrayList<>(history.batches); // 기록을 훑기 전에 - 묶음의 대여는 모두 기록에 있음
+		List<BookVersion> books = view.books().toList();
+		List<RentalVersion> rentals = view.rentals().toList();
+		Map<Long, RentalVersion> byId = new HashMap<>();
+		long lastId = Long.MIN_VALUE;
+		for (RentalVersion rental : rentals) {
+			long before = lastId;
+			Check.that(rental.id() > before, () -> "대여 순회가 ID 순이 아님: " + before + " 다음에 " + rental.id());
+			Check.that(history.rentals.containsKey(rental.id()), () -> "저장한 적 없는 대여: " + rental);
+			byId.put(rental.id(), rental);
+			lastId = rental.id();
+		}
+
+		// 대여별로 기록 중 몇 번째 값인지 - 없음(null)은 첫 저장 전이거나 삭제 후라 여러 위치일 수 있어 [첫 위치, 마지막 위치]
+		Map<Long, int[]> at = new HashMap<>();
+		for (Map.Entry<Long, List<RentalVersion>> e : history.rentals.entrySet()) {
+			long id = e.getKey();
+			RentalVersion value = view.rental(id).orElse(null);
+			Check.equal(byId.get(id), value, () -> "대여 " + id + " 단건 조회와 전체 순회");
+			List<RentalVersion> values = e.getValue();
+			int first = position(values, value, seenRentals.getOrDefault(id, 0));
+			Check.that(first >= 0, () -> "대여 " + id + ": 저장한 적 없거나 이전으로 돌아간 값 " + value + " (기록 " + values + ")");
+			at.put(id, new int[] { first, values.lastIndexOf(value) });
+			seenRentals.put(id, first);
+		}
+		for (Batch batch : batches) {
+			boolean allBefore = true;
+			boolean allAfter = true;
+			for (int i = 0; i < batch.ids().length; i++) {
+				int[] range = at.get(batch.ids()[i]);
+				allBefore &= range[0] < batch.positions()[i];
+				allAfter &= range[1] >= batch.positions()[i];
+			}
+			Check.that(allBefore || allAfter, () -> "한 번에 저장한 대여 중 일부만 보임: " + view.rentals()
+					.filter(r -> contains(batch.ids(), r.id())).toList());
+		}
+
+		Map<Long, Integer> rented = rentedCounts(rentals);
+		Check.equal(history.bookIds.size(), books.size(), () -> "뷰의 도서 수");
+		lastId = Long.MIN_VALUE;
+		for (BookVersion book : books) {
+			long before = lastId;
+			Check.that(book.id() > before, () -> "도서 순회가 ID 순이 아님: " + before + " 다음에 " + book.id());
+			Check.equal(book, view.book(book.id()).orElse(null), () -> "도서 " + book.id() + " 단건 조회와 전체 순회");
+			Check.equal(rented.getOrDefault(book.id(), 0), book.rentedCopies(), () -> "도서 " + book.id() + " 대여 중 권수");
+			List<String> titles = history.titles.get(book.id());
+			int position = position(titles, book.title(), seenTitles.getOrDefault(book.id(), 0));
+			Check.that(position >= 0, () -> "도서 " + book.id() + ": 저장한 적 없거나 이전으로 돌아간 제목 " + book.title());
+			seenTitles.put(book.id(), position);
+			lastId = book.id();
+		}
+		return new Held(view, books, rentals);
+	}
+
+	// 연 뒤에 변경이 이어졌어도 처음 읽은 내용과 같아야 함
+	private static void recheck(Held held) {
+		try (ReadView view = held.view()) {
+			Check.equal(held.books(), view.books().toList(), () -> "버전 " + view.version() + " 뷰의 도서를 다시 읽음");
+			Check.equal(held.rentals(), view.rentals().toList(), () -> "버전 " + view.version() + " 뷰의 대여를 다시 읽음");
+			for (RentalVersion rental : held.rentals()) {
+				Check.equal(rental, view.rental(rental.id()).orElse(null), () -> "다시 읽은 대여 " + rental.id());
+			}
+		}
+	}
+
+	private static Map<Long, Integer> rentedCounts(List<RentalVersion> rentals) {
+		Map<Long, Integer> rented = new HashMap<>();
+		rentals.stream().filter(RentalVersion::isOpen).forEach(r -> rented.merge(r.bookId(), 1, Integer::sum));
+		return rented;
+	}
+
+	// after 위치부터 찾은 value의 첫 위치 (없으면 -1)
+	private static <T> int position(List<T> values, T value, int after) {
+		for (int i = after; i < values.size(); i++) {
+			if (Objects.equals(values.get(i), value)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean contains(long[] ids, long id) {
+		for (long e : ids) {
+			if (e == id) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,22 @@
+@echo off
+chcp 65001
+rem 무작위 대조 검사 - 외부 라이브러리 없이 main으로 실행 (실패하면 시드를 출력하고 종료 코드 1)
+rem 사용 예: test.bat (같은 입력 재현: java -cp bin-test <검사 클래스> <seed>)
+if not exist bin-test mkdir bin-test
+dir /s /b bookrental\src\*.java bookrental\test\*.java > test-sources.txt
+javac -d bin-test -encoding UTF-8 @test-sources.txt || goto fail
+for %%c in (
+	io.github.bookrentalteam.bookrental.search.FuzzyIndexTest
+	io.github.bookrentalteam.bookrental.analytics.CirculationStatsTest
+	io.github.bookrentalteam.bookrental.repository.journal.JournalStoreTest
+	io.github.bookrentalteam.bookrental.event.EventBusTest
+	io.github.bookrentalteam.bookrental.snapshot.SnapshotStoreTest
+	io.github.bookrentalteam.bookrental.cache.WTinyLfuCacheTest
+) do java -ea -cp bin-test %%c || goto fail
+echo 모든 검사 통과
+pause
+exit /b 0
+
+:fail
+pause
+exit /b 1